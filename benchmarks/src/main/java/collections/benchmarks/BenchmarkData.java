@@ -0,0 +1,59 @@
+package collections.benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+final class BenchmarkData {
+    /**
+     * Зерно генератора, чтобы все бенчмарки работали с одинаковыми данными
+     * */
+    static final long SEED = 0x5DEECE66DL;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Получение массива случайных значений
+     * @param size Количество значений
+     * @return Массив случайных значений в диапазоне [0, size * 4)
+     * */
+    static int[] randomValues(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] values = new int[size];
+        int bound = Math.max(size * 4, 16);
+
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(bound);
+        }
+        return values;
+    }
+
+    /**
+     * Упаковка значений в {@link ArrayList}
+     * @param values Исходные значения
+     * @return Новый список упакованных значений
+     * */
+    static ArrayList<Integer> toList(int[] values) {
+        ArrayList<Integer> list = new ArrayList<>(values.length);
+
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    /**
+     * Упаковка значений в {@link ArrayDeque}
+     * @param values Исходные значения
+     * @return Новая двусторонняя очередь упакованных значений
+     * */
+    static ArrayDeque<Integer> toDeque(int[] values) {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(values.length + 1);
+
+        for (int value : values) {
+            deque.addLast(value);
+        }
+        return deque;
+    }
+}
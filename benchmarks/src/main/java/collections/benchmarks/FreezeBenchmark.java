@@ -0,0 +1,130 @@
+package collections.benchmarks;
+
+import collections.FrozenIntArray;
+import collections.IntArray;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Чтение сжатой копии {@link FrozenIntArray} против исходного {@link IntArray}:
+ * доступ по случайному индексу, поиск значения и сложение всех элементов.
+ * Значения - возрастающие идентификаторы с небольшими случайными промежутками (sorted)
+ * или с небольшими отступлениями от порядка (nearSorted). Размер сжатой копии и степень сжатия
+ * выводятся дополнительными счётчиками (@AuxCounters) в результатах замеров сжатой копии
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class FreezeBenchmark {
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"sorted", "nearSorted"})
+    public String order;
+
+    private int[] indexes;
+    private int next;
+    private IntArray array;
+    private FrozenIntArray frozen;
+
+    /**
+     * Размер сжатой копии (в байтах) и степень сжатия - дополнительные счётчики результатов
+     * */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Compression {
+        public long compressedBytes;
+        public double compressionRatio;
+
+        /**
+         * Счётчики обнуляются перед каждой итерацией, а в итоговом результате складываются по итерациям,
+         * поэтому заполняются один раз - после последней итерации
+         * */
+        @TearDown(Level.Trial)
+        public void record(FreezeBenchmark benchmark) {
+            compressedBytes = benchmark.frozen.getCompressedSize();
+            compressionRatio = benchmark.frozen.getCompressionRatio();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] noise = BenchmarkData.randomValues(size);
+        array = new IntArray(size);
+        int value = 0;
+
+        for (int i = 0; i < size; i++) {
+            int step = Math.floorMod(noise[i], 16);
+            value += order.equals("sorted") ? step + 1 : step - 4;
+            array.add(value);
+        }
+        frozen = array.freeze();
+        indexes = BenchmarkData.randomValues(1 << 12);
+
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = Math.floorMod(indexes[i], size);
+        }
+    }
+
+    /**
+     * Следующий случайный индекс
+     * */
+    private int nextIndex() {
+        int index = indexes[next];
+        next = (next + 1) & (indexes.length - 1);
+        return index;
+    }
+
+
+    // GET - доступ по индексу
+    @Benchmark
+    public int intArrayGet() {
+        return array.getElement(nextIndex());
+    }
+
+    @Benchmark
+    public int frozenGet(Compression compression) {
+        return frozen.getElement(nextIndex());
+    }
+
+
+    // SEARCH - поиск значения
+    @Benchmark
+    public boolean intArrayContains() {
+        return array.contains(array.getElement(nextIndex()) + 1);
+    }
+
+    @Benchmark
+    public boolean frozenContains(Compression compression) {
+        return frozen.contains(array.getElement(nextIndex()) + 1);
+    }
+
+
+    // SUM - сложение элементов
+    @Benchmark
+    public long intArraySum() {
+        return array.getStatistics().getSum();
+    }
+
+    @Benchmark
+    public long frozenSum(Compression compression) {
+        return frozen.sum();
+    }
+}
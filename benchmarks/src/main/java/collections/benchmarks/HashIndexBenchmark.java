@@ -0,0 +1,85 @@
+package collections.benchmarks;
+
+import collections.IntQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск значений в изменяющейся {@link IntQueue} с хеш-индексом значений и без него:
+ * каждая операция сдвигает окно на одно значение (удаление из начала, добавление в конец)
+ * и выполняет поиск значения методами contains, indexOf и findCount.
+ * Значения выбираются из небольшого диапазона, чтобы примерно половина поисков находила элемент
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class HashIndexBenchmark {
+    @Param({"1000", "100000"})
+    public int window;
+
+    private int[] samples;
+    private int next;
+    private IntQueue queue;
+    private IntQueue indexedQueue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        samples = BenchmarkData.randomValues(1 << 20);
+
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = Math.floorMod(samples[i], window * 2);
+        }
+        queue = new IntQueue(window);
+        indexedQueue = new IntQueue(window);
+
+        for (int i = 0; i < window; i++) {
+            queue.addLast(samples[i]);
+            indexedQueue.addLast(samples[i]);
+        }
+        indexedQueue.setHashIndexing(true);
+        next = window;
+    }
+
+    /**
+     * Следующее значение потока
+     * */
+    private int nextSample() {
+        int sample = samples[next];
+        next = (next + 1) & (samples.length - 1);
+        return sample;
+    }
+
+
+    // SLIDE - сдвиг окна и поиск значения
+    @Benchmark
+    public long scan() {
+        queue.removeFirst();
+        queue.addLast(nextSample());
+        int probe = nextSample();
+        return (queue.contains(probe) ? 1 : 0) + queue.indexOfOrDefault(probe, -1) + queue.findCount(probe);
+    }
+
+    @Benchmark
+    public long hashIndex() {
+        indexedQueue.removeFirst();
+        indexedQueue.addLast(nextSample());
+        int probe = nextSample();
+        return (indexedQueue.contains(probe) ? 1 : 0) + indexedQueue.indexOfOrDefault(probe, -1)
+                + indexedQueue.findCount(probe);
+    }
+}
@@ -0,0 +1,340 @@
+package collections.benchmarks;
+
+import collections.IntArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки операций {@link IntArray} в сравнении с int[] и {@link ArrayList}
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class IntArrayBenchmark {
+    @Param({"16", "10000", "10000000"})
+    public int size;
+
+    /**
+     * Значение, отсутствующее в данных (поиск проходит весь массив)
+     * */
+    private static final int ABSENT = -1;
+
+    private int[] values;
+    private int[] array;
+    private IntArray intArray;
+    private ArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = BenchmarkData.randomValues(size);
+        array = values.clone();
+        intArray = new IntArray(size, values);
+        list = BenchmarkData.toList(values);
+    }
+
+
+    // ADD - добавление данных
+    @Benchmark
+    public IntArray intArrayAdd() {
+        IntArray result = new IntArray(size);
+
+        for (int value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntArray intArrayOffer() {
+        IntArray result = new IntArray(size);
+
+        for (int value : values) {
+            result.offer(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int[] arrayAdd() {
+        int[] result = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayListAdd() {
+        ArrayList<Integer> result = new ArrayList<>(size);
+
+        for (int value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+
+    // REMOVE - удаление данных из середины (с возвратом значения в конец)
+    @Benchmark
+    public int intArrayRemove() {
+        int value = intArray.remove(size / 2);
+        intArray.add(value);
+        return value;
+    }
+
+    @Benchmark
+    public int arrayRemove() {
+        int index = size / 2;
+        int value = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        array[size - 1] = value;
+        return value;
+    }
+
+    @Benchmark
+    public Integer arrayListRemove() {
+        Integer value = list.remove(size / 2);
+        list.add(value);
+        return value;
+    }
+
+
+    // MIN / MAX
+    @Benchmark
+    public Integer intArrayGetMin() {
+        return intArray.getMin();
+    }
+
+    @Benchmark
+    public Integer intArrayGetMax() {
+        return intArray.getMax();
+    }
+
+    @Benchmark
+    public int arrayGetMin() {
+        int min = Integer.MAX_VALUE;
+
+        for (int value : array) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    @Benchmark
+    public int arrayGetMax() {
+        int max = Integer.MIN_VALUE;
+
+        for (int value : array) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    @Benchmark
+    public Integer arrayListGetMin() {
+        return Collections.min(list);
+    }
+
+    @Benchmark
+    public Integer arrayListGetMax() {
+        return Collections.max(list);
+    }
+
+
+    // SUM - сложение данных
+    @Benchmark
+    public Integer intArraySum() {
+        return intArray.sum();
+    }
+
+    @Benchmark
+    public int arraySum() {
+        int sum = 0;
+
+        for (int value : array) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int arrayListSum() {
+        int sum = 0;
+
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+
+    // CONTAINS / INDEX_OF - поиск данных (отсутствующее значение, полный проход)
+    @Benchmark
+    public boolean intArrayContains() {
+        return intArray.contains(ABSENT);
+    }
+
+    @Benchmark
+    public Integer intArrayIndexOf() {
+        return intArray.indexOf(ABSENT);
+    }
+
+    @Benchmark
+    public int arrayIndexOf() {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == ABSENT) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public boolean arrayListContains() {
+        return list.contains(ABSENT);
+    }
+
+    @Benchmark
+    public int arrayListIndexOf() {
+        return list.indexOf(ABSENT);
+    }
+
+
+    // SORT - сортировка копии исходных данных
+    @Benchmark
+    public IntArray intArraySort() {
+        IntArray result = new IntArray(size, values);
+        result.sort();
+        return result;
+    }
+
+    @Benchmark
+    public int[] arraySort() {
+        int[] result = values.clone();
+        Arrays.sort(result);
+        return result;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayListSort() {
+        ArrayList<Integer> result = new ArrayList<>(list);
+        Collections.sort(result);
+        return result;
+    }
+
+
+    // PARALLEL - параллельная обработка данных (ниже порога выполняется в вызывающем потоке)
+    @Benchmark
+    public Integer intArrayParallelSum() {
+        return intArray.parallelSum();
+    }
+
+    @Benchmark
+    public Integer intArrayParallelGetMin() {
+        return intArray.parallelGetMin();
+    }
+
+    @Benchmark
+    public Integer intArrayParallelFindCount() {
+        return intArray.parallelFindCount(ABSENT);
+    }
+
+    @Benchmark
+    public Integer intArrayParallelIndexOf() {
+        return intArray.parallelIndexOf(ABSENT);
+    }
+
+    @Benchmark
+    public IntArray intArrayParallelSort() {
+        IntArray result = new IntArray(size, values);
+        result.parallelSort();
+        return result;
+    }
+
+    @Benchmark
+    public int[] arrayParallelSort() {
+        int[] result = values.clone();
+        Arrays.parallelSort(result);
+        return result;
+    }
+
+
+    // GET_COLLECTION - копирование данных
+    @Benchmark
+    public int[] intArrayGetCollection() {
+        return intArray.getCollection();
+    }
+
+    @Benchmark
+    public int[] intArrayGetCollectionFrom() {
+        return intArray.getCollection(size / 2);
+    }
+
+    @Benchmark
+    public int[] intArrayGetCollectionRange() {
+        return intArray.getCollection(size / 4, size * 3 / 4);
+    }
+
+    @Benchmark
+    public int[] arrayCopy() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Benchmark
+    public int[] arrayCopyRange() {
+        return Arrays.copyOfRange(array, size / 4, size * 3 / 4 + 1);
+    }
+
+    @Benchmark
+    public Object[] arrayListToArray() {
+        return list.toArray();
+    }
+
+
+    // JOIN - строковое преобразование данных
+    @Benchmark
+    public String intArrayJoin() {
+        return intArray.join(",");
+    }
+
+    @Benchmark
+    public String arrayJoin() {
+        StringBuilder result = new StringBuilder();
+        result.append(array[0]);
+
+        for (int i = 1; i < size; i++) {
+            result.append(',').append(array[i]);
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    public String arrayListJoin() {
+        StringJoiner result = new StringJoiner(",");
+
+        for (Integer value : list) {
+            result.add(String.valueOf(value));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,147 @@
+package collections.benchmarks;
+
+import collections.IntDeque;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки операций {@link IntDeque} в сравнении с кольцевым int[] и {@link ArrayDeque}.
+ * Двусторонняя очередь заполнена на size элементов и имеет одно свободное место
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class IntDequeBenchmark {
+    @Param({"16", "10000", "10000000"})
+    public int size;
+
+    private int[] ring;
+    private int head;
+    private int tail;
+    private IntDeque intDeque;
+    private ArrayDeque<Integer> deque;
+    private int value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = BenchmarkData.randomValues(size);
+        ring = new int[size + 1];
+        System.arraycopy(values, 0, ring, 0, size);
+        head = 0;
+        tail = size - 1;
+        intDeque = new IntDeque(size + 1, values);
+        deque = BenchmarkData.toDeque(values);
+        value = values[size / 2] + size;
+    }
+
+
+    // ADD_FIRST / POLL_LAST
+    @Benchmark
+    public Integer intDequeAddFirstPollLast() {
+        intDeque.addFirst(value);
+        return intDeque.pollLast();
+    }
+
+    @Benchmark
+    public int ringAddFirstPollLast() {
+        head = (head == 0) ? ring.length - 1 : head - 1;
+        ring[head] = value;
+        int result = ring[tail];
+        tail = (tail == 0) ? ring.length - 1 : tail - 1;
+        return result;
+    }
+
+    @Benchmark
+    public Integer arrayDequeAddFirstPollLast() {
+        deque.addFirst(value);
+        return deque.pollLast();
+    }
+
+
+    // ADD_LAST / REMOVE_FIRST
+    @Benchmark
+    public int intDequeAddLastRemoveFirst() {
+        intDeque.addLast(value);
+        return intDeque.removeFirst();
+    }
+
+    @Benchmark
+    public Integer arrayDequeAddLastRemoveFirst() {
+        deque.addLast(value);
+        return deque.removeFirst();
+    }
+
+
+    // ADD_FIRST / REMOVE_FIRST
+    @Benchmark
+    public int intDequeAddRemoveFirst() {
+        intDeque.addFirst(value);
+        return intDeque.removeFirst();
+    }
+
+    @Benchmark
+    public Integer arrayDequeAddRemoveFirst() {
+        deque.addFirst(value);
+        return deque.removeFirst();
+    }
+
+
+    // MIN / MAX / SUM
+    @Benchmark
+    public Integer intDequeGetMin() {
+        return intDeque.getMin();
+    }
+
+    @Benchmark
+    public Integer intDequeGetMax() {
+        return intDeque.getMax();
+    }
+
+    @Benchmark
+    public Integer intDequeSum() {
+        return intDeque.sum();
+    }
+
+    @Benchmark
+    public int arrayDequeSum() {
+        int sum = 0;
+
+        for (Integer item : deque) {
+            sum += item;
+        }
+        return sum;
+    }
+
+
+    // GET_COLLECTION / JOIN
+    @Benchmark
+    public int[] intDequeGetCollection() {
+        return intDeque.getCollection();
+    }
+
+    @Benchmark
+    public Object[] arrayDequeToArray() {
+        return deque.toArray();
+    }
+
+    @Benchmark
+    public String intDequeJoin() {
+        return intDeque.join(",");
+    }
+}
@@ -0,0 +1,196 @@
+package collections.benchmarks;
+
+import collections.IntQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки операций {@link IntQueue} в сравнении с кольцевым int[] и {@link ArrayDeque}.
+ * Перед замерами очередь прокручивается на половину вместимости,
+ * чтобы её элементы переходили через конец внутреннего массива
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class IntQueueBenchmark {
+    /**
+     * Размер пакета пакетных операций
+     * */
+    private static final int BATCH = 64;
+
+    @Param({"16", "10000", "10000000"})
+    public int size;
+
+    private int[] ring;
+    private int head;
+    private int tail;
+    private IntQueue queue;
+    private ArrayDeque<Integer> deque;
+    private int value;
+    private int[] packet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = BenchmarkData.randomValues(size);
+        ring = new int[size + 1];
+        System.arraycopy(values, 0, ring, 0, size);
+        head = 0;
+        tail = size;
+        queue = new IntQueue(size + 1, values);
+        deque = BenchmarkData.toDeque(values);
+        value = values[size / 2] + size;
+        packet = new int[Math.min(BATCH, size)];
+
+        for (int i = 0; i < size / 2; i++) {
+            queue.addLast(queue.removeFirst());
+            deque.addLast(deque.removeFirst());
+            ringOfferPoll();
+        }
+    }
+
+
+    // ADD_LAST / REMOVE_FIRST
+    @Benchmark
+    public int intQueueAddRemove() {
+        queue.addLast(value);
+        return queue.removeFirst();
+    }
+
+    @Benchmark
+    public Integer intQueueOfferPoll() {
+        queue.offer(value);
+        return queue.pollFirst();
+    }
+
+    @Benchmark
+    public int ringOfferPoll() {
+        ring[tail] = value;
+        tail = (tail + 1 == ring.length) ? 0 : tail + 1;
+        int result = ring[head];
+        head = (head + 1 == ring.length) ? 0 : head + 1;
+        return result;
+    }
+
+    @Benchmark
+    public Integer arrayDequeOfferPoll() {
+        deque.offerLast(value);
+        return deque.pollFirst();
+    }
+
+
+    // PEEK_FIRST
+    @Benchmark
+    public Integer intQueuePeekFirst() {
+        return queue.peekFirst();
+    }
+
+    @Benchmark
+    public Integer arrayDequePeekFirst() {
+        return deque.peekFirst();
+    }
+
+
+    // MIN / MAX / SUM
+    @Benchmark
+    public Integer intQueueGetMin() {
+        return queue.getMin();
+    }
+
+    @Benchmark
+    public Integer intQueueGetMax() {
+        return queue.getMax();
+    }
+
+    @Benchmark
+    public Integer intQueueSum() {
+        return queue.sum();
+    }
+
+    @Benchmark
+    public int arrayDequeSum() {
+        int sum = 0;
+
+        for (Integer item : deque) {
+            sum += item;
+        }
+        return sum;
+    }
+
+
+    // CONTAINS
+    @Benchmark
+    public boolean intQueueContains() {
+        return queue.contains(-1);
+    }
+
+    @Benchmark
+    public boolean arrayDequeContains() {
+        return deque.contains(-1);
+    }
+
+
+    // GET_COLLECTION / JOIN
+    @Benchmark
+    public int[] intQueueGetCollection() {
+        return queue.getCollection();
+    }
+
+    @Benchmark
+    public Object[] arrayDequeToArray() {
+        return deque.toArray();
+    }
+
+    @Benchmark
+    public String intQueueJoin() {
+        return queue.join(",");
+    }
+
+
+    // DRAIN_TO / ADD_ALL - пакет элементов переносится из начала очереди в её конец
+    @Benchmark
+    public int[] intQueueDrainAddAll() {
+        int count = queue.drainTo(packet);
+        queue.addAll(packet, 0, count);
+        return packet;
+    }
+
+    @Benchmark
+    public int[] intQueuePollAddLoop() {
+        for (int i = 0; i < packet.length; i++) {
+            packet[i] = queue.removeFirst();
+        }
+
+        for (int item : packet) {
+            queue.addLast(item);
+        }
+        return packet;
+    }
+
+    @Benchmark
+    public int[] arrayDequePollAddLoop() {
+        for (int i = 0; i < packet.length; i++) {
+            packet[i] = deque.pollFirst();
+        }
+
+        for (int item : packet) {
+            deque.addLast(item);
+        }
+        return packet;
+    }
+}
@@ -0,0 +1,127 @@
+package collections.benchmarks;
+
+import collections.GrowthPolicy;
+import collections.IntStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки операций {@link IntStack} в сравнении с int[], {@link ArrayDeque} и {@link ArrayList}.
+ * Стек заполнен на size элементов и имеет одно свободное место,
+ * каждая операция добавляет элемент на верхушку и сразу снимает его
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class IntStackBenchmark {
+    @Param({"16", "10000", "10000000"})
+    public int size;
+
+    private int[] array;
+    private int top;
+    private IntStack stack;
+    private ArrayDeque<Integer> deque;
+    private ArrayList<Integer> list;
+    private int value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = BenchmarkData.randomValues(size);
+        array = new int[size + 1];
+        System.arraycopy(values, 0, array, 0, size);
+        top = size - 1;
+        stack = new IntStack(size + 1, values);
+        deque = BenchmarkData.toDeque(values);
+        list = BenchmarkData.toList(values);
+        value = values[size / 2] + size;
+    }
+
+
+    // ADD_LAST / REMOVE_LAST
+    @Benchmark
+    public int intStackAddRemoveLast() {
+        stack.addLast(value);
+        return stack.removeLast();
+    }
+
+    @Benchmark
+    public Integer intStackOfferPollLast() {
+        stack.offerLast(value);
+        return stack.pollLast();
+    }
+
+    @Benchmark
+    public int arrayPushPop() {
+        array[++top] = value;
+        return array[top--];
+    }
+
+    @Benchmark
+    public Integer arrayDequePushPop() {
+        deque.addLast(value);
+        return deque.pollLast();
+    }
+
+    @Benchmark
+    public Integer arrayListPushPop() {
+        list.add(value);
+        return list.remove(list.size() - 1);
+    }
+
+
+    // GET_LAST / PEEK_LAST
+    @Benchmark
+    public int intStackGetLast() {
+        return stack.getLast();
+    }
+
+    @Benchmark
+    public Integer intStackPeekLast() {
+        return stack.peekLast();
+    }
+
+    @Benchmark
+    public Integer arrayDequePeekLast() {
+        return deque.peekLast();
+    }
+
+
+    // GROWTH - заполнение пустой коллекции с увеличением вместимости
+    @Benchmark
+    public IntStack intStackGrowGeometric() {
+        IntStack result = new IntStack(0);
+        result.setGrowthPolicy(GrowthPolicy.geometric(1.5));
+
+        for (int i = 0; i < size; i++) {
+            result.addLast(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayListGrow() {
+        ArrayList<Integer> result = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+}
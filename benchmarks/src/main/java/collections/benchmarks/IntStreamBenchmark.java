@@ -0,0 +1,79 @@
+package collections.benchmarks;
+
+import collections.IntQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Потоки {@link java.util.stream.IntStream} по элементам {@link IntQueue}, внутренний массив которой разделён
+ * на два участка. Потоки intStream и parallelIntStream читают внутренний массив напрямую,
+ * потоки copy и parallelCopy - копию элементов getCollection
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class IntStreamBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private IntQueue queue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = BenchmarkData.randomValues(size);
+        queue = new IntQueue(size);
+
+        // сдвиг начала очереди в середину внутреннего массива
+        for (int i = 0; i < size / 2; i++) {
+            queue.addLast(0);
+        }
+
+        for (int i = 0; i < size / 2; i++) {
+            queue.removeFirst();
+        }
+
+        for (int value : values) {
+            queue.addLast(value);
+        }
+    }
+
+
+    // SEQUENTIAL - последовательные потоки
+    @Benchmark
+    public long intStream() {
+        return queue.intStream().filter(value -> (value & 1) == 0).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long copy() {
+        return Arrays.stream(queue.getCollection()).filter(value -> (value & 1) == 0).asLongStream().sum();
+    }
+
+
+    // PARALLEL - параллельные потоки
+    @Benchmark
+    public long parallelIntStream() {
+        return queue.parallelIntStream().filter(value -> (value & 1) == 0).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long parallelCopy() {
+        return Arrays.stream(queue.getCollection()).parallel().filter(value -> (value & 1) == 0).asLongStream().sum();
+    }
+}
@@ -0,0 +1,124 @@
+package collections.benchmarks;
+
+import collections.IntCursor;
+import collections.IntQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Обход элементов {@link IntQueue}, внутренний массив которой разделён на два участка.
+ * Сравниваются forEach, итератор и повторно используемый курсор с обходом через peek (упаковка значений)
+ * и через копию getCollection. С профилировщиком -prof gc значение gc.alloc.rate.norm показывает память на обход:
+ * для forEach и курсора оно не зависит от количества элементов
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class IterationBenchmark {
+    @Param({"16", "10000", "1000000"})
+    public int size;
+
+    private IntQueue queue;
+    private IntCursor cursor;
+    private final Sum sum = new Sum();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = BenchmarkData.randomValues(size);
+        queue = new IntQueue(size);
+
+        // сдвиг начала очереди в середину внутреннего массива
+        for (int i = 0; i < size / 2; i++) {
+            queue.addLast(0);
+        }
+
+        for (int i = 0; i < size / 2; i++) {
+            queue.removeFirst();
+        }
+
+        for (int value : values) {
+            queue.addLast(value);
+        }
+        cursor = queue.cursor();
+    }
+
+    /**
+     * Накопление суммы значений без создания объектов на каждый обход
+     * */
+    private static final class Sum implements IntConsumer {
+        long value;
+
+        @Override
+        public void accept(int item) {
+            value += item;
+        }
+    }
+
+
+    // ITERATION - обход элементов
+    @Benchmark
+    public long forEach() {
+        sum.value = 0;
+        queue.forEach(sum);
+        return sum.value;
+    }
+
+    @Benchmark
+    public long cursor() {
+        cursor.reset();
+        long result = 0;
+
+        while (cursor.hasNext()) {
+            result += cursor.nextInt();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long iterator() {
+        PrimitiveIterator.OfInt iterator = queue.iterator();
+        long result = 0;
+
+        while (iterator.hasNext()) {
+            result += iterator.nextInt();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long peek() {
+        long result = 0;
+
+        for (int i = 0; i < size; i++) {
+            result += queue.peek(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long getCollection() {
+        long result = 0;
+
+        for (int value : queue.getCollection()) {
+            result += value;
+        }
+        return result;
+    }
+}
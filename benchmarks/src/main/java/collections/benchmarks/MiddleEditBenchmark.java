@@ -0,0 +1,92 @@
+package collections.benchmarks;
+
+import collections.IntDeque;
+import collections.IntQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Удаление элемента по позиции и вставка его обратно в ту же позицию для {@link IntQueue} и {@link IntDeque}
+ * (сдвигается более короткая сторона кольцевого массива) против {@link ArrayList} (всегда сдвигается хвост).
+ * Очереди заполнены с переходом через конец внутреннего массива.
+ * Позиция задаётся долей размера: 0.1 - около начала, 0.5 - середина, 0.9 - около конца
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class MiddleEditBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"0.1", "0.5", "0.9"})
+    public double position;
+
+    private int index;
+    private IntQueue queue;
+    private IntDeque deque;
+    private ArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = BenchmarkData.randomValues(size);
+        index = (int) (size * position);
+        queue = new IntQueue(size);
+        deque = new IntDeque(size);
+        list = new ArrayList<>(size + 1);
+
+        for (int i = 0; i < size / 2; i++) {
+            queue.addLast(0);
+            deque.addLast(0);
+        }
+
+        for (int i = 0; i < size / 2; i++) {
+            queue.removeFirst();
+            deque.removeFirst();
+        }
+
+        for (int value : values) {
+            queue.addLast(value);
+            deque.addLast(value);
+            list.add(value);
+        }
+    }
+
+
+    // EDIT - удаление и вставка по позиции
+    @Benchmark
+    public int intQueue() {
+        int value = queue.remove(index);
+        queue.insert(index, value);
+        return value;
+    }
+
+    @Benchmark
+    public int intDeque() {
+        int value = deque.remove(index);
+        deque.insert(index, value);
+        return value;
+    }
+
+    @Benchmark
+    public int arrayList() {
+        Integer value = list.remove(index);
+        list.add(index, value);
+        return value;
+    }
+}
@@ -0,0 +1,99 @@
+package collections.benchmarks;
+
+import collections.IntMpmcQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность {@link IntMpmcQueue} под конкуренцией потоков в сравнении с
+ * {@link ArrayBlockingQueue} и {@link ConcurrentLinkedQueue}.
+ * Каждый поток добавляет значение и сразу забирает одно значение из общей очереди.
+ * Количество потоков задаётся вложенными классами (Threads1 ... Threads64),
+ * например: MpmcQueueBenchmark.Threads16
+ * */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public abstract class MpmcQueueBenchmark {
+    @Param({"1024"})
+    public int capacity;
+
+    private IntMpmcQueue mpmcQueue;
+    private ArrayBlockingQueue<Integer> arrayBlockingQueue;
+    private ConcurrentLinkedQueue<Integer> concurrentLinkedQueue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        mpmcQueue = new IntMpmcQueue(capacity);
+        arrayBlockingQueue = new ArrayBlockingQueue<>(capacity);
+        concurrentLinkedQueue = new ConcurrentLinkedQueue<>();
+    }
+
+
+    // OFFER / POLL - добавление и удаление под конкуренцией
+    @Benchmark
+    public int intMpmcQueueOfferPoll() {
+        mpmcQueue.offer(capacity);
+        return mpmcQueue.pollOrDefault(-1);
+    }
+
+    @Benchmark
+    public Integer arrayBlockingQueueOfferPoll() {
+        arrayBlockingQueue.offer(capacity);
+        return arrayBlockingQueue.poll();
+    }
+
+    @Benchmark
+    public Integer concurrentLinkedQueueOfferPoll() {
+        concurrentLinkedQueue.offer(capacity);
+        return concurrentLinkedQueue.poll();
+    }
+
+
+    // THREADS - количество конкурирующих потоков
+    @Threads(1)
+    public static class Threads1 extends MpmcQueueBenchmark {
+    }
+
+    @Threads(2)
+    public static class Threads2 extends MpmcQueueBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends MpmcQueueBenchmark {
+    }
+
+    @Threads(8)
+    public static class Threads8 extends MpmcQueueBenchmark {
+    }
+
+    @Threads(16)
+    public static class Threads16 extends MpmcQueueBenchmark {
+    }
+
+    @Threads(32)
+    public static class Threads32 extends MpmcQueueBenchmark {
+    }
+
+    @Threads(64)
+    public static class Threads64 extends MpmcQueueBenchmark {
+    }
+}
@@ -0,0 +1,212 @@
+package collections.benchmarks;
+
+import collections.IntArray;
+import collections.IntDeque;
+import collections.IntQueue;
+import collections.IntStack;
+import collections.MappedIntArray;
+import collections.OffHeapIntArray;
+import collections.OffHeapIntDeque;
+import collections.OffHeapIntQueue;
+import collections.OffHeapIntStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки коллекций вне кучи ({@link OffHeapIntArray} и наследники, {@link MappedIntArray})
+ * в сравнении с коллекциями в куче. Очереди прокручиваются на половину вместимости, чтобы их элементы переходили через конец буфера
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class OffHeapBenchmark {
+    @Param({"16", "10000", "10000000"})
+    public int size;
+
+    /**
+     * Значение, отсутствующее в данных (поиск проходит всю коллекцию)
+     * */
+    private static final int ABSENT = -1;
+
+    private IntArray intArray;
+    private OffHeapIntArray offHeapArray;
+    private IntStack intStack;
+    private OffHeapIntStack offHeapStack;
+    private IntQueue intQueue;
+    private OffHeapIntQueue offHeapQueue;
+    private IntDeque intDeque;
+    private OffHeapIntDeque offHeapDeque;
+    private Path mappedFile;
+    private MappedIntArray mappedArray;
+    private int value;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int[] values = BenchmarkData.randomValues(size);
+        intArray = new IntArray(size, values);
+        offHeapArray = new OffHeapIntArray(size, values);
+        intStack = new IntStack(size + 1, values);
+        offHeapStack = new OffHeapIntStack(size + 1, values);
+        intQueue = new IntQueue(size + 1, values);
+        offHeapQueue = new OffHeapIntQueue(size + 1, values);
+        intDeque = new IntDeque(size + 1, values);
+        offHeapDeque = new OffHeapIntDeque(size + 1, values);
+        value = values[size / 2] + size;
+
+        mappedFile = Files.createTempFile("int-array", ".bin");
+        Files.delete(mappedFile);
+        mappedArray = new MappedIntArray(mappedFile, size);
+
+        for (int item : values) {
+            mappedArray.add(item);
+        }
+        mappedArray.force();
+
+        for (int i = 0; i < size / 2; i++) {
+            intQueue.addLast(intQueue.removeFirst());
+            offHeapQueue.addLast(offHeapQueue.removeFirst());
+            intDeque.addLast(intDeque.removeFirst());
+            offHeapDeque.addLast(offHeapDeque.removeFirst());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        offHeapArray.close();
+        offHeapStack.close();
+        offHeapQueue.close();
+        offHeapDeque.close();
+        mappedArray.close();
+        Files.deleteIfExists(mappedFile);
+    }
+
+
+    // SCAN - полный проход по элементам
+    @Benchmark
+    public Integer intArraySum() {
+        return intArray.sum();
+    }
+
+    @Benchmark
+    public Integer offHeapArraySum() {
+        return offHeapArray.sum();
+    }
+
+    @Benchmark
+    public Integer mappedArraySum() {
+        return mappedArray.sum();
+    }
+
+    @Benchmark
+    public Integer intArrayIndexOf() {
+        return intArray.indexOf(ABSENT);
+    }
+
+    @Benchmark
+    public Integer offHeapArrayIndexOf() {
+        return offHeapArray.indexOf(ABSENT);
+    }
+
+    @Benchmark
+    public Integer intQueueGetMin() {
+        return intQueue.getMin();
+    }
+
+    @Benchmark
+    public Integer offHeapQueueGetMin() {
+        return offHeapQueue.getMin();
+    }
+
+
+    // ACCESS - доступ по индексу
+    @Benchmark
+    public int intArrayGetElement() {
+        return intArray.getElement(size / 2);
+    }
+
+    @Benchmark
+    public int offHeapArrayGetElement() {
+        return offHeapArray.getElement(size / 2);
+    }
+
+
+    // STACK - добавление и удаление на верхушке стека
+    @Benchmark
+    public int intStackAddRemoveLast() {
+        intStack.addLast(value);
+        return intStack.removeLast();
+    }
+
+    @Benchmark
+    public int offHeapStackAddRemoveLast() {
+        offHeapStack.addLast(value);
+        return offHeapStack.removeLast();
+    }
+
+
+    // QUEUE - добавление в конец и удаление из начала
+    @Benchmark
+    public int intQueueAddRemove() {
+        intQueue.addLast(value);
+        return intQueue.removeFirst();
+    }
+
+    @Benchmark
+    public int offHeapQueueAddRemove() {
+        offHeapQueue.addLast(value);
+        return offHeapQueue.removeFirst();
+    }
+
+
+    // DEQUE - добавление в начало и удаление из конца
+    @Benchmark
+    public int intDequeAddFirstRemoveLast() {
+        intDeque.addFirst(value);
+        return intDeque.removeLast();
+    }
+
+    @Benchmark
+    public int offHeapDequeAddFirstRemoveLast() {
+        offHeapDeque.addFirst(value);
+        return offHeapDeque.removeLast();
+    }
+
+
+    // OPEN - открытие сохранённых данных
+    @Benchmark
+    public int mappedArrayOpen() throws IOException {
+        try (MappedIntArray result = new MappedIntArray(mappedFile, FileChannel.MapMode.READ_ONLY)) {
+            return result.getElement(size / 2);
+        }
+    }
+
+    @Benchmark
+    public IntArray intArrayRebuild() {
+        IntArray result = new IntArray(size);
+
+        for (int i = 0; i < size; i++) {
+            result.add(mappedArray.getElement(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,147 @@
+package collections.benchmarks;
+
+import collections.IntArray;
+import collections.PackedIntArray;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Упакованный массив {@link PackedIntArray} против {@link IntArray} на значениях шириной bitWidth бит:
+ * чтение и запись по случайному индексу, поиск отсутствующего значения и сложение всех элементов.
+ * Занимаемая массивами память выводится дополнительными счётчиками (@AuxCounters) в результатах замеров
+ * упакованного массива
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class PackedIntArrayBenchmark {
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"4", "12", "20"})
+    public int bitWidth;
+
+    private int[] indexes;
+    private int next;
+    /**
+     * Значение в пределах ширины элемента, отсутствующее в массивах
+     * */
+    private int absent;
+    private IntArray array;
+    private PackedIntArray packed;
+
+    /**
+     * Занимаемая массивами память (в байтах) - дополнительные счётчики результатов
+     * */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Memory {
+        public long intArrayBytes;
+        public long packedBytes;
+
+        /**
+         * Счётчики обнуляются перед каждой итерацией, а в итоговом результате складываются по итерациям,
+         * поэтому заполняются один раз - после последней итерации
+         * */
+        @TearDown(Level.Trial)
+        public void record(PackedIntArrayBenchmark benchmark) {
+            intArrayBytes = 16 + 4L * benchmark.size;
+            packedBytes = benchmark.packed.getMemoryUsage();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = BenchmarkData.randomValues(size);
+        absent = (1 << bitWidth) - 1;
+        array = new IntArray(size);
+        packed = new PackedIntArray(size, bitWidth);
+
+        for (int value : values) {
+            value = Math.min(value & absent, absent - 1);
+            array.add(value);
+            packed.add(value);
+        }
+        indexes = BenchmarkData.randomValues(1 << 12);
+
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = Math.floorMod(indexes[i], size);
+        }
+    }
+
+    /**
+     * Следующий случайный индекс
+     * */
+    private int nextIndex() {
+        int index = indexes[next];
+        next = (next + 1) & (indexes.length - 1);
+        return index;
+    }
+
+
+    // GET - чтение по индексу
+    @Benchmark
+    public int intArrayGet() {
+        return array.getElement(nextIndex());
+    }
+
+    @Benchmark
+    public int packedGet(Memory memory) {
+        return packed.getElement(nextIndex());
+    }
+
+
+    // SET - запись по индексу
+    @Benchmark
+    public void intArraySet() {
+        int index = nextIndex();
+        array.setElement(index, index & 7);
+    }
+
+    @Benchmark
+    public void packedSet(Memory memory) {
+        int index = nextIndex();
+        packed.setElement(index, index & 7);
+    }
+
+
+    // SEARCH - поиск отсутствующего значения (полный просмотр)
+    @Benchmark
+    public boolean intArrayContains() {
+        return array.contains(absent);
+    }
+
+    @Benchmark
+    public boolean packedContains(Memory memory) {
+        return packed.contains(absent);
+    }
+
+
+    // SUM - сложение элементов
+    @Benchmark
+    public int intArraySum() {
+        return array.sumOrDefault(0);
+    }
+
+    @Benchmark
+    public int packedSum(Memory memory) {
+        return packed.sumOrDefault(0);
+    }
+}
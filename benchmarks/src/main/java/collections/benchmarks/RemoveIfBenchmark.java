@@ -0,0 +1,78 @@
+package collections.benchmarks;
+
+import collections.IntArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Удаление каждого десятого (по значению) элемента {@link IntArray}: removeIf за один проход
+ * против удаления по одному элементу методом remove(index) со сдвигом всех следующих элементов.
+ * Каждая операция заново заполняет массив, стоимость заполнения одинакова для обоих вариантов
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class RemoveIfBenchmark {
+    @Param({"1000", "10000"})
+    public int size;
+
+    private int[] values;
+    private IntArray array;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = BenchmarkData.randomValues(size);
+        array = new IntArray(size);
+    }
+
+    /**
+     * Заполнение массива исходными значениями
+     * */
+    private void refill() {
+        if (array.getSize() > 0) {
+            array.clear();
+        }
+
+        for (int value : values) {
+            array.add(value);
+        }
+    }
+
+
+    // REMOVE - удаление элементов по условию
+    @Benchmark
+    public int removeIf() {
+        refill();
+        array.removeIf(value -> value % 10 == 0);
+        return array.getSize();
+    }
+
+    @Benchmark
+    public int removeByIndex() {
+        refill();
+
+        for (int i = 0; i < array.getSize(); ) {
+            if (array.getElement(i) % 10 == 0) {
+                array.remove(i);
+            } else {
+                i++;
+            }
+        }
+        return array.getSize();
+    }
+}
@@ -0,0 +1,115 @@
+package collections.benchmarks;
+
+import collections.IntDeque;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Получение значений {@link IntDeque} методами, возвращающими {@link Integer}, и их вариантами OrDefault.
+ * Значения элементов лежат вне кэша {@link Integer#valueOf(int)}, а результат передаётся в метод без встраивания,
+ * поэтому упакованное значение не устраняется компилятором. С профилировщиком -prof gc значение
+ * gc.alloc.rate.norm показывает память на операцию: для вариантов OrDefault оно равно нулю
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class RetrievalBenchmark {
+    private static final int SIZE = 1024;
+    private static final int BASE = 1_000_000;
+
+    private IntDeque deque;
+    private int value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        deque = new IntDeque(SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            deque.addLast(BASE + i);
+        }
+        value = BASE + SIZE / 2;
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static Integer sinkBoxed(Integer result) {
+        return result;
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static int sink(int result) {
+        return result;
+    }
+
+
+    // QUEUE - получение и удаление с концов (удалённое значение возвращается в очередь)
+    @Benchmark
+    public Integer pollFirstBoxed() {
+        Integer result = sinkBoxed(deque.pollFirst());
+        deque.addLast(result);
+        return result;
+    }
+
+    @Benchmark
+    public int pollFirstOrDefault() {
+        int result = sink(deque.pollFirstOrDefault(-1));
+        deque.addLast(result);
+        return result;
+    }
+
+    @Benchmark
+    public Integer peekLastBoxed() {
+        return sinkBoxed(deque.peekLast());
+    }
+
+    @Benchmark
+    public int peekLastOrDefault() {
+        return sink(deque.peekLastOrDefault(-1));
+    }
+
+
+    // SEARCH - поиск и сложение
+    @Benchmark
+    public Integer indexOfBoxed() {
+        return sinkBoxed(deque.indexOf(value));
+    }
+
+    @Benchmark
+    public int indexOfOrDefault() {
+        return sink(deque.indexOfOrDefault(value, -1));
+    }
+
+    @Benchmark
+    public Integer getMaxBoxed() {
+        return sinkBoxed(deque.getMax());
+    }
+
+    @Benchmark
+    public int getMaxOrDefault() {
+        return sink(deque.getMaxOrDefault(-1));
+    }
+
+    @Benchmark
+    public Integer sumBoxed() {
+        return sinkBoxed(deque.sum());
+    }
+
+    @Benchmark
+    public int sumOrDefault() {
+        return sink(deque.sumOrDefault(0));
+    }
+}
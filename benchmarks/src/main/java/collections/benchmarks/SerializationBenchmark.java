@@ -0,0 +1,167 @@
+package collections.benchmarks;
+
+import collections.IntArray;
+import collections.IntQueue;
+import collections.OffHeapIntQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сохранение элементов строкой (join) против двоичной записи writeTo в канал и буфер и чтения readFrom.
+ * Очереди заполнены с переходом элементов через конец внутреннего массива, поэтому запись идёт двумя участками.
+ * Канал копирует записанные байты в прямой буфер, чтобы время записи включало перенос байтов
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class SerializationBenchmark {
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private IntArray array;
+    private IntQueue queue;
+    private OffHeapIntQueue offHeapQueue;
+    private IntArray target;
+    private ByteBuffer buffer;
+    /**
+     * Запись элементов массива для чтения
+     * */
+    private ByteBuffer record;
+    private SinkChannel channel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = BenchmarkData.randomValues(size);
+        array = new IntArray(size);
+        queue = new IntQueue(size);
+        offHeapQueue = new OffHeapIntQueue(size);
+
+        for (int value : values) {
+            array.add(value);
+            queue.addLast(value);
+            offHeapQueue.addLast(value);
+        }
+
+        // сдвиг начала очередей к середине внутреннего массива
+        for (int i = 0; i < size / 2; i++) {
+            queue.addLast(queue.removeFirst());
+            offHeapQueue.addLast(offHeapQueue.removeFirst());
+        }
+        target = new IntArray(size);
+        buffer = ByteBuffer.allocateDirect(8 + size * Integer.BYTES);
+        channel = new SinkChannel(8 + size * Integer.BYTES);
+        record = ByteBuffer.allocateDirect(8 + size * Integer.BYTES);
+        array.writeTo(record);
+        record.flip();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTarget() {
+        if (target.getSize() > 0) {
+            target.clear();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        offHeapQueue.close();
+    }
+
+
+    // WRITE - сохранение элементов
+    @Benchmark
+    public int join() {
+        return array.join(",").length();
+    }
+
+    @Benchmark
+    public int arrayWriteToChannel() throws IOException {
+        channel.reset();
+        array.writeTo(channel);
+        return channel.written();
+    }
+
+    @Benchmark
+    public int queueWriteToChannel() throws IOException {
+        channel.reset();
+        queue.writeTo(channel);
+        return channel.written();
+    }
+
+    @Benchmark
+    public int offHeapQueueWriteToChannel() throws IOException {
+        channel.reset();
+        offHeapQueue.writeTo(channel);
+        return channel.written();
+    }
+
+    @Benchmark
+    public int queueWriteToBuffer() {
+        buffer.clear();
+        queue.writeTo(buffer);
+        return buffer.position();
+    }
+
+
+    // READ - восстановление элементов
+    @Benchmark
+    public int readFromBuffer() {
+        return target.readFrom(record.duplicate());
+    }
+
+
+    // CHANNEL - канал-приёмник
+    /**
+     * Канал, копирующий записанные байты в прямой буфер
+     * */
+    private static final class SinkChannel implements WritableByteChannel {
+        private final ByteBuffer sink;
+
+        SinkChannel(int capacity) {
+            sink = ByteBuffer.allocateDirect(capacity);
+        }
+
+        void reset() {
+            sink.clear();
+        }
+
+        int written() {
+            return sink.position();
+        }
+
+        @Override
+        public int write(ByteBuffer source) {
+            int count = source.remaining();
+            sink.put(source);
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
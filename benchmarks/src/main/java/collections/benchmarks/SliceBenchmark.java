@@ -0,0 +1,86 @@
+package collections.benchmarks;
+
+import collections.IntArray;
+import collections.IntQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сумма и максимум средней половины элементов: представление slice против копии getCollection(start, end).
+ * Для {@link IntQueue} диапазон представления переходит через конец внутреннего массива.
+ * С профилировщиком -prof gc значение gc.alloc.rate.norm показывает память на операцию
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class SliceBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private IntArray array;
+    private IntQueue queue;
+    private int from;
+    private int to;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = BenchmarkData.randomValues(size);
+        array = new IntArray(size, values);
+        queue = new IntQueue(size);
+
+        // сдвиг начала очереди в середину внутреннего массива
+        for (int i = 0; i < size / 2; i++) {
+            queue.addLast(0);
+        }
+
+        for (int i = 0; i < size / 2; i++) {
+            queue.removeFirst();
+        }
+
+        for (int value : values) {
+            queue.addLast(value);
+        }
+        from = size / 4;
+        to = size - size / 4;
+    }
+
+
+    // RANGE - обработка диапазона элементов
+    @Benchmark
+    public long intArraySlice() {
+        return (long) array.slice(from, to).sumOrDefault(0) + array.slice(from, to).getMaxOrDefault(0);
+    }
+
+    @Benchmark
+    public long intArrayCopy() {
+        int[] range = array.getCollection(from, to - 1);
+        long sum = 0;
+        int max = Integer.MIN_VALUE;
+
+        for (int value : range) {
+            sum += value;
+            max = Math.max(max, value);
+        }
+        return (int) sum + max;
+    }
+
+    @Benchmark
+    public long intQueueSlice() {
+        return (long) queue.slice(from, to).sumOrDefault(0) + queue.slice(from, to).getMaxOrDefault(0);
+    }
+}
@@ -0,0 +1,89 @@
+package collections.benchmarks;
+
+import collections.IntDeque;
+import collections.IntQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Скользящие минимум и максимум по окну значений: каждая операция сдвигает окно на одно значение
+ * (добавление в конец, удаление из начала) и запрашивает минимум и максимум окна.
+ * Сравниваются {@link IntQueue} и {@link IntDeque} с отслеживанием минимума и максимума и без него
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class SlidingWindowBenchmark {
+    @Param({"16", "1024", "65536"})
+    public int window;
+
+    private int[] samples;
+    private int next;
+    private IntQueue queue;
+    private IntQueue trackingQueue;
+    private IntDeque trackingDeque;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        samples = BenchmarkData.randomValues(1 << 20);
+        queue = new IntQueue(window);
+        trackingQueue = new IntQueue(window);
+        trackingQueue.setMinMaxTracking(true);
+        trackingDeque = new IntDeque(window);
+        trackingDeque.setMinMaxTracking(true);
+
+        for (int i = 0; i < window; i++) {
+            queue.addLast(samples[i]);
+            trackingQueue.addLast(samples[i]);
+            trackingDeque.addLast(samples[i]);
+        }
+        next = window;
+    }
+
+    /**
+     * Следующее значение потока измерений
+     * */
+    private int nextSample() {
+        int sample = samples[next];
+        next = (next + 1) & (samples.length - 1);
+        return sample;
+    }
+
+
+    // SLIDE - сдвиг окна и запрос минимума и максимума
+    @Benchmark
+    public long intQueueScan() {
+        queue.removeFirst();
+        queue.addLast(nextSample());
+        return (long) queue.getMin() + queue.getMax();
+    }
+
+    @Benchmark
+    public long intQueueTracking() {
+        trackingQueue.removeFirst();
+        trackingQueue.addLast(nextSample());
+        return (long) trackingQueue.getMin() + trackingQueue.getMax();
+    }
+
+    @Benchmark
+    public long intDequeTracking() {
+        trackingDeque.removeFirst();
+        trackingDeque.addLast(nextSample());
+        return (long) trackingDeque.getMin() + trackingDeque.getMax();
+    }
+}
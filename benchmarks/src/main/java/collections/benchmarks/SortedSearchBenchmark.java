@@ -0,0 +1,99 @@
+package collections.benchmarks;
+
+import collections.IntArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск значений в {@link IntArray} с одинаковыми отсортированными элементами:
+ * в упорядоченном режиме (после sort() - деление пополам) и без него (просмотр элементов).
+ * Группа INSERT вставляет значение с сохранением порядка и удаляет его
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class SortedSearchBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private int[] probes;
+    private int next;
+    private IntArray sortedArray;
+    private IntArray scanArray;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = BenchmarkData.randomValues(size);
+        Arrays.sort(values);
+        probes = BenchmarkData.randomValues(1 << 12);
+        sortedArray = new IntArray(size + 1);
+        scanArray = new IntArray(size + 1);
+
+        for (int value : values) {
+            sortedArray.add(value);
+            scanArray.add(value);
+        }
+        sortedArray.sort();
+
+        // каждое второе проверяемое значение присутствует в массиве
+        for (int i = 0; i < probes.length; i += 2) {
+            probes[i] = values[(int) ((long) i * size / probes.length)];
+        }
+    }
+
+    /**
+     * Следующее проверяемое значение
+     * */
+    private int nextProbe() {
+        int probe = probes[next];
+        next = (next + 1) & (probes.length - 1);
+        return probe;
+    }
+
+
+    // SEARCH - поиск значений
+    @Benchmark
+    public boolean containsSorted() {
+        return sortedArray.contains(nextProbe());
+    }
+
+    @Benchmark
+    public boolean containsScan() {
+        return scanArray.contains(nextProbe());
+    }
+
+    @Benchmark
+    public int findCountSorted() {
+        return sortedArray.findCount(nextProbe());
+    }
+
+    @Benchmark
+    public int findCountScan() {
+        return scanArray.findCount(nextProbe());
+    }
+
+
+    // INSERT - вставка с сохранением порядка
+    @Benchmark
+    public int insertSorted() {
+        int index = sortedArray.insertSorted(nextProbe());
+        sortedArray.remove(index);
+        return index;
+    }
+}
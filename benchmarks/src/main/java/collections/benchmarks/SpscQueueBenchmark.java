@@ -0,0 +1,112 @@
+package collections.benchmarks;
+
+import collections.IntQueue;
+import collections.IntSpscQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность передачи значений между двумя потоками: {@link IntSpscQueue}
+ * в сравнении с {@link IntQueue}, защищённой synchronized.
+ * В каждой группе один поток-производитель и один поток-потребитель;
+ * неудачные попытки (очередь заполнена или пуста) тоже считаются операциями
+ * */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Group)
+public class SpscQueueBenchmark {
+    @Param({"1024", "65536"})
+    public int capacity;
+
+    /**
+     * Размер пакета для fill/drainTo
+     * */
+    private static final int BATCH = 64;
+
+    private IntSpscQueue spscQueue;
+    private IntQueue queue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        spscQueue = new IntSpscQueue(capacity);
+        queue = new IntQueue(capacity);
+    }
+
+    /**
+     * Пакеты производителя и потребителя (у каждого потока свой)
+     * */
+    @State(Scope.Thread)
+    public static class Batch {
+        final int[] values = BenchmarkData.randomValues(BATCH);
+        final int[] target = new int[BATCH];
+    }
+
+
+    // SPSC - неблокирующая очередь
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public boolean spscOffer() {
+        return spscQueue.offer(1);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public Integer spscPoll() {
+        return spscQueue.poll();
+    }
+
+
+    // SPSC_BATCH - пакетная передача
+    @Benchmark
+    @Group("spscBatch")
+    @GroupThreads(1)
+    public int spscFill(Batch batch) {
+        return spscQueue.fill(batch.values);
+    }
+
+    @Benchmark
+    @Group("spscBatch")
+    @GroupThreads(1)
+    public int spscDrainTo(Batch batch) {
+        return spscQueue.drainTo(batch.target);
+    }
+
+
+    // SYNCHRONIZED - очередь под монитором
+    @Benchmark
+    @Group("synchronizedQueue")
+    @GroupThreads(1)
+    public boolean synchronizedOffer() {
+        synchronized (queue) {
+            return queue.offerLast(1);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedQueue")
+    @GroupThreads(1)
+    public Integer synchronizedPoll() {
+        synchronized (queue) {
+            return queue.pollFirst();
+        }
+    }
+}
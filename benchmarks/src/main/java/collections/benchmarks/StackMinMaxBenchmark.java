@@ -0,0 +1,107 @@
+package collections.benchmarks;
+
+import collections.IntStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Минимум и максимум {@link IntStack} с отслеживанием и без него.
+ * Группа PUSH_POP добавляет элемент на верхушку заполненного стека, запрашивает минимум и максимум и снимает элемент.
+ * Группа BUILD заполняет новый стек: с профилировщиком -prof gc разница gc.alloc.rate.norm
+ * между intStackBuildTracking и intStackBuild показывает дополнительную память отслеживания
+ * для значений в случайном, возрастающем и убывающем порядке
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class StackMinMaxBenchmark {
+    @Param({"16", "10000", "1000000"})
+    public int size;
+
+    @Param({"random", "ascending", "descending"})
+    public String order;
+
+    private int[] values;
+    private IntStack stack;
+    private IntStack trackingStack;
+    private int value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = BenchmarkData.randomValues(size);
+
+        if (order.equals("ascending")) {
+            Arrays.sort(values);
+        } else if (order.equals("descending")) {
+            Arrays.sort(values);
+
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                int temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+
+        stack = new IntStack(size + 1, values);
+        trackingStack = new IntStack(size + 1, values);
+        trackingStack.setMinMaxTracking(true);
+        value = values[size / 2];
+    }
+
+
+    // PUSH_POP - добавление, запрос минимума и максимума, удаление
+    @Benchmark
+    public long intStackScan() {
+        stack.addLast(value);
+        long result = (long) stack.getMin() + stack.getMax();
+        stack.removeLast();
+        return result;
+    }
+
+    @Benchmark
+    public long intStackTracking() {
+        trackingStack.addLast(value);
+        long result = (long) trackingStack.getMin() + trackingStack.getMax();
+        trackingStack.removeLast();
+        return result;
+    }
+
+
+    // BUILD - заполнение нового стека
+    @Benchmark
+    public IntStack intStackBuild() {
+        IntStack result = new IntStack(size);
+
+        for (int item : values) {
+            result.addLast(item);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntStack intStackBuildTracking() {
+        IntStack result = new IntStack(size);
+        result.setMinMaxTracking(true);
+
+        for (int item : values) {
+            result.addLast(item);
+        }
+        return result;
+    }
+}
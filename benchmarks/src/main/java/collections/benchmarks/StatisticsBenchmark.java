@@ -0,0 +1,96 @@
+package collections.benchmarks;
+
+import collections.IntArray;
+import collections.IntQueue;
+import collections.IntStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Статистика значений элементов.
+ * Группа SCAN сравнивает один проход {@link IntArray#getStatistics()} с отдельными вызовами sum, getMin и getMax
+ * и с {@link IntSummaryStatistics} потока значений.
+ * Группа TRACKING сдвигает окно {@link IntQueue} на одно значение и запрашивает статистику
+ * с отслеживанием и без него
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class StatisticsBenchmark {
+    @Param({"16", "10000", "1000000"})
+    public int size;
+
+    private int[] values;
+    private IntArray array;
+    private IntQueue queue;
+    private IntQueue trackingQueue;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = BenchmarkData.randomValues(size);
+        array = new IntArray(size, values);
+        queue = new IntQueue(size, values);
+        trackingQueue = new IntQueue(size, values);
+        trackingQueue.setStatisticsTracking(true);
+    }
+
+    /**
+     * Следующее добавляемое значение
+     * */
+    private int nextValue() {
+        int value = values[next];
+        next = (next + 1 == size) ? 0 : next + 1;
+        return value;
+    }
+
+
+    // SCAN - вычисление статистики по элементам
+    @Benchmark
+    public IntStatistics intArrayStatistics() {
+        return array.getStatistics();
+    }
+
+    @Benchmark
+    public long intArraySeparate() {
+        return (long) array.sum() + array.getMin() + array.getMax();
+    }
+
+    @Benchmark
+    public IntSummaryStatistics summaryStatistics() {
+        return Arrays.stream(values).summaryStatistics();
+    }
+
+
+    // TRACKING - сдвиг окна и запрос статистики
+    @Benchmark
+    public IntStatistics intQueueScan() {
+        queue.removeFirst();
+        queue.addLast(nextValue());
+        return queue.getStatistics();
+    }
+
+    @Benchmark
+    public IntStatistics intQueueTracking() {
+        trackingQueue.removeFirst();
+        trackingQueue.addLast(nextValue());
+        return trackingQueue.getStatistics();
+    }
+}
@@ -0,0 +1,105 @@
+package collections.benchmarks;
+
+import collections.IntArray;
+import collections.IntQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Просмотр и свёртка элементов {@link IntArray} и кольцевой {@link IntQueue} скалярными циклами
+ * и векторными операциями. Способ выбирается вложенными классами: Scalar - JVM без модуля jdk.incubator.vector,
+ * Vector - с подключённым модулем, например: VectorScanBenchmark.Vector
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public abstract class VectorScanBenchmark {
+    @Param({"16", "10000", "10000000"})
+    public int size;
+
+    private IntArray array;
+    private IntQueue queue;
+    private int missing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] values = BenchmarkData.randomValues(size);
+        array = new IntArray(size, values);
+        queue = new IntQueue(size, values);
+        // отсутствующее значение - поиск просматривает все элементы
+        missing = Integer.MIN_VALUE;
+
+        // элементы очереди переходят через конец внутреннего массива
+        for (int i = 0; i < size / 2; i++) {
+            queue.addLast(queue.removeFirst());
+        }
+    }
+
+
+    // SUM / MIN / MAX
+    @Benchmark
+    public Integer intArraySum() {
+        return array.sum();
+    }
+
+    @Benchmark
+    public Integer intArrayGetMin() {
+        return array.getMin();
+    }
+
+    @Benchmark
+    public Integer intArrayGetMax() {
+        return array.getMax();
+    }
+
+    @Benchmark
+    public Integer intQueueSum() {
+        return queue.sum();
+    }
+
+
+    // SEARCH - просмотр всех элементов
+    @Benchmark
+    public boolean intArrayContains() {
+        return array.contains(missing);
+    }
+
+    @Benchmark
+    public Integer intArrayLastIndexOf() {
+        return array.lastIndexOf(missing);
+    }
+
+    @Benchmark
+    public Integer intArrayFindCount() {
+        return array.findCount(missing);
+    }
+
+    @Benchmark
+    public Integer intQueueIndexOf() {
+        return queue.indexOf(missing);
+    }
+
+
+    // MODE - скалярные циклы или векторные операции
+    @Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+    public static class Scalar extends VectorScanBenchmark {
+    }
+
+    @Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules=jdk.incubator.vector"})
+    public static class Vector extends VectorScanBenchmark {
+    }
+}
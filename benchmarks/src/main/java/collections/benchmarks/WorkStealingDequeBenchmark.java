@@ -0,0 +1,138 @@
+package collections.benchmarks;
+
+import collections.IntDeque;
+import collections.IntWorkStealingDeque;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Имитация планировщика fork/join: владелец порождает пакет задач и выполняет их с конца очереди,
+ * воры забирают задачи из начала. Сравниваются {@link IntWorkStealingDeque},
+ * {@link ConcurrentLinkedDeque} и {@link IntDeque}, защищённая synchronized.
+ * По умолчанию в группе один владелец и один вор; количество воров задаётся параметром JMH -tg,
+ * например: -tg 1,7 WorkStealingDequeBenchmark
+ * */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Group)
+public class WorkStealingDequeBenchmark {
+    /**
+     * Количество задач, порождаемых владельцем за одну операцию
+     * */
+    private static final int FORK = 16;
+
+    private IntWorkStealingDeque workStealingDeque;
+    private ConcurrentLinkedDeque<Integer> concurrentLinkedDeque;
+    private IntDeque deque;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        workStealingDeque = new IntWorkStealingDeque(FORK);
+        concurrentLinkedDeque = new ConcurrentLinkedDeque<>();
+        deque = new IntDeque(FORK);
+    }
+
+
+    // WORK_STEALING - очередь Chase–Lev
+    @Benchmark
+    @Group("workStealing")
+    @GroupThreads(1)
+    public int workStealingOwner() {
+        int sum = 0;
+
+        for (int i = 0; i < FORK; i++) {
+            workStealingDeque.push(i);
+        }
+
+        for (int task = workStealingDeque.popOrDefault(-1); task >= 0; task = workStealingDeque.popOrDefault(-1)) {
+            sum += task;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Group("workStealing")
+    @GroupThreads(1)
+    public int workStealingThief() {
+        return workStealingDeque.stealOrDefault(-1);
+    }
+
+
+    // CONCURRENT_LINKED - неблокирующий связный список
+    @Benchmark
+    @Group("concurrentLinked")
+    @GroupThreads(1)
+    public int concurrentLinkedOwner() {
+        int sum = 0;
+
+        for (int i = 0; i < FORK; i++) {
+            concurrentLinkedDeque.addLast(i);
+        }
+
+        for (Integer task = concurrentLinkedDeque.pollLast(); task != null; task = concurrentLinkedDeque.pollLast()) {
+            sum += task;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Group("concurrentLinked")
+    @GroupThreads(1)
+    public Integer concurrentLinkedThief() {
+        return concurrentLinkedDeque.pollFirst();
+    }
+
+
+    // SYNCHRONIZED - двусторонняя очередь под монитором
+    @Benchmark
+    @Group("synchronizedDeque")
+    @GroupThreads(1)
+    public int synchronizedOwner() {
+        int sum = 0;
+
+        synchronized (deque) {
+            for (int i = 0; i < FORK; i++) {
+                deque.addLast(i);
+            }
+        }
+
+        for (;;) {
+            Integer task;
+
+            synchronized (deque) {
+                task = deque.pollLast();
+            }
+
+            if (task == null) {
+                return sum;
+            }
+            sum += task;
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedDeque")
+    @GroupThreads(1)
+    public Integer synchronizedThief() {
+        synchronized (deque) {
+            return deque.pollFirst();
+        }
+    }
+}
@@ -0,0 +1,622 @@
+package collections;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Неизменяемая сжатая копия элементов коллекции (см. {@link IntArray#freeze()}).
+ * Элементы делятся на блоки по {@link FrozenIntArray#BLOCK_SIZE} значений, каждый блок сжимается самым компактным
+ * для него способом:
+ * <ul>
+ *     <li>FRAME - разность значения с минимумом блока, упакованная в минимальное количество бит;</li>
+ *     <li>DELTA_FRAME - разности соседних значений, упакованные в минимальное количество бит
+ *     (отсортированные и почти отсортированные значения);</li>
+ *     <li>VARINT - разности соседних значений в виде varint переменной длины;</li>
+ *     <li>RUNS - серии одинаковых значений (значение и длина серии в виде varint).</li>
+ * </ul>
+ * Для каждого блока хранятся смещение, минимум и максимум: доступ по индексу распаковывает только свой блок
+ * (для FRAME - за O(1)), а поиск значения пропускает блоки, в диапазон которых значение не входит.
+ * Сложение и поиск распаковывают блок целиком в буфер и просматривают его простым циклом
+ * (блоки одинаковых значений не распаковываются)
+ * */
+public final class FrozenIntArray {
+    // CONSTANTS - константы класса
+    private static final int BLOCK_SHIFT = 7;
+    /**
+     * Количество значений в блоке
+     * */
+    public static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    /**
+     * Способы сжатия блока (первый байт блока)
+     * */
+    static final byte FRAME = 0;
+    static final byte DELTA_FRAME = 1;
+    static final byte VARINT = 2;
+    static final byte RUNS = 3;
+    /**
+     * Дополнительные байты в конце данных для чтения упакованных значений словами long
+     * */
+    private static final int PADDING = Long.BYTES;
+    /**
+     * Размер заголовка массива Java в байтах (для оценки занимаемой памяти)
+     * */
+    private static final int ARRAY_HEADER = 16;
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INTS = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+
+    // FIELDS - поля класса
+    private final int size;
+    /**
+     * Сжатые блоки
+     * */
+    private final byte[] data;
+    /**
+     * Смещения блоков в данных
+     * */
+    private final int[] offsets;
+    private final int[] mins;
+    private final int[] maxs;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    private FrozenIntArray(int size, byte[] data, int[] offsets, int[] mins, int[] maxs) {
+        this.size = size;
+        this.data = data;
+        this.offsets = offsets;
+        this.mins = mins;
+        this.maxs = maxs;
+    }
+
+    /**
+     * Сжатие значений массива
+     * @param values Массив значений
+     * @param length Количество сжимаемых значений с начала массива
+     * @return Сжатая копия значений
+     * */
+    static FrozenIntArray encode(int[] values, int length) {
+        int blocks = (length + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        int[] offsets = new int[blocks];
+        int[] mins = new int[blocks];
+        int[] maxs = new int[blocks];
+        Output out = new Output(Math.max(length, 16));
+
+        for (int block = 0; block < blocks; block++) {
+            int from = block << BLOCK_SHIFT;
+            int to = Math.min(from + BLOCK_SIZE, length);
+            int min = values[from];
+            int max = values[from];
+            int deltaMin = 0;
+            int deltaMax = 0;
+            int varintSize = varintSize(zigzag(values[from]));
+            int runsSize = 0;
+
+            for (int i = from + 1; i < to; i++) {
+                int value = values[i];
+                int delta = value - values[i - 1];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                deltaMin = (i == from + 1) ? delta : Math.min(deltaMin, delta);
+                deltaMax = (i == from + 1) ? delta : Math.max(deltaMax, delta);
+                varintSize += varintSize(zigzag(delta));
+            }
+
+            for (int i = from; i < to; ) {
+                int j = runEnd(values, i, to);
+                runsSize += varintSize(zigzag(values[i])) + varintSize(j - i);
+                i = j;
+            }
+            int width = bitWidth(max - min);
+            int deltaWidth = bitWidth(deltaMax - deltaMin);
+            int frameSize = 6 + packedSize(to - from, width);
+            int deltaFrameSize = 10 + packedSize(to - from - 1, deltaWidth);
+
+            offsets[block] = out.size;
+            mins[block] = min;
+            maxs[block] = max;
+
+            if (frameSize <= deltaFrameSize && frameSize <= varintSize + 1 && frameSize <= runsSize + 1) {
+                out.write(FRAME);
+                out.writeInt(min);
+                out.write(width);
+
+                for (int i = from; i < to; i++) {
+                    out.writeBits(values[i] - min, width);
+                }
+            } else if (deltaFrameSize <= varintSize + 1 && deltaFrameSize <= runsSize + 1) {
+                out.write(DELTA_FRAME);
+                out.writeInt(values[from]);
+                out.writeInt(deltaMin);
+                out.write(deltaWidth);
+
+                for (int i = from + 1; i < to; i++) {
+                    out.writeBits(values[i] - values[i - 1] - deltaMin, deltaWidth);
+                }
+            } else if (varintSize <= runsSize) {
+                out.write(VARINT);
+                out.writeVarint(zigzag(values[from]));
+
+                for (int i = from + 1; i < to; i++) {
+                    out.writeVarint(zigzag(values[i] - values[i - 1]));
+                }
+            } else {
+                out.write(RUNS);
+
+                for (int i = from; i < to; ) {
+                    int j = runEnd(values, i, to);
+                    out.writeVarint(zigzag(values[i]));
+                    out.writeVarint(j - i);
+                    i = j;
+                }
+            }
+            out.flushBits();
+        }
+        return new FrozenIntArray(length, Arrays.copyOf(out.bytes, out.size + PADDING), offsets, mins, maxs);
+    }
+
+
+    // SERVICES - служебные методы
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int varintSize(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    /**
+     * Количество бит для значений от 0 до указанного (без знака)
+     * */
+    private static int bitWidth(int range) {
+        return 32 - Integer.numberOfLeadingZeros(range);
+    }
+
+    private static int packedSize(int count, int width) {
+        return (int) (((long) count * width + 7) >>> 3);
+    }
+
+    /**
+     * Индекс конца серии одинаковых значений
+     * */
+    private static int runEnd(int[] values, int from, int to) {
+        int end = from + 1;
+
+        while (end < to && values[end] == values[from]) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Чтение упакованного значения
+     * @param start Смещение упакованных значений в данных
+     * @param width Количество бит значения (от 0 до 32)
+     * @param index Номер значения
+     * */
+    private int unpack(int start, int width, int index) {
+        if (width == 0) {
+            return 0;
+        }
+        int bit = index * width;
+        long word = (long) LONGS.get(data, start + (bit >>> 3));
+        return (int) ((word >>> (bit & 7)) & (-1L >>> (64 - width)));
+    }
+
+    /**
+     * Чтение значения varint
+     * @param position Смещение значения в данных
+     * @return Значение в младших 32 битах и смещение следующего значения в старших 32 битах
+     * */
+    private long readVarint(int position) {
+        int value = 0;
+        int shift = 0;
+        byte part;
+
+        do {
+            part = data[position++];
+            value |= (part & 0x7F) << shift;
+            shift += 7;
+        } while (part < 0);
+        return (value & 0xFFFFFFFFL) | ((long) position << 32);
+    }
+
+    /**
+     * Распаковка упакованных значений с прибавлением основания
+     * @param start Смещение упакованных значений в данных
+     * @param width Количество бит значения (от 0 до 32)
+     * @param base Основание значений
+     * @param target Массив-приёмник
+     * @param offset Индекс массива-приёмника для первого значения
+     * @param count Количество значений
+     * */
+    private void unpackAll(int start, int width, int base, int[] target, int offset, int count) {
+        if (width == 0) {
+            Arrays.fill(target, offset, offset + count, base);
+            return;
+        }
+        long mask = -1L >>> (64 - width);
+
+        for (int i = 0, bit = 0; i < count; i++, bit += width) {
+            long word = (long) LONGS.get(data, start + (bit >>> 3));
+            target[offset + i] = base + (int) ((word >>> (bit & 7)) & mask);
+        }
+    }
+
+    /**
+     * Количество значений в блоке
+     * */
+    private int blockSize(int block) {
+        return Math.min(BLOCK_SIZE, size - (block << BLOCK_SHIFT));
+    }
+
+    /**
+     * Распаковка блока в массив-приёмник
+     * @param block Номер блока
+     * @param target Массив-приёмник
+     * @param offset Индекс массива-приёмника для первого значения блока
+     * @return Количество значений блока
+     * */
+    private int decode(int block, int[] target, int offset) {
+        int count = blockSize(block);
+        int p = offsets[block];
+        byte encoding = data[p++];
+
+        if (encoding == FRAME) {
+            unpackAll(p + 5, data[p + 4], (int) INTS.get(data, p), target, offset, count);
+        } else if (encoding == DELTA_FRAME) {
+            // распаковка разностей и сложение нарастающим итогом
+            target[offset] = (int) INTS.get(data, p);
+            unpackAll(p + 9, data[p + 8], (int) INTS.get(data, p + 4), target, offset + 1, count - 1);
+
+            for (int i = offset + 1; i < offset + count; i++) {
+                target[i] += target[i - 1];
+            }
+        } else if (encoding == VARINT) {
+            int value = 0;
+
+            for (int i = 0; i < count; i++) {
+                long varint = readVarint(p);
+                p = (int) (varint >>> 32);
+                value += unzigzag((int) varint);
+                target[offset + i] = value;
+            }
+        } else {
+            for (int i = 0; i < count; ) {
+                long varint = readVarint(p);
+                long length = readVarint((int) (varint >>> 32));
+                p = (int) (length >>> 32);
+                Arrays.fill(target, offset + i, offset + i + (int) length, unzigzag((int) varint));
+                i += (int) length;
+            }
+        }
+        return count;
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение количества элементов
+     * @return Количество элементов
+     * */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Получение способа сжатия блока
+     * @param block Номер блока
+     * @return {@link FrozenIntArray#FRAME}, {@link FrozenIntArray#DELTA_FRAME}, {@link FrozenIntArray#VARINT}
+     * или {@link FrozenIntArray#RUNS}
+     * */
+    byte getEncoding(int block) {
+        return data[offsets[block]];
+    }
+
+    /**
+     * Получение элемента по индексу без распаковки блока в буфер: в блоке FRAME значение читается за O(1),
+     * в остальных блоках просматриваются только предшествующие значения своего блока
+     * @param index Индекс элемента (положительный - с начала, отрицательный - с конца)
+     * @return Значение элемента
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода индекса за пределы элементов
+     * */
+    public int getElement(int index) {
+        if (index >= size || index < -size) {
+            throw new ArrayIndexOutOfBoundsException("Индекс " + index + " выходит за пределы массива размера " + size);
+        }
+
+        if (index < 0) {
+            index += size;
+        }
+        int position = index & (BLOCK_SIZE - 1);
+        int p = offsets[index >>> BLOCK_SHIFT];
+        byte encoding = data[p++];
+
+        if (encoding == FRAME) {
+            return (int) INTS.get(data, p) + unpack(p + 5, data[p + 4], position);
+        }
+
+        if (encoding == DELTA_FRAME) {
+            int width = data[p + 8];
+            int value = (int) INTS.get(data, p) + position * (int) INTS.get(data, p + 4);
+
+            for (int i = 0; i < position; i++) {
+                value += unpack(p + 9, width, i);
+            }
+            return value;
+        }
+
+        if (encoding == VARINT) {
+            int value = 0;
+
+            for (int i = 0; i <= position; i++) {
+                long varint = readVarint(p);
+                p = (int) (varint >>> 32);
+                value += unzigzag((int) varint);
+            }
+            return value;
+        }
+
+        for (int i = 0; ; ) {
+            long varint = readVarint(p);
+            long length = readVarint((int) (varint >>> 32));
+            p = (int) (length >>> 32);
+            i += (int) length;
+
+            if (position < i) {
+                return unzigzag((int) varint);
+            }
+        }
+    }
+
+    /**
+     * Получение минимального значения элементов (по минимумам блоков)
+     * @return Минимальное значение
+     * @exception NoSuchElementException Ошибка получения значения пустого массива
+     * */
+    public int getMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("В массиве отсутствуют элементы");
+        }
+        int min = mins[0];
+
+        for (int value : mins) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    /**
+     * Получение максимального значения элементов (по максимумам блоков)
+     * @return Максимальное значение
+     * @exception NoSuchElementException Ошибка получения значения пустого массива
+     * */
+    public int getMax() {
+        if (size == 0) {
+            throw new NoSuchElementException("В массиве отсутствуют элементы");
+        }
+        int max = maxs[0];
+
+        for (int value : maxs) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * Получение размера сжатой формы (данные блоков и таблицы смещений, минимумов и максимумов)
+     * @return Размер в байтах
+     * */
+    public long getCompressedSize() {
+        return ARRAY_HEADER + (long) data.length + 3 * (ARRAY_HEADER + 4L * offsets.length);
+    }
+
+    /**
+     * Получение степени сжатия: отношение размера массива int[] с элементами к размеру сжатой формы
+     * @return Степень сжатия (больше 1 - сжатая форма меньше массива)
+     * */
+    public double getCompressionRatio() {
+        return (ARRAY_HEADER + 4.0 * size) / getCompressedSize();
+    }
+
+
+    // CHECK - проверка данных
+    /**
+     * Проверка наличия элемента с указанным значением.
+     * Распаковываются только блоки, в диапазон значений которых входит проверяемое значение,
+     * распакованный блок просматривается {@link IntScan#indexOf} (векторно, если модуль подключён)
+     * @param value Проверяемое значение
+     * @return true - если элемент с проверяемым значением имеется, иначе - false
+     * */
+    public boolean contains(int value) {
+        int[] buffer = null;
+
+        for (int block = 0; block < offsets.length; block++) {
+            if (value < mins[block] || value > maxs[block]) {
+                continue;
+            }
+
+            if (mins[block] == maxs[block]) {
+                return true;
+            }
+
+            if (buffer == null) {
+                buffer = new int[BLOCK_SIZE];
+            }
+            int count = decode(block, buffer, 0);
+
+            if (IntScan.indexOf(buffer, 0, count, value) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    // SUM - сложение данных
+    /**
+     * Сложение значений элементов без переполнения.
+     * Блоки одинаковых значений складываются умножением, остальные распаковываются в буфер
+     * и складываются {@link IntScan#sum} (см. {@link FrozenIntArray#blockSum})
+     * @return Сумма элементов (0 - если элементов нет)
+     * */
+    public long sum() {
+        int[] buffer = new int[BLOCK_SIZE];
+        long sum = 0;
+
+        for (int block = 0; block < offsets.length; block++) {
+            if (mins[block] == maxs[block]) {
+                sum += (long) mins[block] * blockSize(block);
+                continue;
+            }
+            int count = decode(block, buffer, 0);
+            sum += blockSum(buffer, count, mins[block], maxs[block]);
+        }
+        return sum;
+    }
+
+    /**
+     * Сложение значений распакованного блока без переполнения.
+     * Сумма блока лежит между count * min и count * max, поэтому, если этот диапазон уже 2^32,
+     * она однозначно восстанавливается по младшим 32 битам - сумме с переполнением {@link IntScan#sum}.
+     * Иначе (значения блока разбросаны почти по всему диапазону int) значения складываются в long
+     * @param buffer Распакованные значения блока
+     * @param count Количество значений блока
+     * @param min Минимальное значение блока
+     * @param max Максимальное значение блока
+     * @return Сумма значений блока
+     * */
+    private static long blockSum(int[] buffer, int count, int min, int max) {
+        long low = (long) min * count;
+
+        if (((long) max - min) * count < (1L << 32)) {
+            return low + Integer.toUnsignedLong(IntScan.sum(buffer, 0, count) - (int) low);
+        }
+        long sum = 0;
+
+        for (int i = 0; i < count; i++) {
+            sum += buffer[i];
+        }
+        return sum;
+    }
+
+
+    // ITERATION - обход данных
+    /**
+     * Выполнение действия для каждого элемента в порядке индексов (блоки распаковываются по одному)
+     * @param action Действие над значением элемента
+     * */
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action);
+        int[] buffer = new int[BLOCK_SIZE];
+
+        for (int block = 0; block < offsets.length; block++) {
+            int count = decode(block, buffer, 0);
+
+            for (int i = 0; i < count; i++) {
+                action.accept(buffer[i]);
+            }
+        }
+    }
+
+
+    // COPY - копирование данных
+    /**
+     * Распаковка всех элементов
+     * @return Новый массив со значениями элементов
+     * */
+    public int[] toArray() {
+        int[] result = new int[size];
+
+        for (int block = 0; block < offsets.length; block++) {
+            decode(block, result, block << BLOCK_SHIFT);
+        }
+        return result;
+    }
+
+
+    // TO_STRING - строковое преобразование данных
+    /**
+     * Вывод сведений о сжатой форме в виде строки
+     * @return Строка с количеством элементов, размером сжатой формы и степенью сжатия
+     * */
+    @Override
+    public String toString() {
+        return "size=" + size + ", compressedSize=" + getCompressedSize() + ", ratio=" + getCompressionRatio();
+    }
+
+
+    // OUTPUT - запись сжатых блоков
+    private static final class Output {
+        byte[] bytes;
+        int size;
+        /**
+         * Накопленные, но ещё не записанные биты упакованных значений
+         * */
+        long bits;
+        int bitCount;
+
+        Output(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void write(int value) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, size << 1);
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void writeInt(int value) {
+            for (int i = 0; i < 4; i++) {
+                write(value >>> (i << 3));
+            }
+        }
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        /**
+         * Запись младших width бит значения
+         * */
+        void writeBits(int value, int width) {
+            if (width == 0) {
+                return;
+            }
+            bits |= (value & 0xFFFFFFFFL & (-1L >>> (64 - width))) << bitCount;
+            bitCount += width;
+
+            while (bitCount >= 8) {
+                write((int) bits);
+                bits >>>= 8;
+                bitCount -= 8;
+            }
+        }
+
+        /**
+         * Запись оставшихся бит последнего неполного байта
+         * */
+        void flushBits() {
+            if (bitCount > 0) {
+                write((int) bits);
+            }
+            bits = 0;
+            bitCount = 0;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package collections;
+
+/**
+ * Политика увеличения вместимости коллекции при добавлении элемента в заполненную коллекцию.
+ * Политика получает текущую и требуемую вместимость и возвращает новую вместимость.
+ * Значение меньше требуемой вместимости означает, что увеличение невозможно
+ * (коллекция сообщает о переполнении, как и без политики)
+ * */
+@FunctionalInterface
+public interface GrowthPolicy {
+    // CONSTANTS - константы класса
+    /**
+     * Наибольшая вместимость внутреннего массива, которую допускает большинство JVM
+     * */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+
+    // METHODS - методы политики
+    /**
+     * Вычисление новой вместимости коллекции
+     * @param capacity Текущая вместимость коллекции
+     * @param minCapacity Требуемая вместимость коллекции (больше текущей)
+     * @return Новая вместимость коллекции. Если значение меньше требуемой вместимости - увеличение невозможно
+     * */
+    int newCapacity(int capacity, int minCapacity);
+
+
+    // FACTORIES - создание политик
+    /**
+     * Политика без увеличения вместимости: добавление в заполненную коллекцию приводит к ошибке
+     * @return Политика фиксированной вместимости
+     * */
+    static GrowthPolicy failFast() {
+        return (capacity, minCapacity) -> capacity;
+    }
+
+    /**
+     * Геометрическое увеличение вместимости (амортизированное O(1) добавление элементов)
+     * @param factor Множитель вместимости (больше 1)
+     * @return Политика умножения вместимости на множитель
+     * @exception IllegalArgumentException Ошибка указания множителя не больше 1
+     * */
+    static GrowthPolicy geometric(double factor) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException("Множитель вместимости должен быть больше 1");
+        }
+
+        return (capacity, minCapacity) -> {
+            // вместимость 0 и 1 при умножении почти не растёт, поэтому прирост не меньше 1
+            double grown = Math.max(capacity * factor, capacity + 1.0);
+            return clamp(Math.max(grown, minCapacity), minCapacity);
+        };
+    }
+
+    /**
+     * Увеличение вместимости на постоянное количество элементов
+     * (добавление n элементов требует O(n² / increment) копирований)
+     * @param increment Прирост вместимости (больше 0)
+     * @return Политика прибавления постоянного прироста к вместимости
+     * @exception IllegalArgumentException Ошибка указания прироста не больше 0
+     * */
+    static GrowthPolicy additive(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Прирост вместимости должен быть больше 0");
+        }
+        return (capacity, minCapacity) -> clamp(Math.max((double) capacity + increment, minCapacity), minCapacity);
+    }
+
+    /**
+     * Ограничение вместимости, вычисляемой другой политикой
+     * @param policy Ограничиваемая политика
+     * @param maxCapacity Наибольшая допустимая вместимость коллекции
+     * @return Политика, не увеличивающая вместимость больше указанного значения
+     * @exception IllegalArgumentException Ошибка указания отрицательной наибольшей вместимости
+     * */
+    static GrowthPolicy capped(GrowthPolicy policy, int maxCapacity) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Политика увеличения вместимости не указана");
+        }
+
+        if (maxCapacity < 0) {
+            throw new IllegalArgumentException("Наибольшая вместимость не может иметь отрицательное значение");
+        }
+
+        return (capacity, minCapacity) -> {
+            if (minCapacity > maxCapacity) {
+                return capacity;
+            }
+            return Math.min(policy.newCapacity(capacity, minCapacity), maxCapacity);
+        };
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Приведение вычисленной вместимости к допустимому диапазону
+     * @param capacity Вычисленная вместимость
+     * @param minCapacity Требуемая вместимость
+     * @return Вместимость не больше {@link GrowthPolicy#MAX_CAPACITY}
+     * (или требуемая вместимость, если она превышает это значение)
+     * */
+    private static int clamp(double capacity, int minCapacity) {
+        if (capacity > MAX_CAPACITY) {
+            return Math.max(MAX_CAPACITY, minCapacity);
+        }
+        return (int) capacity;
+    }
+}
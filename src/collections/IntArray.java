@@ -1,8 +1,31 @@
 package collections;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public class IntArray implements IntCollection {
+    // CONSTANTS - константы класса
+    /**
+     * Количество элементов по умолчанию, начиная с которого параллельные методы
+     * распределяют работу между потоками {@link ForkJoinPool}
+     * */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
 
-public class IntArray {
     // FIELDS - поля класса
     /**
      * Массив целочисленных значений
@@ -16,6 +39,32 @@ public class IntArray {
      * Количество установленных значений массива
      * */
     protected int size;
+    /**
+     * Количество элементов, начиная с которого параллельные методы распределяют работу между потоками
+     * */
+    protected int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    /**
+     * Политика увеличения вместимости при добавлении элемента в заполненную коллекцию
+     * (по умолчанию вместимость не увеличивается)
+     * */
+    protected GrowthPolicy growthPolicy = GrowthPolicy.failFast();
+    /**
+     * Статистика, обновляемая при добавлении и удалении элементов (null - статистика вычисляется по запросу)
+     * */
+    private IntStatisticsAccumulator statistics;
+    /**
+     * Хеш-индекс значений для поиска за O(1) (null - поиск просмотром элементов)
+     * */
+    private IntHashIndex hashIndex;
+    /**
+     * Счётчик изменений коллекции (курсоры и обход элементов по нему обнаруживают изменение коллекции во время обхода)
+     * */
+    protected int modCount;
+    /**
+     * Признак упорядоченности элементов по возрастанию (устанавливается сортировкой, сбрасывается
+     * при добавлении и изменении элементов). В этом режиме поиск значений выполняется делением пополам
+     * */
+    private boolean sorted;
 
 
     // CONSTRUCTORS - конструкторы класса
@@ -87,7 +136,8 @@ public class IntArray {
 
     // SERVICES - служебные методы
     /**
-     * Проверка допустимости индекса
+     * Проверка допустимости индекса элемента (позиции от начала коллекции, отрицательной - от конца коллекции).
+     * Индекс внутреннего массива получается вызовом {@link IntArray#physicalIndex(int)}
      * @param index Проверяемый индекс
      * @exception ArrayIndexOutOfBoundsException Ошибка указания индекса за пределами вместимости массива
      * @exception ArrayIndexOutOfBoundsException Ошибка отсутствия элемента по указанному индексу
@@ -126,6 +176,281 @@ public class IntArray {
     }
 
 
+    /**
+     * Получение индекса внутреннего массива, по которому расположен первый элемент коллекции
+     * @return Индекс первого элемента во внутреннем массиве
+     * */
+    protected int headIndex() {
+        return 0;
+    }
+
+    /**
+     * Преобразование позиции элемента (от начала коллекции) в индекс внутреннего массива
+     * @param position Позиция элемента от 0 до size (включительно)
+     * @return Индекс внутреннего массива
+     * */
+    protected int physicalIndex(int position) {
+        int head = headIndex();
+        int tail = capacity - head;
+        return (position < tail) ? head + position : position - tail;
+    }
+
+    /**
+     * Уменьшение количества элементов коллекции (элементы после новой последней позиции уже удалены и обнулены).
+     * Подклассы обновляют индексы концов коллекции
+     * @param newSize Новое количество элементов
+     * */
+    protected void truncate(int newSize) {
+        size = newSize;
+    }
+
+    /**
+     * Увеличение количества элементов коллекции (новые элементы уже записаны во внутренний массив
+     * после последнего элемента, начиная с позиции size). Подклассы обновляют индексы концов коллекции
+     * @param newSize Новое количество элементов
+     * */
+    protected void extend(int newSize) {
+        size = newSize;
+    }
+
+    /**
+     * Перемещение элементов коллекции по позициям к началу или к концу коллекции
+     * (перекрывающиеся участки копируются в безопасном порядке).
+     * Участки, переходящие через конец внутреннего массива, перемещаются не более чем тремя вызовами
+     * {@link System#arraycopy}
+     * @param source Позиция первого перемещаемого элемента
+     * @param target Позиция назначения первого элемента
+     * @param count Количество перемещаемых элементов
+     * */
+    protected void ringMove(int source, int target, int count) {
+        if (target > source) {
+            // к концу коллекции: участки копируются с последнего элемента
+            while (count > 0) {
+                int from = physicalIndex(source + count - 1) + 1;
+                int to = physicalIndex(target + count - 1) + 1;
+                int length = Math.min(count, Math.min(from, to));
+                System.arraycopy(collection, from - length, collection, to - length, length);
+                count -= length;
+            }
+            return;
+        }
+
+        while (count > 0) {
+            int from = physicalIndex(source);
+            int to = physicalIndex(target);
+            int length = Math.min(count, Math.min(capacity - from, capacity - to));
+            System.arraycopy(collection, from, collection, to, length);
+            source += length;
+            target += length;
+            count -= length;
+        }
+    }
+
+    /**
+     * Перемещение элементов коллекции в начало внутреннего массива с сохранением их порядка
+     * (элементы массива всегда расположены с начала внутреннего массива)
+     * */
+    protected void linearize() {
+    }
+
+    /**
+     * Уведомление об изменении значений или порядка элементов коллекции.
+     * Вызывается методами, которые меняют элементы не через добавление или удаление на концах коллекции
+     * (подклассы, отслеживающие сведения об элементах, обновляют их сами при добавлении и удалении на концах).
+     * Сбрасывает признак упорядоченности элементов
+     * */
+    protected void elementsChanged() {
+        modCount++;
+        sorted = false;
+
+        if (hashIndex != null) {
+            hashIndex.invalidatePositions();
+        }
+    }
+
+    /**
+     * Уведомление о перемещении элементов во внутреннем массиве с сохранением их порядка и значений
+     * (индексы первых элементов в хеш-индексе значений устаревают)
+     * */
+    protected void elementsRelocated() {
+        if (hashIndex != null) {
+            hashIndex.invalidatePositions();
+        }
+    }
+
+    /**
+     * Уведомление об удалении элементов не на концах коллекции с сохранением порядка оставшихся элементов
+     * (в отличие от {@link IntArray#elementsChanged()} признак упорядоченности сохраняется)
+     * */
+    protected void elementsCompacted() {
+        boolean wasSorted = sorted;
+        elementsChanged();
+        sorted = wasSorted;
+    }
+
+    /**
+     * Уведомление о добавлении элемента в коллекцию (обновляет статистику в режиме её отслеживания
+     * и хеш-индекс значений, сбрасывает признак упорядоченности)
+     * @param value Значение добавленного элемента
+     * */
+    protected void elementAdded(int value) {
+        modCount++;
+        sorted = false;
+
+        if (statistics != null) {
+            statistics.add(value);
+        }
+
+        if (hashIndex != null) {
+            indexAdded(value);
+        }
+    }
+
+    /**
+     * Уведомление об удалении элемента из коллекции (обновляет статистику в режиме её отслеживания
+     * и хеш-индекс значений)
+     * @param value Значение удалённого элемента
+     * */
+    protected void elementRemoved(int value) {
+        modCount++;
+
+        if (statistics != null) {
+            statistics.remove(value);
+        }
+
+        if (hashIndex != null) {
+            indexRemoved(value);
+        }
+    }
+
+    /**
+     * Уведомление о пакетном добавлении элементов в коллекцию (обновляет статистику в режиме её отслеживания
+     * и хеш-индекс значений, сбрасывает признак упорядоченности)
+     * @param values Массив добавленных значений
+     * @param offset Индекс первого добавленного значения
+     * @param length Количество добавленных значений
+     * */
+    protected void elementsAdded(int[] values, int offset, int length) {
+        modCount++;
+        sorted = false;
+
+        if (statistics != null) {
+            statistics.addRange(values, offset, offset + length);
+        }
+
+        if (hashIndex != null) {
+            // элементы могли быть добавлены в начало коллекции - индексы первых элементов устаревают
+            for (int i = offset; i < offset + length; i++) {
+                hashIndex.add(values[i], IntHashIndex.UNKNOWN);
+            }
+            hashIndex.invalidatePositions();
+        }
+    }
+
+    /**
+     * Уведомление о пакетном удалении элементов из коллекции (обновляет статистику в режиме её отслеживания
+     * и хеш-индекс значений)
+     * @param values Массив удалённых значений
+     * @param offset Индекс первого удалённого значения
+     * @param length Количество удалённых значений
+     * */
+    protected void elementsRemoved(int[] values, int offset, int length) {
+        modCount++;
+
+        if (statistics != null) {
+            statistics.removeRange(values, offset, offset + length);
+        }
+
+        if (hashIndex != null) {
+            for (int i = offset; i < offset + length; i++) {
+                indexRemoved(values[i]);
+            }
+        }
+    }
+
+    /**
+     * Увеличение вместимости коллекции по её политике (см. {@link IntArray#setGrowthPolicy(GrowthPolicy)})
+     * @param minCapacity Требуемая вместимость коллекции
+     * @return true - если вместимость коллекции не меньше требуемой, иначе - false
+     * */
+    protected boolean grow(int minCapacity) {
+        if (minCapacity <= capacity) {
+            return true;
+        }
+
+        int newCapacity = growthPolicy.newCapacity(capacity, minCapacity);
+
+        if (newCapacity < minCapacity) {
+            return false;
+        }
+        resize(newCapacity);
+        return true;
+    }
+
+    /**
+     * Замена внутреннего массива массивом указанной вместимости.
+     * Элементы предварительно перемещаются в начало внутреннего массива (см. {@link IntArray#linearize()})
+     * @param newCapacity Новая вместимость (не меньше количества элементов)
+     * */
+    protected void resize(int newCapacity) {
+        linearize();
+        collection = Arrays.copyOf(collection, newCapacity);
+        capacity = newCapacity;
+        modCount++;
+    }
+
+    /**
+     * Проверка возможности добавить указанное количество элементов с увеличением вместимости по политике коллекции
+     * @param count Количество добавляемых элементов
+     * @return true - если элементы помещаются во внутренний массив, иначе - false
+     * */
+    protected boolean ensureFree(int count) {
+        if (count <= capacity - size) {
+            return true;
+        }
+        return count <= GrowthPolicy.MAX_CAPACITY - size && grow(size + count);
+    }
+
+    /**
+     * Копирование участка кольцевого внутреннего массива в массив-приёмник
+     * (участок, переходящий через конец внутреннего массива, копируется двумя вызовами {@link System#arraycopy})
+     * @param start Индекс внутреннего массива, с которого начинается участок
+     * @param target Массив-приёмник
+     * @param offset Индекс массива-приёмника для первого элемента
+     * @param count Количество копируемых элементов (не больше вместимости)
+     * */
+    protected void ringCopyTo(int start, int[] target, int offset, int count) {
+        int first = Math.min(count, capacity - start);
+        System.arraycopy(collection, start, target, offset, first);
+        System.arraycopy(collection, 0, target, offset + first, count - first);
+    }
+
+    /**
+     * Копирование массива-источника в участок кольцевого внутреннего массива
+     * (участок, переходящий через конец внутреннего массива, заполняется двумя вызовами {@link System#arraycopy})
+     * @param source Массив-источник
+     * @param offset Индекс первого копируемого значения массива-источника
+     * @param start Индекс внутреннего массива, с которого начинается участок
+     * @param count Количество копируемых значений (не больше вместимости)
+     * */
+    protected void ringCopyFrom(int[] source, int offset, int start, int count) {
+        int first = Math.min(count, capacity - start);
+        System.arraycopy(source, offset, collection, start, first);
+        System.arraycopy(source, offset + first, collection, 0, count - first);
+    }
+
+    /**
+     * Обнуление участка кольцевого внутреннего массива
+     * @param start Индекс внутреннего массива, с которого начинается участок
+     * @param count Количество обнуляемых элементов (не больше вместимости)
+     * */
+    protected void ringClear(int start, int count) {
+        int first = Math.min(count, capacity - start);
+        Arrays.fill(collection, start, start + first, 0);
+        Arrays.fill(collection, 0, count - first, 0);
+    }
+
+
     // GETTERS - получение данных
     /**
      * Получение элемента массива по индексу
@@ -139,8 +464,7 @@ public class IntArray {
             throw new NoSuchElementException("В массиве отсутствуют элементы");
         }
         checkIndex(index);
-        index = transformIndex(index);
-        return collection[index];
+        return collection[physicalIndex(transformIndex(index))];
     }
 
     /**
@@ -155,8 +479,21 @@ public class IntArray {
             return null;
         }
         checkIndex(index);
-        index = transformIndex(index);
-        return collection[index];
+        return collection[physicalIndex(transformIndex(index))];
+    }
+
+    /**
+     * Получение элемента массива по индексу без упаковки значения
+     * @param index Индекс возвращаемого элемента
+     *              (положительный - с начала массива, отрицательный - с конца массива)
+     * @param defaultValue Значение, возвращаемое для пустого массива
+     * @return Элемент массива по указанному индексу или defaultValue, если массив пуст
+     * */
+    public int peekOrDefault(int index, int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        return getElement(index);
     }
 
     /**
@@ -167,14 +504,19 @@ public class IntArray {
         if (size == 0) {
             return null;
         }
-        int min = Integer.MAX_VALUE;
+        return getMinOrDefault(0);
+    }
 
-        for (int i = 0; i < size; i++) {
-            if (collection[i] < min) {
-                min = collection[i];
-            }
+    /**
+     * Получение минимального значения элементов массива без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого массива
+     * @return Минимальное значение элементов массива или defaultValue, если массив пуст
+     * */
+    public int getMinOrDefault(int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
         }
-        return min;
+        return IntScan.minRing(collection, headIndex(), size);
     }
 
     /**
@@ -185,14 +527,19 @@ public class IntArray {
         if (size == 0) {
             return null;
         }
-        int max = Integer.MIN_VALUE;
+        return getMaxOrDefault(0);
+    }
 
-        for (int i = 0; i < size; i++) {
-            if (collection[i] > max) {
-                max = collection[i];
-            }
+    /**
+     * Получение максимального значения элементов массива без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого массива
+     * @return Максимальное значение элементов массива или defaultValue, если массив пуст
+     * */
+    public int getMaxOrDefault(int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
         }
-        return max;
+        return IntScan.maxRing(collection, headIndex(), size);
     }
 
     /**
@@ -204,10 +551,7 @@ public class IntArray {
             return null;
         }
         int[] newCollection = new int[size];
-
-        for (int i = 0; i < size; i++) {
-            newCollection[i] = collection[i];
-        }
+        ringCopyTo(headIndex(), newCollection, 0, size);
         return newCollection;
     }
 
@@ -224,10 +568,7 @@ public class IntArray {
 
         int newSize = size - startIndex;
         int[] newCollection = new int[newSize];
-
-        for (int i = 0, j = startIndex; i < newSize; i++, j++) {
-            newCollection[i] = collection[j];
-        }
+        ringCopyTo(physicalIndex(startIndex), newCollection, 0, newSize);
         return newCollection;
     }
 
@@ -248,10 +589,7 @@ public class IntArray {
 
         int newSize = newEndIndex - newStartIndex + 1;
         int[] newCollection = new int[newSize];
-
-        for (int i = 0, j = newStartIndex; i < newSize; i++, j++) {
-            newCollection[i] = collection[j];
-        }
+        ringCopyTo(physicalIndex(newStartIndex), newCollection, 0, newSize);
         return newCollection;
     }
 
@@ -271,19 +609,41 @@ public class IntArray {
         return size;
     }
 
+    /**
+     * Получение политики увеличения вместимости
+     * @return Политика увеличения вместимости при добавлении элемента в заполненную коллекцию
+     * */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Установка политики увеличения вместимости при добавлении элемента в заполненную коллекцию
+     * (например, {@link GrowthPolicy#geometric(double)} для амортизированного O(1) добавления)
+     * @param growthPolicy Политика увеличения вместимости
+     * @exception IllegalArgumentException Ошибка указания пустой политики
+     * */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("Политика увеличения вместимости не указана");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
 
     // ADD - добавление данных
     /**
      * Добавление элемента в массив
      * @param value Значение добавляемого элемента
-     * @exception ArrayStoreException Ошибка переполнения массива
+     * @exception ArrayStoreException Ошибка переполнения массива (если политика не позволяет увеличить вместимость)
      * */
     public void add(int value) {
-        if (size == capacity) {
+        if (size == capacity && !grow(size + 1)) {
             throw new ArrayStoreException("Массив заполнен. Добавление нового элемента невозможно");
         }
         collection[size] = value;
         size++;
+        elementAdded(value);
     }
 
     /**
@@ -292,14 +652,57 @@ public class IntArray {
      * @return true - если новый элемент добавлен в массив, иначе - false
      * */
     public boolean offer(int value) {
-        if (size == capacity) {
+        if (size == capacity && !grow(size + 1)) {
             return false;
         }
         collection[size] = value;
         size++;
+        elementAdded(value);
         return true;
     }
 
+    /**
+     * Вставка элемента в указанную позицию массива. Следующие элементы сдвигаются к концу
+     * вызовами {@link System#arraycopy} (см. {@link IntArray#ringMove(int, int, int)})
+     * @param index Позиция вставляемого элемента от 0 (в начало) до size (в конец)
+     * @param value Значение вставляемого элемента
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода позиции за пределы массива
+     * @exception ArrayStoreException Ошибка переполнения массива (если политика не позволяет увеличить вместимость)
+     * */
+    public void insert(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Позиция " + index + " выходит за пределы массива размера " + size);
+        }
+
+        if (size == capacity && !grow(size + 1)) {
+            throw new ArrayStoreException("Массив заполнен. Вставка нового элемента невозможна");
+        }
+        extend(size + 1);
+        ringMove(index, index + 1, size - 1 - index);
+        collection[physicalIndex(index)] = value;
+        elementAdded(value);
+        elementsChanged();
+    }
+
+    /**
+     * Вставка элемента с сохранением упорядоченного режима (см. {@link IntArray#isSorted()}).
+     * Позиция находится делением пополам (после элементов с равным значением), элементы сдвигаются
+     * вызовами {@link System#arraycopy}
+     * @param value Значение вставляемого элемента
+     * @return Позиция вставленного элемента
+     * @exception IllegalStateException Ошибка вставки в неупорядоченную коллекцию
+     * @exception ArrayStoreException Ошибка переполнения коллекции (если политика не позволяет увеличить вместимость)
+     * */
+    public int insertSorted(int value) {
+        if (!isSorted()) {
+            throw new IllegalStateException("Элементы не упорядочены. Вставка с сохранением порядка невозможна");
+        }
+        int index = upperBound(value);
+        insert(index, value);
+        sorted = true;
+        return index;
+    }
+
 
     // SETTERS - изменение данных
     /**
@@ -314,8 +717,11 @@ public class IntArray {
             throw new NoSuchElementException("В массиве отсутствуют элементы");
         }
         checkIndex(index);
-        index = transformIndex(index);
+        index = physicalIndex(transformIndex(index));
+        elementRemoved(collection[index]);
         collection[index] = value;
+        elementAdded(value);
+        elementsChanged();
     }
 
     /**
@@ -328,9 +734,19 @@ public class IntArray {
             throw new NoSuchElementException("В массиве отсутствуют элементы");
         }
 
-        for (int i = 0; i < size; i++) {
-            collection[i] = value;
+        int head = headIndex();
+        int first = Math.min(size, capacity - head);
+        Arrays.fill(collection, head, head + first, value);
+        Arrays.fill(collection, 0, size - first, value);
+
+        if (statistics != null) {
+            statistics.fill(value, size);
+        }
+
+        if (hashIndex != null) {
+            hashIndex.fill(value, size, headIndex());
         }
+        elementsChanged();
     }
 
 
@@ -349,13 +765,12 @@ public class IntArray {
         checkIndex(index);
         index = transformIndex(index);
 
-        int value = collection[index];
-
-        for (int i = index; i < size - 1; i++) {
-            collection[i] = collection[i + 1];
-        }
-        size--;
-        collection[size] = 0;
+        int value = collection[physicalIndex(index)];
+        ringMove(index + 1, index, size - 1 - index);
+        collection[physicalIndex(size - 1)] = 0;
+        truncate(size - 1);
+        elementRemoved(value);
+        elementsCompacted();
         return value;
     }
 
@@ -369,17 +784,139 @@ public class IntArray {
         if (size == 0) {
             return null;
         }
-        checkIndex(index);
-        index = transformIndex(index);
+        return remove(index);
+    }
+
+    /**
+     * Удаление элемента массива по указанному индексу с возвращением удалённого элемента без упаковки значения
+     * @param index Индекс удаляемого элемента
+     *              (положительный - с начала массива, отрицательный - с конца массива)
+     * @param defaultValue Значение, возвращаемое для пустого массива
+     * @return Удалённый элемент массива или defaultValue, если массив пуст
+     * */
+    public int pollOrDefault(int index, int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        return remove(index);
+    }
+
+    /**
+     * Удаление всех элементов, удовлетворяющих условию, за один проход.
+     * Оставшиеся элементы сдвигаются к началу коллекции с сохранением порядка (в том числе через конец
+     * внутреннего массива очереди). Если условие выбрасывает исключение, непроверенные элементы сохраняются
+     * @param filter Условие удаления элемента
+     * @return true - если удалён хотя бы один элемент, иначе - false
+     * */
+    public boolean removeIf(IntPredicate filter) {
+        Objects.requireNonNull(filter);
+        int[] array = collection;
+        int read = headIndex();
+        int write = read;
+        int kept = 0;
+        int i = 0;
+
+        try {
+            for (; i < size; i++) {
+                int value = array[read];
+
+                if (filter.test(value)) {
+                    elementRemoved(value);
+                } else {
+                    array[write] = value;
+                    kept++;
+
+                    if (++write == capacity) {
+                        write = 0;
+                    }
+                }
 
-        int value = collection[index];
+                if (++read == capacity) {
+                    read = 0;
+                }
+            }
+        } finally {
+            // сдвиг непроверенных элементов после исключения в условии
+            for (; i < size; i++) {
+                array[write] = array[read];
+                kept++;
+
+                if (++write == capacity) {
+                    write = 0;
+                }
+
+                if (++read == capacity) {
+                    read = 0;
+                }
+            }
+            int removed = size - kept;
 
-        for (int i = index; i < size - 1; i++) {
-            collection[i] = collection[i + 1];
+            if (removed > 0) {
+                ringClear(write, removed);
+                truncate(kept);
+                elementsCompacted();
+            }
         }
-        size--;
-        collection[size] = 0;
-        return value;
+        return kept < i;
+    }
+
+    /**
+     * Удаление всех элементов с любым из указанных значений за один проход
+     * @param values Удаляемые значения
+     * @return true - если удалён хотя бы один элемент, иначе - false
+     * */
+    public boolean removeAll(int... values) {
+        if (values.length == 0 || size == 0) {
+            return false;
+        }
+        int[] sorted = sortedCopy(values);
+        return removeIf(value -> Arrays.binarySearch(sorted, value) >= 0);
+    }
+
+    /**
+     * Удаление всех элементов, значения которых не входят в указанные значения, за один проход
+     * @param values Сохраняемые значения
+     * @return true - если удалён хотя бы один элемент, иначе - false
+     * */
+    public boolean retainAll(int... values) {
+        if (size == 0) {
+            return false;
+        }
+        int[] sorted = sortedCopy(values);
+        return removeIf(value -> Arrays.binarySearch(sorted, value) < 0);
+    }
+
+    /**
+     * Получение отсортированной копии значений для поиска делением пополам
+     * */
+    private static int[] sortedCopy(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Удаление элементов в диапазоне индексов. Следующие за диапазоном элементы сдвигаются
+     * к началу коллекции вызовами {@link System#arraycopy} (не более трёх для участков внутреннего массива очереди)
+     * @param fromIndex Индекс первого удаляемого элемента (включительно)
+     * @param toIndex Индекс конца диапазона (не включительно)
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода диапазона за пределы элементов
+     * */
+    public void removeRange(int fromIndex, int toIndex) {
+        IntSlice.checkRange(fromIndex, toIndex, size);
+        int count = toIndex - fromIndex;
+
+        if (count == 0) {
+            return;
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            elementRemoved(collection[physicalIndex(i)]);
+        }
+        ringMove(toIndex, fromIndex, size - toIndex);
+        ringClear(physicalIndex(size - count), count);
+        truncate(size - count);
+        elementsCompacted();
     }
 
     /**
@@ -391,10 +928,17 @@ public class IntArray {
             throw new NoSuchElementException("В массиве отсутствуют элементы");
         }
 
-        for (int item : collection) {
-            item = 0;
+        ringClear(headIndex(), size);
+        truncate(0);
+
+        if (statistics != null) {
+            statistics.clear();
         }
-        size = 0;
+
+        if (hashIndex != null) {
+            hashIndex.clear();
+        }
+        elementsChanged();
     }
 
 
@@ -410,12 +954,15 @@ public class IntArray {
             return false;
         }
 
-        for (int i = 0; i < size; i++) {
-            if (collection[i] == value) {
-                return true;
-            }
+        if (hashIndex != null) {
+            return hashIndex.count(value) > 0;
+        }
+
+        if (isSorted()) {
+            int index = lowerBound(value);
+            return index < size && collection[physicalIndex(index)] == value;
         }
-        return false;
+        return IntScan.indexOfRing(collection, headIndex(), size, value) >= 0;
     }
 
 
@@ -430,13 +977,31 @@ public class IntArray {
         if (size == 0) {
             return null;
         }
+        return indexOfOrDefault(value, -1);
+    }
 
-        for (int i = 0; i < size; i++) {
-            if (collection[i] == value) {
-                return i;
-            }
+    /**
+     * Получение индекса расположения в массиве элемента с указанным значением без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое, если элемент не найден или массив пуст (обычно -1)
+     * @return Индекс расположения элемента массива с указанным значением или defaultValue
+     * */
+    public int indexOfOrDefault(int value, int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+
+        if (hashIndex != null) {
+            int index = indexedPosition(value);
+            return (index < 0) ? defaultValue : index;
+        }
+
+        if (isSorted()) {
+            int index = lowerBound(value);
+            return (index < size && collection[physicalIndex(index)] == value) ? index : defaultValue;
         }
-        return -1;
+        int index = IntScan.indexOfRing(collection, headIndex(), size, value);
+        return (index < 0) ? defaultValue : index;
     }
 
     /**
@@ -449,13 +1014,27 @@ public class IntArray {
         if (size == 0) {
             return null;
         }
+        return lastIndexOfOrDefault(value, -1);
+    }
 
-        for (int i = size - 1; i > -1; i--) {
-            if (collection[i] == value) {
-                return i;
-            }
+    /**
+     * Получение индекса расположения в массиве элемента с указанным значением, начиная с конца массива,
+     * без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое, если элемент не найден или массив пуст (обычно -1)
+     * @return Индекс расположения элемента массива с указанным значением или defaultValue
+     * */
+    public int lastIndexOfOrDefault(int value, int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+
+        if (isSorted()) {
+            int index = upperBound(value) - 1;
+            return (index >= 0 && collection[physicalIndex(index)] == value) ? index : defaultValue;
         }
-        return -1;
+        int index = IntScan.lastIndexOfRing(collection, headIndex(), size, value);
+        return (index < 0) ? defaultValue : index;
     }
 
     /**
@@ -468,62 +1047,115 @@ public class IntArray {
         if (size == 0) {
             return null;
         }
-        int count = 0;
-
-        for (int i = 0; i < size; i++) {
-            if (collection[i] == value) {
-                count++;
-            }
-        }
-        return count;
+        return findCountOrDefault(value, 0);
     }
 
-
+    /**
+     * Количество элементов массива с указанным значением без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое для пустого массива
+     * @return Количество элементов массива с указанным значением или defaultValue, если массив пуст
+     * */
+    public int findCountOrDefault(int value, int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+
+        if (hashIndex != null) {
+            return hashIndex.count(value);
+        }
+
+        if (isSorted()) {
+            return upperBound(value) - lowerBound(value);
+        }
+        return IntScan.countRing(collection, headIndex(), size, value);
+    }
+
+
     // SORT - сортировка данных
     /**
-     * Сортировка элементов массива в порядке увеличения значений
-     * @return true - если сортировка прошла успешно, иначе - false
+     * Сортировка элементов массива в порядке увеличения значений.
+     * Метод сортировки выбирается по размеру и характеру данных (см. {@link IntSort}).
+     * После сортировки массив находится в упорядоченном режиме (см. {@link IntArray#isSorted()})
+     * @return true - если порядок элементов изменился, иначе - false
      * */
     public boolean sort() {
         if (size == 0) {
             return false;
         }
-        boolean sorted = false;
+        boolean changed = IntSort.sort(collection, 0, size);
 
-        for (int i = 0; i < size -1; i++) {
-            for (int j = i + 1; j < size; j++) {
-                if (collection[i] > collection[j]) {
-                    int temp = collection[i];
-                    collection[i] = collection[j];
-                    collection[j] = temp;
-                    sorted = true;
-                }
+        if (changed) {
+            elementsChanged();
+        }
+        sorted = true;
+        return changed;
+    }
+
+    /**
+     * Проверка упорядоченного режима: элементы отсортированы по возрастанию методом {@link IntArray#sort()}
+     * (или {@link IntArray#parallelSort()}) и с тех пор не добавлялись и не изменялись не по порядку.
+     * Удаление элементов режим сохраняет. В этом режиме {@link IntArray#contains(int)}, {@link IntArray#indexOf(int)},
+     * {@link IntArray#lastIndexOf(int)} и {@link IntArray#findCount(int)} выполняются делением пополам за O(log n)
+     * @return true - если элементы упорядочены по возрастанию, иначе - false
+     * */
+    public boolean isSorted() {
+        return sorted || size < 2;
+    }
+
+    /**
+     * Позиция первого элемента, не меньшего указанного значения (в упорядоченном режиме)
+     * */
+    private int lowerBound(int value) {
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (collection[physicalIndex(middle)] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
         }
-        return sorted;
+        return low;
     }
 
     /**
-     * Сортировка элементов массива в порядке уменьшения значений
-     * @return true - если сортировка прошла успешно, иначе - false
+     * Позиция первого элемента, большего указанного значения (в упорядоченном режиме)
+     * */
+    private int upperBound(int value) {
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (collection[physicalIndex(middle)] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Сортировка элементов массива в порядке уменьшения значений.
+     * Метод сортировки выбирается по размеру и характеру данных (см. {@link IntSort})
+     * @return true - если порядок элементов изменился, иначе - false
      * */
     public boolean reverseSort() {
         if (size == 0) {
             return false;
         }
-        boolean sorted = false;
+        boolean changed = IntSort.reverseSort(collection, 0, size);
 
-        for (int i = 0; i < size -1; i++) {
-            for (int j = i + 1; j < size; j++) {
-                if (collection[i] < collection[j]) {
-                    int temp = collection[i];
-                    collection[i] = collection[j];
-                    collection[j] = temp;
-                    sorted = true;
-                }
-            }
+        if (changed) {
+            elementsChanged();
         }
-        return sorted;
+        return changed;
     }
 
 
@@ -537,34 +1169,43 @@ public class IntArray {
             throw new NoSuchElementException("В массиве отсутствуют элементы");
         }
 
-        for (int i = 0, j = size - 1; i < size / 2; i++, j--) {
-            int temp = collection[i];
-            collection[i] = collection[j];
-            collection[j] = temp;
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int first = physicalIndex(i);
+            int second = physicalIndex(j);
+            int temp = collection[first];
+            collection[first] = collection[second];
+            collection[second] = temp;
         }
+        elementsChanged();
     }
 
 
     // TRANSFORM - Трансформация данных
     /**
-     * Увеличение вместимости массива в значение по умолчанию (в 1,5 раза)
+     * Увеличение вместимости массива в значение по умолчанию (в 1,5 раза, но не меньше чем на 1)
      * */
     public void increaseCapacity() {
-        int newCapacity = (int)(capacity * 0.5);
-        increaseCapacity(newCapacity);
+        increaseCapacity(Math.max(capacity >> 1, 1));
     }
 
     /**
      * Увеличение вместимости массива на указанное значение
+     * @param capacity Прирост вместимости
+     * @exception NegativeArraySizeException Ошибка указания отрицательного прироста вместимости
+     * @exception OutOfMemoryError Ошибка превышения наибольшей вместимости {@link GrowthPolicy#MAX_CAPACITY}
      * */
     public void increaseCapacity(int capacity) {
-        this.capacity += capacity;
-        int[] newCollection = new int[this.capacity];
+        if (capacity < 0) {
+            throw new NegativeArraySizeException("Прирост вместимости не может иметь отрицательное значение");
+        }
 
-        for (int i = 0; i < size; i++) {
-            newCollection[i] = collection[i];
+        if (capacity > GrowthPolicy.MAX_CAPACITY - this.capacity) {
+            throw new OutOfMemoryError("Вместимость превышает " + GrowthPolicy.MAX_CAPACITY + " элементов");
+        }
+
+        if (capacity > 0) {
+            resize(this.capacity + capacity);
         }
-        collection = newCollection;
     }
 
     /**
@@ -580,12 +1221,13 @@ public class IntArray {
         checkIndex(firstIndex);
         checkIndex(secondIndex);
 
-        firstIndex = transformIndex(firstIndex);
-        secondIndex = transformIndex(secondIndex);
+        firstIndex = physicalIndex(transformIndex(firstIndex));
+        secondIndex = physicalIndex(transformIndex(secondIndex));
 
         int temp = collection[firstIndex];
         collection[firstIndex] = collection[secondIndex];
         collection[secondIndex] = temp;
+        elementsChanged();
     }
 
 
@@ -595,13 +1237,23 @@ public class IntArray {
      * */
     public int[] copy() {
         int[] newCollection = new int[capacity];
-
-        for (int i = 0; i < size; i++) {
-            newCollection[i] = collection[i];
-        }
+        ringCopyTo(headIndex(), newCollection, 0, size);
         return newCollection;
     }
 
+    /**
+     * Сжатие элементов в неизменяемую копию {@link FrozenIntArray}.
+     * Способ сжатия (упаковка бит, разности соседних значений, серии одинаковых значений) выбирается для каждого
+     * блока отдельно, поэтому отсортированные и почти отсортированные значения занимают в несколько раз меньше памяти,
+     * чем копия {@link IntArray#copy()}
+     * @return Сжатая копия элементов
+     * */
+    public FrozenIntArray freeze() {
+        int[] values = new int[size];
+        ringCopyTo(headIndex(), values, 0, size);
+        return FrozenIntArray.encode(values, size);
+    }
+
 
     // UNION - объединение данных
     /**
@@ -612,15 +1264,45 @@ public class IntArray {
     public int[] concat(int... values) {
         int newSize = size + values.length;
         int[] newCollection = new int[newSize];
+        ringCopyTo(headIndex(), newCollection, 0, size);
+        System.arraycopy(values, 0, newCollection, size, values.length);
+        return newCollection;
+    }
 
-        for (int i = 0; i < size; i++) {
-            newCollection[i] = collection[i];
+    /**
+     * Слияние элементов двух упорядоченных коллекций (см. {@link IntArray#isSorted()}) за один проход
+     * @param other Упорядоченная коллекция
+     * @return Новый массив из элементов обеих коллекций, упорядоченных по возрастанию
+     * @exception IllegalStateException Ошибка слияния неупорядоченной коллекции
+     * */
+    public int[] merge(IntArray other) {
+        if (!isSorted() || !other.isSorted()) {
+            throw new IllegalStateException("Элементы не упорядочены. Слияние за один проход невозможно");
+        }
+        int[] result = new int[size + other.size];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+
+        while (i < size && j < other.size) {
+            int left = collection[physicalIndex(i)];
+            int right = other.collection[other.physicalIndex(j)];
+
+            if (right < left) {
+                result[k++] = right;
+                j++;
+            } else {
+                result[k++] = left;
+                i++;
+            }
         }
 
-        for (int i = size, j = 0; i < newSize; i++, j++) {
-            newCollection[i] = values[j];
+        if (i < size) {
+            ringCopyTo(physicalIndex(i), result, k, size - i);
+        } else if (j < other.size) {
+            other.ringCopyTo(other.physicalIndex(j), result, k, other.size - j);
         }
-        return newCollection;
+        return result;
     }
 
     /**
@@ -629,11 +1311,15 @@ public class IntArray {
      * @return Строка из элементов массива, разделённых указанным разделителем
      * */
     public String join(String separator) {
+        if (size == 0) {
+            return "";
+        }
+
         StringBuilder result = new StringBuilder();
-        result.append(collection[0]);
+        result.append(collection[headIndex()]);
 
         for (int i = 1; i < size; i++) {
-            result.append(separator).append(collection[i]);
+            result.append(separator).append(collection[physicalIndex(i)]);
         }
         return result.toString();
     }
@@ -648,12 +1334,716 @@ public class IntArray {
         if (size == 0) {
             return null;
         }
-        int sum = 0;
+        return sumOrDefault(0);
+    }
+
+    /**
+     * Сложение значений элементов массива без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого массива
+     * @return Сумма элементов массива или defaultValue, если массив пуст
+     * */
+    public int sumOrDefault(int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        return IntScan.sumRing(collection, headIndex(), size);
+    }
+
+
+    // STATISTICS - статистика данных
+    /**
+     * Получение статистики значений элементов (количество, сумма без переполнения, минимум, максимум,
+     * среднее и дисперсия). В режиме отслеживания (см. {@link IntArray#setStatisticsTracking(boolean)})
+     * статистика не пересчитывается, иначе вычисляется за один проход по элементам
+     * @return Статистика значений элементов
+     * */
+    @Override
+    public IntStatistics getStatistics() {
+        if (statistics == null) {
+            IntStatisticsAccumulator accumulator = new IntStatisticsAccumulator();
+            accumulate(accumulator);
+            return accumulator.toStatistics();
+        }
+
+        if (statistics.isExtremesStale()) {
+            // удалено крайнее значение - минимум и максимум пересчитываются просмотром элементов
+            int head = headIndex();
+            statistics.setExtremes(IntScan.minRing(collection, head, size), IntScan.maxRing(collection, head, size));
+        }
+        return statistics.toStatistics();
+    }
+
+    /**
+     * Проверка режима отслеживания статистики
+     * @return true - если статистика обновляется при добавлении и удалении элементов, иначе - false
+     * */
+    public boolean isStatisticsTracking() {
+        return statistics != null;
+    }
+
+    /**
+     * Включение или отключение режима отслеживания статистики.
+     * В режиме отслеживания количество, сумма и сумма квадратов обновляются за O(1) при каждом добавлении,
+     * удалении и изменении элемента, поэтому {@link IntArray#getStatistics()} не просматривает элементы.
+     * Исключение - удаление минимального или максимального значения: они пересчитываются при следующем запросе
+     * @param enabled true - включить отслеживание, false - отключить
+     * */
+    public void setStatisticsTracking(boolean enabled) {
+        if (!enabled) {
+            statistics = null;
+        } else if (statistics == null) {
+            statistics = new IntStatisticsAccumulator();
+            accumulate(statistics);
+        }
+    }
+
+    /**
+     * Добавление всех элементов коллекции в накопитель статистики (один или два участка кольцевого массива)
+     * */
+    private void accumulate(IntStatisticsAccumulator accumulator) {
+        int head = headIndex();
+        int first = Math.min(size, capacity - head);
+        accumulator.addRange(collection, head, head + first);
+        accumulator.addRange(collection, 0, size - first);
+    }
+
+
+    // INDEX - хеш-индекс значений
+    /**
+     * Проверка наличия хеш-индекса значений
+     * @return true - если поиск значений выполняется по хеш-индексу, иначе - false
+     * */
+    public boolean isHashIndexing() {
+        return hashIndex != null;
+    }
+
+    /**
+     * Подключение или отключение хеш-индекса значений.
+     * Индекс хранит для каждого значения количество элементов и индекс первого из них и обновляется
+     * при каждом добавлении, удалении и изменении элемента, поэтому {@link IntArray#contains(int)}
+     * и {@link IntArray#findCount(int)} выполняются за O(1). {@link IntArray#indexOf(int)} выполняется за O(1),
+     * пока элементы добавляются и удаляются на концах коллекции. Другие изменения (вставка, удаление из середины,
+     * сортировка) и удаление первого элемента значения откладывают поиск индексов до следующего запроса
+     * @param enabled true - подключить индекс (строится по текущим элементам), false - отключить
+     * */
+    public void setHashIndexing(boolean enabled) {
+        if (!enabled) {
+            hashIndex = null;
+        } else if (hashIndex == null) {
+            hashIndex = new IntHashIndex();
+            int head = headIndex();
+
+            for (int i = 0, index = head; i < size; i++) {
+                hashIndex.add(collection[index], IntHashIndex.UNKNOWN);
+
+                if (++index == capacity) {
+                    index = 0;
+                }
+            }
+            hashIndex.invalidatePositions();
+        }
+    }
+
+    /**
+     * Получение дополнительной памяти хеш-индекса значений
+     * @return Размер таблицы индекса в байтах (0 - если индекс не подключён)
+     * */
+    public long getHashIndexMemoryUsage() {
+        return (hashIndex == null) ? 0 : hashIndex.memoryUsage();
+    }
+
+    /**
+     * Учёт добавленного элемента в хеш-индексе. Элемент в начале коллекции всегда первый со своим значением,
+     * элемент в конце - первый, если других элементов с этим значением нет
+     * */
+    private void indexAdded(int value) {
+        int count = hashIndex.add(value, IntHashIndex.UNKNOWN);
+
+        if (hashIndex.isPositionsStale()) {
+            return;
+        }
+        int head = headIndex();
+        int tail = physicalIndex(size - 1);
+
+        if (collection[head] == value) {
+            hashIndex.setFirst(value, head);
+        } else if (count == 0 && collection[tail] == value) {
+            hashIndex.setFirst(value, tail);
+        }
+    }
+
+    /**
+     * Учёт удалённого элемента в хеш-индексе. Если удалён первый элемент значения,
+     * индекс первого из оставшихся элементов находится при следующем поиске
+     * */
+    private void indexRemoved(int value) {
+        if (hashIndex.remove(value) == 0 || hashIndex.isPositionsStale()) {
+            return;
+        }
+        int first = hashIndex.first(value);
+
+        if (first != IntHashIndex.UNKNOWN) {
+            int position = first - headIndex();
+
+            if (position < 0) {
+                position += capacity;
+            }
+
+            if (position >= size || collection[first] != value) {
+                hashIndex.setFirst(value, IntHashIndex.UNKNOWN);
+            }
+        }
+    }
+
+    /**
+     * Получение позиции первого элемента со значением по хеш-индексу
+     * @return Позиция элемента или -1, если элементов со значением нет
+     * */
+    private int indexedPosition(int value) {
+        if (hashIndex.count(value) == 0) {
+            return -1;
+        }
+        int head = headIndex();
+
+        if (hashIndex.isPositionsStale()) {
+            hashIndex.rebuildPositions(collection, head, size);
+        }
+        int first = hashIndex.first(value);
+
+        if (first == IntHashIndex.UNKNOWN) {
+            int position = IntScan.indexOfRing(collection, head, size, value);
+            hashIndex.setFirst(value, physicalIndex(position));
+            return position;
+        }
+        int position = first - head;
+        return (position < 0) ? position + capacity : position;
+    }
+
+
+    // ITERATION - обход данных
+    /**
+     * Выполнение действия для каждого элемента в порядке индексов без упаковки значений.
+     * Элементы читаются напрямую из одного или двух участков кольцевого внутреннего массива
+     * @param action Действие над значением элемента
+     * @exception ConcurrentModificationException Ошибка изменения коллекции во время обхода
+     * */
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        int[] array = collection;
+        int head = headIndex();
+        int first = Math.min(size, capacity - head);
+        int second = size - first;
+
+        for (int i = head, end = head + first; i < end && modCount == expectedModCount; i++) {
+            action.accept(array[i]);
+        }
+
+        for (int i = 0; i < second && modCount == expectedModCount; i++) {
+            action.accept(array[i]);
+        }
 
-        for (int i = 0; i < size; i++) {
-            sum += collection[i];
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException("Коллекция изменена во время обхода элементов");
         }
-        return sum;
+    }
+
+    /**
+     * Получение итератора элементов в порядке индексов без упаковки значений
+     * @return Итератор типа {@link PrimitiveIterator.OfInt}
+     * */
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntCursor(this);
+    }
+
+    /**
+     * Получение курсора элементов в порядке индексов. Курсор можно использовать повторно
+     * после изменения коллекции (см. {@link IntCursor#reset()}), не создавая новых объектов
+     * @return Курсор элементов коллекции
+     * */
+    public IntCursor cursor() {
+        return new IntCursor(this);
+    }
+
+
+    // SLICE - представление части элементов
+    /**
+     * Получение представления элементов в диапазоне индексов без копирования элементов.
+     * Представление читает и изменяет внутренний массив коллекции, в том числе участок,
+     * переходящий через конец внутреннего массива очереди. Изменение коллекции не через представление
+     * делает его недействительным (см. {@link IntSlice})
+     * @param fromIndex Индекс первого элемента (включительно)
+     * @param toIndex Индекс конца диапазона (не включительно)
+     * @return Представление элементов коллекции
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода диапазона за пределы элементов
+     * */
+    public IntSlice slice(int fromIndex, int toIndex) {
+        IntSlice.checkRange(fromIndex, toIndex, size);
+        return new IntSlice(this, fromIndex, toIndex);
+    }
+
+
+    // STREAM - потоки данных
+    /**
+     * Получение разделяемого обхода элементов в порядке индексов (SIZED, SUBSIZED, ORDERED).
+     * Обход делится пополам по позициям элементов, в том числе при кольцевом расположении элементов очереди,
+     * и читает внутренний массив напрямую
+     * @return Обход элементов типа {@link Spliterator.OfInt}
+     * */
+    public Spliterator.OfInt spliterator() {
+        return new IntSpliterator(this);
+    }
+
+    /**
+     * Получение последовательного потока значений элементов без копирования элементов
+     * @return Поток значений элементов
+     * */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Получение параллельного потока значений элементов без копирования элементов
+     * @return Параллельный поток значений элементов
+     * */
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+
+    // PARALLEL - параллельная обработка данных
+    /**
+     * Получение количества элементов, начиная с которого параллельные методы распределяют работу между потоками
+     * @return Порог параллельной обработки
+     * */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Установка количества элементов, начиная с которого параллельные методы распределяют работу между потоками
+     * (при меньшем количестве элементов параллельные методы выполняются в вызывающем потоке)
+     * @param parallelThreshold Порог параллельной обработки
+     * @exception IllegalArgumentException Ошибка указания отрицательного значения порога
+     * */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("Порог параллельной обработки не может иметь отрицательное значение");
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Получение пула потоков для параллельной обработки текущего количества элементов
+     * @param pool Пул потоков, указанный при вызове метода
+     * @return Пул потоков или null, если элементов меньше порога параллельной обработки
+     * */
+    private ForkJoinPool parallelPool(ForkJoinPool pool) {
+        return (size < parallelThreshold) ? null : pool;
+    }
+
+    /**
+     * Параллельная сортировка элементов в порядке увеличения значений в общем пуле потоков
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    public boolean parallelSort() {
+        return parallelSort(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Параллельная сортировка элементов в порядке увеличения значений в указанном пуле потоков.
+     * Участки размером с кэш процессора сортируются независимо и затем попарно сливаются
+     * @param pool Пул потоков (null - сортировка в вызывающем потоке)
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    public boolean parallelSort(ForkJoinPool pool) {
+        if (size == 0) {
+            return false;
+        }
+        pool = parallelPool(pool);
+
+        if (pool == null) {
+            return sort();
+        }
+        linearize();
+        boolean changed = IntParallel.sort(pool, collection, size);
+
+        if (changed) {
+            elementsChanged();
+        }
+        sorted = true;
+        return changed;
+    }
+
+    /**
+     * Параллельное сложение значений элементов в общем пуле потоков
+     * @return Сумма элементов типа {@link Integer}
+     * */
+    public Integer parallelSum() {
+        return parallelSum(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Параллельное сложение значений элементов в указанном пуле потоков
+     * @param pool Пул потоков
+     * @return Сумма элементов типа {@link Integer}
+     * */
+    public Integer parallelSum(ForkJoinPool pool) {
+        if (size == 0) {
+            return null;
+        }
+        return parallelSumOrDefault(pool, 0);
+    }
+
+    /**
+     * Параллельное сложение значений элементов в общем пуле потоков без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Сумма элементов или defaultValue, если коллекция пуста
+     * */
+    public int parallelSumOrDefault(int defaultValue) {
+        return parallelSumOrDefault(ForkJoinPool.commonPool(), defaultValue);
+    }
+
+    /**
+     * Параллельное сложение значений элементов в указанном пуле потоков без упаковки значения
+     * @param pool Пул потоков
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Сумма элементов или defaultValue, если коллекция пуста
+     * */
+    public int parallelSumOrDefault(ForkJoinPool pool, int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        return IntParallel.sum(parallelPool(pool), collection, headIndex(), size);
+    }
+
+    /**
+     * Параллельное получение минимального значения элементов в общем пуле потоков
+     * @return Минимальное значение элементов типа {@link Integer}
+     * */
+    public Integer parallelGetMin() {
+        return parallelGetMin(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Параллельное получение минимального значения элементов в указанном пуле потоков
+     * @param pool Пул потоков
+     * @return Минимальное значение элементов типа {@link Integer}
+     * */
+    public Integer parallelGetMin(ForkJoinPool pool) {
+        if (size == 0) {
+            return null;
+        }
+        return parallelGetMinOrDefault(pool, 0);
+    }
+
+    /**
+     * Параллельное получение минимального значения элементов в общем пуле потоков без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Минимальное значение элементов или defaultValue, если коллекция пуста
+     * */
+    public int parallelGetMinOrDefault(int defaultValue) {
+        return parallelGetMinOrDefault(ForkJoinPool.commonPool(), defaultValue);
+    }
+
+    /**
+     * Параллельное получение минимального значения элементов в указанном пуле потоков без упаковки значения
+     * @param pool Пул потоков
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Минимальное значение элементов или defaultValue, если коллекция пуста
+     * */
+    public int parallelGetMinOrDefault(ForkJoinPool pool, int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        return IntParallel.min(parallelPool(pool), collection, headIndex(), size);
+    }
+
+    /**
+     * Параллельное получение максимального значения элементов в общем пуле потоков
+     * @return Максимальное значение элементов типа {@link Integer}
+     * */
+    public Integer parallelGetMax() {
+        return parallelGetMax(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Параллельное получение максимального значения элементов в указанном пуле потоков
+     * @param pool Пул потоков
+     * @return Максимальное значение элементов типа {@link Integer}
+     * */
+    public Integer parallelGetMax(ForkJoinPool pool) {
+        if (size == 0) {
+            return null;
+        }
+        return parallelGetMaxOrDefault(pool, 0);
+    }
+
+    /**
+     * Параллельное получение максимального значения элементов в общем пуле потоков без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Максимальное значение элементов или defaultValue, если коллекция пуста
+     * */
+    public int parallelGetMaxOrDefault(int defaultValue) {
+        return parallelGetMaxOrDefault(ForkJoinPool.commonPool(), defaultValue);
+    }
+
+    /**
+     * Параллельное получение максимального значения элементов в указанном пуле потоков без упаковки значения
+     * @param pool Пул потоков
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Максимальное значение элементов или defaultValue, если коллекция пуста
+     * */
+    public int parallelGetMaxOrDefault(ForkJoinPool pool, int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        return IntParallel.max(parallelPool(pool), collection, headIndex(), size);
+    }
+
+    /**
+     * Параллельный подсчёт элементов с указанным значением в общем пуле потоков
+     * @param value Искомое значение
+     * @return Количество элементов с указанным значением типа {@link Integer}.
+     * Если коллекция пуста - возвращается null
+     * */
+    public Integer parallelFindCount(int value) {
+        return parallelFindCount(ForkJoinPool.commonPool(), value);
+    }
+
+    /**
+     * Параллельный подсчёт элементов с указанным значением в указанном пуле потоков
+     * @param pool Пул потоков
+     * @param value Искомое значение
+     * @return Количество элементов с указанным значением типа {@link Integer}.
+     * Если коллекция пуста - возвращается null
+     * */
+    public Integer parallelFindCount(ForkJoinPool pool, int value) {
+        if (size == 0) {
+            return null;
+        }
+        return parallelFindCountOrDefault(pool, value, 0);
+    }
+
+    /**
+     * Параллельный подсчёт элементов с указанным значением в общем пуле потоков без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Количество элементов с указанным значением или defaultValue, если коллекция пуста
+     * */
+    public int parallelFindCountOrDefault(int value, int defaultValue) {
+        return parallelFindCountOrDefault(ForkJoinPool.commonPool(), value, defaultValue);
+    }
+
+    /**
+     * Параллельный подсчёт элементов с указанным значением в указанном пуле потоков без упаковки значения
+     * @param pool Пул потоков
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Количество элементов с указанным значением или defaultValue, если коллекция пуста
+     * */
+    public int parallelFindCountOrDefault(ForkJoinPool pool, int value, int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        return IntParallel.count(parallelPool(pool), collection, headIndex(), size, value);
+    }
+
+    /**
+     * Параллельная установка нового значения всем элементам в общем пуле потоков
+     * @param value Новое значение элементов
+     * @exception NoSuchElementException Ошибка изменения элементов пустой коллекции
+     * */
+    public void parallelSetAll(int value) {
+        parallelSetAll(ForkJoinPool.commonPool(), value);
+    }
+
+    /**
+     * Параллельная установка нового значения всем элементам в указанном пуле потоков
+     * @param pool Пул потоков
+     * @param value Новое значение элементов
+     * @exception NoSuchElementException Ошибка изменения элементов пустой коллекции
+     * */
+    public void parallelSetAll(ForkJoinPool pool, int value) {
+        if (size == 0) {
+            throw new NoSuchElementException("В коллекции отсутствуют элементы");
+        }
+        IntParallel.fill(parallelPool(pool), collection, headIndex(), size, value);
+
+        if (statistics != null) {
+            statistics.fill(value, size);
+        }
+
+        if (hashIndex != null) {
+            hashIndex.fill(value, size, headIndex());
+        }
+        elementsChanged();
+    }
+
+    /**
+     * Параллельный поиск первого элемента с указанным значением в общем пуле потоков
+     * @param value Искомое значение
+     * @return Индекс элемента (от начала коллекции) с указанным значением типа {@link Integer}.
+     * Если элемент не найден возвращается -1. Если коллекция пуста - возвращается null
+     * */
+    public Integer parallelIndexOf(int value) {
+        return parallelIndexOf(ForkJoinPool.commonPool(), value);
+    }
+
+    /**
+     * Параллельный поиск первого элемента с указанным значением в указанном пуле потоков
+     * @param pool Пул потоков
+     * @param value Искомое значение
+     * @return Индекс элемента (от начала коллекции) с указанным значением типа {@link Integer}.
+     * Если элемент не найден возвращается -1. Если коллекция пуста - возвращается null
+     * */
+    public Integer parallelIndexOf(ForkJoinPool pool, int value) {
+        if (size == 0) {
+            return null;
+        }
+        return parallelIndexOfOrDefault(pool, value, -1);
+    }
+
+    /**
+     * Параллельный поиск первого элемента с указанным значением в общем пуле потоков без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое, если элемент не найден или коллекция пуста (обычно -1)
+     * @return Индекс элемента (от начала коллекции) с указанным значением или defaultValue
+     * */
+    public int parallelIndexOfOrDefault(int value, int defaultValue) {
+        return parallelIndexOfOrDefault(ForkJoinPool.commonPool(), value, defaultValue);
+    }
+
+    /**
+     * Параллельный поиск первого элемента с указанным значением в указанном пуле потоков без упаковки значения
+     * @param pool Пул потоков
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое, если элемент не найден или коллекция пуста (обычно -1)
+     * @return Индекс элемента (от начала коллекции) с указанным значением или defaultValue
+     * */
+    public int parallelIndexOfOrDefault(ForkJoinPool pool, int value, int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        int index = IntParallel.indexOf(parallelPool(pool), collection, headIndex(), size, value);
+        return (index < 0) ? defaultValue : index;
+    }
+
+
+    // IO - двоичная запись и чтение данных
+    /**
+     * Запись элементов в канал: заголовок из 8 байт (сигнатура "INT1", количество элементов)
+     * и значения элементов в порядке байтов little-endian.
+     * Элементы кольцевых коллекций записываются двумя участками внутреннего массива без предварительного
+     * перемещения в его начало. Значения переносятся пакетами через прямой буфер размером до 64 КБ
+     * @param channel Канал
+     * @exception IOException Ошибка записи в канал
+     * */
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer transfer = IntBinaryFormat.transferBuffer(size);
+        int head = headIndex();
+        int first = Math.min(size, capacity - head);
+
+        IntBinaryFormat.putHeader(transfer, size);
+        IntBinaryFormat.write(channel, transfer, IntBuffer.wrap(collection, head, first));
+        IntBinaryFormat.write(channel, transfer, IntBuffer.wrap(collection, 0, size - first));
+        IntBinaryFormat.flush(channel, transfer);
+    }
+
+    /**
+     * Запись элементов в буфер в формате {@link IntArray#writeTo(WritableByteChannel)}
+     * (порядок байтов буфера не учитывается). Позиция буфера сдвигается на размер записи
+     * @param buffer Буфер
+     * @exception java.nio.BufferOverflowException Ошибка недостатка места в буфере (буфер не изменяется)
+     * */
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        IntBuffer values = IntBinaryFormat.writeHeader(buffer, size);
+        int head = headIndex();
+        int first = Math.min(size, capacity - head);
+
+        values.put(collection, head, first).put(collection, 0, size - first);
+        buffer.position(buffer.position() + (int) IntBinaryFormat.byteSize(size));
+    }
+
+    /**
+     * Чтение элементов, записанных {@link IntArray#writeTo(WritableByteChannel)}, и добавление их в конец коллекции.
+     * Значения читаются непосредственно в свободные участки внутреннего массива
+     * @param channel Канал
+     * @return Количество добавленных элементов
+     * @exception IOException Ошибка чтения из канала, неверная или неполная запись (элементы коллекции не изменяются)
+     * @exception ArrayStoreException Ошибка переполнения коллекции (если политика не позволяет увеличить вместимость)
+     * */
+    @Override
+    public int readFrom(ReadableByteChannel channel) throws IOException {
+        int count = IntBinaryFormat.readHeader(channel);
+        int start = reserve(count);
+        int first = Math.min(count, capacity - start);
+        ByteBuffer transfer = IntBinaryFormat.transferBuffer(count);
+
+        try {
+            IntBinaryFormat.read(channel, transfer, IntBuffer.wrap(collection, start, first));
+            IntBinaryFormat.read(channel, transfer, IntBuffer.wrap(collection, 0, count - first));
+        } catch (IOException e) {
+            ringClear(start, count);
+            throw e;
+        }
+        appended(start, count);
+        return count;
+    }
+
+    /**
+     * Чтение элементов, записанных {@link IntArray#writeTo(ByteBuffer)}, и добавление их в конец коллекции.
+     * Позиция буфера сдвигается на размер записи
+     * @param buffer Буфер
+     * @return Количество добавленных элементов
+     * @exception java.nio.BufferUnderflowException Ошибка неполной записи в буфере
+     * @exception IllegalArgumentException Ошибка неверной записи в буфере
+     * @exception ArrayStoreException Ошибка переполнения коллекции (если политика не позволяет увеличить вместимость)
+     * */
+    @Override
+    public int readFrom(ByteBuffer buffer) {
+        IntBuffer values = IntBinaryFormat.readHeader(buffer);
+        int count = values.remaining();
+        int start = reserve(count);
+        int first = Math.min(count, capacity - start);
+
+        values.get(collection, start, first).get(collection, 0, count - first);
+        buffer.position(buffer.position() + (int) IntBinaryFormat.byteSize(count));
+        appended(start, count);
+        return count;
+    }
+
+    /**
+     * Подготовка места для элементов, добавляемых в конец коллекции чтением
+     * @param count Количество добавляемых элементов
+     * @return Индекс внутреннего массива для первого добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения коллекции (если политика не позволяет увеличить вместимость)
+     * */
+    private int reserve(int count) {
+        if (!ensureFree(count)) {
+            throw new ArrayStoreException("Массив заполнен. Добавление " + count + " элементов невозможно");
+        }
+        return physicalIndex(size);
+    }
+
+    /**
+     * Учёт элементов, прочитанных в конец коллекции
+     * @param start Индекс внутреннего массива первого прочитанного элемента
+     * @param count Количество прочитанных элементов
+     * */
+    private void appended(int start, int count) {
+        if (count == 0) {
+            return;
+        }
+        int first = Math.min(count, capacity - start);
+
+        extend(size + count);
+        elementsAdded(collection, start, first);
+        elementsAdded(collection, 0, count - first);
+        // отслеживаемые подклассами сведения об элементах восстанавливаются по запросу
+        elementsChanged();
     }
 
 
@@ -664,6 +2054,10 @@ public class IntArray {
      * */
     @Override
     public String toString() {
+        if (size == 0) {
+            return "";
+        }
+
         StringBuilder result = new StringBuilder();
         result.append(collection[0]);
 
@@ -0,0 +1,204 @@
+package collections;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Двоичный формат записи коллекций целочисленных значений в каналы и буферы (см. {@link IntCollection#writeTo}).
+ * Запись начинается с заголовка из {@link IntBinaryFormat#HEADER_SIZE} байт (сигнатура "INT1", количество элементов),
+ * за которым следуют значения элементов в порядке байтов little-endian.
+ * Значения переносятся пакетами через целочисленное представление {@link IntBuffer} промежуточного прямого буфера,
+ * без преобразования каждого значения по отдельности
+ * */
+final class IntBinaryFormat {
+    // CONSTANTS - константы класса
+    /**
+     * Сигнатура записи (байты "INT1" в порядке little-endian)
+     * */
+    static final int MAGIC = 0x31544E49;
+    /**
+     * Размер заголовка записи в байтах
+     * */
+    static final int HEADER_SIZE = 8;
+    /**
+     * Размер промежуточного буфера в байтах
+     * */
+    private static final int TRANSFER_SIZE = 1 << 16;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Класс содержит только статические методы
+     * */
+    private IntBinaryFormat() {
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Получение размера записи коллекции
+     * @param size Количество элементов
+     * @return Размер заголовка и значений элементов в байтах
+     * */
+    static long byteSize(int size) {
+        return HEADER_SIZE + (long) size * Integer.BYTES;
+    }
+
+    /**
+     * Выделение промежуточного буфера для переноса значений
+     * @param size Количество переносимых элементов (буфер не больше необходимого для них и заголовка)
+     * @return Прямой буфер с порядком байтов little-endian
+     * */
+    static ByteBuffer transferBuffer(int size) {
+        return ByteBuffer.allocateDirect((int) Math.min(TRANSFER_SIZE, byteSize(size))).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Запись всех байтов буфера в канал
+     * */
+    static void writeFully(WritableByteChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    /**
+     * Чтение из канала до заполнения буфера
+     * @exception EOFException Ошибка завершения канала до заполнения буфера
+     * */
+    static void readFully(ReadableByteChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes) < 0) {
+                throw new EOFException("Канал завершился до окончания записи коллекции");
+            }
+        }
+    }
+
+
+    // HEADER - заголовок записи
+    /**
+     * Добавление заголовка в промежуточный буфер
+     * @param transfer Промежуточный буфер
+     * @param size Количество элементов
+     * */
+    static void putHeader(ByteBuffer transfer, int size) {
+        transfer.putInt(MAGIC).putInt(size);
+    }
+
+    /**
+     * Чтение и проверка заголовка из канала (читаются ровно {@link IntBinaryFormat#HEADER_SIZE} байт)
+     * @param channel Канал
+     * @return Количество элементов записи
+     * @exception EOFException Ошибка завершения канала до окончания заголовка
+     * @exception StreamCorruptedException Ошибка неверной сигнатуры или количества элементов
+     * */
+    static int readHeader(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header);
+        int size = header.getInt(4);
+
+        if (header.getInt(0) != MAGIC || size < 0) {
+            throw new StreamCorruptedException("Канал не содержит записи коллекции");
+        }
+        return size;
+    }
+
+    /**
+     * Запись заголовка в буфер и получение представления для значений элементов.
+     * Позиция буфера не изменяется
+     * @param buffer Буфер
+     * @param size Количество элементов
+     * @return Целочисленное представление little-endian участка буфера после заголовка размером size значений
+     * @exception BufferOverflowException Ошибка недостатка места в буфере для всей записи
+     * */
+    static IntBuffer writeHeader(ByteBuffer buffer, int size) {
+        if (buffer.remaining() < byteSize(size)) {
+            throw new BufferOverflowException();
+        }
+        ByteBuffer record = buffer.slice(buffer.position(), (int) byteSize(size)).order(ByteOrder.LITTLE_ENDIAN);
+        putHeader(record, size);
+        return record.asIntBuffer();
+    }
+
+    /**
+     * Чтение и проверка заголовка из буфера и получение представления значений элементов.
+     * Позиция буфера не изменяется
+     * @param buffer Буфер
+     * @return Целочисленное представление little-endian значений элементов (количество элементов - его размер)
+     * @exception BufferUnderflowException Ошибка неполной записи в буфере
+     * @exception IllegalArgumentException Ошибка неверной сигнатуры или количества элементов
+     * */
+    static IntBuffer readHeader(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer header = buffer.slice(buffer.position(), HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        int size = header.getInt(4);
+
+        if (header.getInt(0) != MAGIC || size < 0) {
+            throw new IllegalArgumentException("Буфер не содержит записи коллекции");
+        }
+
+        if (buffer.remaining() < byteSize(size)) {
+            throw new BufferUnderflowException();
+        }
+        return buffer.slice(buffer.position() + HEADER_SIZE, size * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+
+    // TRANSFER - перенос значений
+    /**
+     * Запись значений в канал через промежуточный буфер (заполненный буфер записывается в канал и очищается)
+     * @param channel Канал
+     * @param transfer Промежуточный буфер (может содержать ещё не записанные байты)
+     * @param values Записываемые значения (от позиции до предела)
+     * */
+    static void write(WritableByteChannel channel, ByteBuffer transfer, IntBuffer values) throws IOException {
+        while (values.hasRemaining()) {
+            if (transfer.remaining() < Integer.BYTES) {
+                flush(channel, transfer);
+            }
+            int count = Math.min(values.remaining(), transfer.remaining() / Integer.BYTES);
+            int position = values.position();
+
+            transfer.asIntBuffer().put(values.slice(position, count));
+            transfer.position(transfer.position() + count * Integer.BYTES);
+            values.position(position + count);
+        }
+    }
+
+    /**
+     * Запись накопленных байтов промежуточного буфера в канал и очистка буфера
+     * */
+    static void flush(WritableByteChannel channel, ByteBuffer transfer) throws IOException {
+        transfer.flip();
+        writeFully(channel, transfer);
+        transfer.clear();
+    }
+
+    /**
+     * Чтение значений из канала через промежуточный буфер
+     * @param channel Канал
+     * @param transfer Промежуточный буфер
+     * @param values Приёмник значений (заполняется от позиции до предела)
+     * @exception EOFException Ошибка завершения канала до окончания значений
+     * */
+    static void read(ReadableByteChannel channel, ByteBuffer transfer, IntBuffer values) throws IOException {
+        while (values.hasRemaining()) {
+            int count = Math.min(values.remaining(), transfer.capacity() / Integer.BYTES);
+            transfer.clear().limit(count * Integer.BYTES);
+            readFully(channel, transfer);
+            transfer.flip();
+            values.put(transfer.asIntBuffer());
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package collections;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+/**
+ * Общий интерфейс коллекций целочисленных значений.
+ * Реализуется коллекциями в куче ({@link IntArray} и наследники) и вне кучи ({@link OffHeapIntArray} и наследники),
+ * поэтому вызывающий код может менять способ хранения элементов, не меняя остальной код.
+ * Методы, возвращающие {@link Integer} (null - для пустой коллекции), имеют варианты с окончанием OrDefault,
+ * которые возвращают int без упаковки и создания объектов, а вместо null - переданное значение по умолчанию
+ * */
+public interface IntCollection {
+    // GETTERS - получение данных
+    /**
+     * Получение элемента по индексу
+     * @param index Индекс возвращаемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @return Элемент по указанному индексу
+     * @exception NoSuchElementException Ошибка получения элемента из пустой коллекции
+     * */
+    int getElement(int index);
+
+    /**
+     * Получение элемента по индексу (если коллекция пуста, возвращается значение null)
+     * @param index Индекс возвращаемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @return Элемент по указанному индексу типа {@link Integer}
+     * */
+    Integer peek(int index);
+
+    /**
+     * Получение элемента по индексу без упаковки значения
+     * @param index Индекс возвращаемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Элемент по указанному индексу или defaultValue, если коллекция пуста
+     * */
+    int peekOrDefault(int index, int defaultValue);
+
+    /**
+     * Получение минимального значения элементов
+     * @return Минимальное значение элементов типа {@link Integer}
+     * */
+    Integer getMin();
+
+    /**
+     * Получение минимального значения элементов без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Минимальное значение элементов или defaultValue, если коллекция пуста
+     * */
+    int getMinOrDefault(int defaultValue);
+
+    /**
+     * Получение максимального значения элементов
+     * @return Максимальное значение элементов типа {@link Integer}
+     * */
+    Integer getMax();
+
+    /**
+     * Получение максимального значения элементов без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Максимальное значение элементов или defaultValue, если коллекция пуста
+     * */
+    int getMaxOrDefault(int defaultValue);
+
+    /**
+     * Получение элементов коллекции
+     * @return Новый массив всех элементов коллекции
+     * */
+    int[] getCollection();
+
+    /**
+     * Получение элементов от начального индекса до конца коллекции
+     * @return Новый массив элементов от начального индекса до конца коллекции
+     * */
+    int[] getCollection(int startIndex);
+
+    /**
+     * Получение элементов от начального индекса до конечного индекса
+     * @return Новый массив элементов от начального индекса до конечного индекса
+     * */
+    int[] getCollection(int startIndex, int endIndex);
+
+    /**
+     * Получение вместимости коллекции
+     * @return Вместимость коллекции
+     * */
+    int getCapacity();
+
+    /**
+     * Получение количества элементов коллекции
+     * @return Количество элементов коллекции
+     * */
+    int getSize();
+
+    /**
+     * Получение политики увеличения вместимости
+     * @return Политика увеличения вместимости при добавлении элемента в заполненную коллекцию
+     * */
+    GrowthPolicy getGrowthPolicy();
+
+    /**
+     * Установка политики увеличения вместимости при добавлении элемента в заполненную коллекцию
+     * @param growthPolicy Политика увеличения вместимости
+     * @exception IllegalArgumentException Ошибка указания пустой политики
+     * */
+    void setGrowthPolicy(GrowthPolicy growthPolicy);
+
+
+    // ADD - добавление данных
+    /**
+     * Добавление элемента в коллекцию
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения коллекции (если политика не позволяет увеличить вместимость)
+     * */
+    void add(int value);
+
+    /**
+     * Добавление элемента в коллекцию
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе - false
+     * */
+    boolean offer(int value);
+
+
+    // SETTERS - изменение данных
+    /**
+     * Установка значения элементу по указанному индексу
+     * @param index Индекс изменяемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @param value Новое значение изменяемого элемента
+     * @exception NoSuchElementException Ошибка изменения элемента пустой коллекции
+     * */
+    void setElement(int index, int value);
+
+    /**
+     * Установка нового значения всем элементам
+     * @param value Новое значение элементов
+     * @exception NoSuchElementException Ошибка изменения элементов пустой коллекции
+     * */
+    void setAll(int value);
+
+
+    // REMOVE - удаление данных
+    /**
+     * Удаление элемента по указанному индексу с возвращением удалённого элемента
+     * @param index Индекс удаляемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @return Удалённый элемент
+     * @exception NoSuchElementException Ошибка удаления элемента пустой коллекции
+     * */
+    int remove(int index);
+
+    /**
+     * Удаление элемента по указанному индексу с возвращением удалённого элемента
+     * @param index Индекс удаляемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @return Удалённый элемент типа {@link Integer}
+     * */
+    Integer poll(int index);
+
+    /**
+     * Удаление элемента по указанному индексу с возвращением удалённого элемента без упаковки значения
+     * @param index Индекс удаляемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Удалённый элемент или defaultValue, если коллекция пуста
+     * */
+    int pollOrDefault(int index, int defaultValue);
+
+    /**
+     * Очищение коллекции
+     * @exception NoSuchElementException Ошибка очищения пустой коллекции
+     * */
+    void clear();
+
+
+    // CHECK - проверка данных
+    /**
+     * Проверка наличия элемента с указанным значением
+     * @param value Проверяемое значение
+     * @return true - если в коллекции имеется элемент с проверяемым значением, иначе - false
+     * */
+    boolean contains(int value);
+
+
+    // SEARCH - поиск данных
+    /**
+     * Получение индекса первого элемента с указанным значением
+     * @param value Искомое значение
+     * @return Индекс элемента типа {@link Integer}.
+     * Если элемент не найден возвращается -1. Если коллекция пуста - возвращается null
+     * */
+    Integer indexOf(int value);
+
+    /**
+     * Получение индекса первого элемента с указанным значением без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое, если элемент не найден или коллекция пуста (обычно -1)
+     * @return Индекс элемента (от начала коллекции) или defaultValue
+     * */
+    int indexOfOrDefault(int value, int defaultValue);
+
+    /**
+     * Получение индекса последнего элемента с указанным значением
+     * @param value Искомое значение
+     * @return Индекс элемента типа {@link Integer}.
+     * Если элемент не найден возвращается -1. Если коллекция пуста - возвращается null
+     * */
+    Integer lastIndexOf(int value);
+
+    /**
+     * Получение индекса последнего элемента с указанным значением без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое, если элемент не найден или коллекция пуста (обычно -1)
+     * @return Индекс элемента (от начала коллекции) или defaultValue
+     * */
+    int lastIndexOfOrDefault(int value, int defaultValue);
+
+    /**
+     * Количество элементов с указанным значением
+     * @param value Искомое значение
+     * @return Количество элементов с указанным значением типа {@link Integer}.
+     * Если коллекция пуста - возвращается null
+     * */
+    Integer findCount(int value);
+
+    /**
+     * Количество элементов с указанным значением без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Количество элементов с указанным значением или defaultValue, если коллекция пуста
+     * */
+    int findCountOrDefault(int value, int defaultValue);
+
+
+    // SORT - сортировка данных
+    /**
+     * Сортировка элементов в порядке увеличения значений
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    boolean sort();
+
+    /**
+     * Сортировка элементов в порядке уменьшения значений
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    boolean reverseSort();
+
+
+    // REVERSE - перевёртывание данных
+    /**
+     * Перевёртывание элементов
+     * @exception NoSuchElementException Попытка перевёртывания элементов пустой коллекции
+     * */
+    void reverse();
+
+
+    // TRANSFORM - Трансформация данных
+    /**
+     * Увеличение вместимости в значение по умолчанию (в 1,5 раза, но не меньше чем на 1)
+     * */
+    void increaseCapacity();
+
+    /**
+     * Увеличение вместимости на указанное значение
+     * @param capacity Прирост вместимости
+     * */
+    void increaseCapacity(int capacity);
+
+    /**
+     * Перемена значений двух элементов с указанными индексами
+     * @param firstIndex Индекс первого элемента
+     * @param secondIndex Индекс второго элемента
+     * @exception NoSuchElementException Попытка изменения элементов пустой коллекции
+     * */
+    void transform(int firstIndex, int secondIndex);
+
+
+    // COPY - копирование данных
+    /**
+     * Копирование коллекции
+     * @return Новый массив вместимостью коллекции, начинающийся с её элементов
+     * */
+    int[] copy();
+
+
+    // UNION - объединение данных
+    /**
+     * Объединение коллекции с новой коллекцией элементов
+     * @param values Новая коллекция элементов
+     * @return Новый массив с элементами текущей коллекции и добавляемой коллекцией
+     * */
+    int[] concat(int... values);
+
+    /**
+     * Преобразование элементов в строку с указанным разделителем
+     * @param separator Строковый разделитель
+     * @return Строка из элементов, разделённых указанным разделителем
+     * */
+    String join(String separator);
+
+
+    // SUM - сложение данных
+    /**
+     * Сложение значений элементов
+     * @return Сумма элементов типа {@link Integer}
+     * */
+    Integer sum();
+
+    /**
+     * Сложение значений элементов без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Сумма элементов или defaultValue, если коллекция пуста
+     * */
+    int sumOrDefault(int defaultValue);
+
+
+    // STATISTICS - статистика данных
+    /**
+     * Получение статистики значений элементов (количество, сумма без переполнения, минимум, максимум,
+     * среднее и дисперсия), вычисленной за один проход
+     * @return Статистика значений элементов
+     * */
+    IntStatistics getStatistics();
+
+
+    // STREAM - потоки данных
+    /**
+     * Получение разделяемого обхода элементов в порядке индексов (SIZED, SUBSIZED, ORDERED)
+     * @return Обход элементов типа {@link Spliterator.OfInt}
+     * */
+    Spliterator.OfInt spliterator();
+
+    /**
+     * Получение последовательного потока значений элементов без копирования элементов
+     * @return Поток значений элементов
+     * */
+    IntStream intStream();
+
+    /**
+     * Получение параллельного потока значений элементов без копирования элементов
+     * @return Параллельный поток значений элементов
+     * */
+    IntStream parallelIntStream();
+
+
+    // IO - двоичная запись и чтение данных
+    /**
+     * Запись элементов в канал: заголовок из 8 байт (сигнатура "INT1", количество элементов)
+     * и значения элементов в порядке байтов little-endian
+     * @param channel Канал
+     * @exception IOException Ошибка записи в канал
+     * */
+    void writeTo(WritableByteChannel channel) throws IOException;
+
+    /**
+     * Запись элементов в буфер в формате {@link IntCollection#writeTo(WritableByteChannel)}
+     * (порядок байтов буфера не учитывается). Позиция буфера сдвигается на размер записи
+     * @param buffer Буфер
+     * @exception java.nio.BufferOverflowException Ошибка недостатка места в буфере (буфер не изменяется)
+     * */
+    void writeTo(ByteBuffer buffer);
+
+    /**
+     * Чтение элементов, записанных {@link IntCollection#writeTo(WritableByteChannel)}, и добавление их в конец коллекции
+     * @param channel Канал
+     * @return Количество добавленных элементов
+     * @exception IOException Ошибка чтения из канала, неверная или неполная запись (коллекция не изменяется)
+     * @exception ArrayStoreException Ошибка переполнения коллекции (если политика не позволяет увеличить вместимость)
+     * */
+    int readFrom(ReadableByteChannel channel) throws IOException;
+
+    /**
+     * Чтение элементов, записанных {@link IntCollection#writeTo(ByteBuffer)}, и добавление их в конец коллекции.
+     * Позиция буфера сдвигается на размер записи
+     * @param buffer Буфер
+     * @return Количество добавленных элементов
+     * @exception java.nio.BufferUnderflowException Ошибка неполной записи в буфере
+     * @exception IllegalArgumentException Ошибка неверной записи в буфере
+     * @exception ArrayStoreException Ошибка переполнения коллекции (если политика не позволяет увеличить вместимость)
+     * */
+    int readFrom(ByteBuffer buffer);
+}
@@ -0,0 +1,143 @@
+package collections;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Курсор для обхода элементов {@link IntArray}, {@link IntStack}, {@link IntQueue} и {@link IntDeque}
+ * в порядке индексов без упаковки значений. Курсор запоминает внутренний массив коллекции
+ * и проходит его кольцевые участки напрямую, без проверки индексов на каждом элементе.
+ * Изменение коллекции во время обхода обнаруживается по счётчику изменений и приводит
+ * к {@link ConcurrentModificationException}. Метод {@link IntCursor#reset()} возвращает курсор
+ * к первому элементу текущего состояния коллекции, поэтому один курсор можно использовать для многих обходов
+ * */
+public final class IntCursor implements PrimitiveIterator.OfInt {
+    // FIELDS - поля класса
+    private final IntArray owner;
+    private int[] array;
+    /**
+     * Индекс внутреннего массива следующего элемента
+     * */
+    private int index;
+    /**
+     * Вместимость внутреннего массива (индекс перехода к его началу)
+     * */
+    private int limit;
+    /**
+     * Количество оставшихся элементов
+     * */
+    private int remaining;
+    private int expectedModCount;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор курсора, установленного на первый элемент коллекции
+     * @param owner Обходимая коллекция
+     * */
+    IntCursor(IntArray owner) {
+        this.owner = owner;
+        reset();
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Установка курсора на первый элемент текущего состояния коллекции
+     * */
+    public void reset() {
+        array = owner.collection;
+        limit = owner.capacity;
+        index = owner.headIndex();
+        remaining = owner.size;
+        expectedModCount = owner.modCount;
+    }
+
+    /**
+     * Проверка отсутствия изменений коллекции с начала обхода
+     * @exception ConcurrentModificationException Ошибка изменения коллекции во время обхода
+     * */
+    private void checkModCount() {
+        if (owner.modCount != expectedModCount) {
+            throw new ConcurrentModificationException("Коллекция изменена во время обхода элементов");
+        }
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Проверка наличия следующего элемента
+     * @return true - если не все элементы пройдены, иначе - false
+     * */
+    @Override
+    public boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * Получение количества оставшихся элементов
+     * @return Количество не пройденных элементов
+     * */
+    public int remaining() {
+        return remaining;
+    }
+
+    /**
+     * Получение значения следующего элемента
+     * @return Значение следующего элемента
+     * @exception NoSuchElementException Ошибка обхода после последнего элемента
+     * @exception ConcurrentModificationException Ошибка изменения коллекции во время обхода
+     * */
+    @Override
+    public int nextInt() {
+        checkModCount();
+
+        if (remaining == 0) {
+            throw new NoSuchElementException("Все элементы коллекции пройдены");
+        }
+
+        if (index == limit) {
+            index = 0;
+        }
+        remaining--;
+        return array[index++];
+    }
+
+    /**
+     * Выполнение действия для каждого оставшегося элемента (не более двух участков внутреннего массива)
+     * @param action Действие над значением элемента
+     * @exception ConcurrentModificationException Ошибка изменения коллекции во время обхода
+     * */
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        Objects.requireNonNull(action);
+        checkModCount();
+
+        if (remaining == 0) {
+            return;
+        }
+
+        if (index == limit) {
+            index = 0;
+        }
+        int[] array = this.array;
+        int first = Math.min(remaining, limit - index);
+        int second = remaining - first;
+        int start = index;
+        // курсор завершает обход до вызова действий, как и при исключении внутри действия
+        index = (second == 0) ? start + first : second;
+        remaining = 0;
+
+        for (int i = start, end = start + first; i < end && owner.modCount == expectedModCount; i++) {
+            action.accept(array[i]);
+        }
+
+        for (int i = 0; i < second && owner.modCount == expectedModCount; i++) {
+            action.accept(array[i]);
+        }
+        checkModCount();
+    }
+}
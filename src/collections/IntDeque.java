@@ -1,13 +1,19 @@
 package collections;
 
+import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
-public class IntDeque extends IntStack {
+public class IntDeque extends IntStack implements IntDequeCollection {
     // FIELDS - поля класса
     /**
      * Индекс первого элемента двусторонней очереди
      * */
     protected int firstIndex;
+    /**
+     * Отслеживание минимального и максимального значений (null - отслеживание отключено)
+     * */
+    private IntMinMaxTracker minMaxTracker;
 
 
     // CONSTRUCTORS - конструкторы класса
@@ -48,25 +54,76 @@ public class IntDeque extends IntStack {
 
     // SERVICES - служебные методы
     /**
-     * Проверка допустимости индекса
-     * @param index Проверяемый индекс
-     * @exception ArrayIndexOutOfBoundsException Ошибка указания индекса за пределами вместимости двусторонней очереди
-     * @exception ArrayIndexOutOfBoundsException Ошибка отсутствия элемента по указанному индексу
+     * Получение индекса внутреннего массива, по которому расположен первый элемент двусторонней очереди
+     * @return Индекс первого элемента во внутреннем массиве
+     * */
+    @Override
+    protected int headIndex() {
+        return (size == 0) ? 0 : firstIndex;
+    }
+
+    /**
+     * Перемещение элементов двусторонней очереди в начало внутреннего массива с сохранением их порядка.
+     * После перемещения первый элемент находится по индексу 0, а последний - по индексу size - 1
      * */
     @Override
-    protected void checkIndex(int index) {
-        if (index == capacity || Math.abs(index) > capacity) {
-            throw new ArrayIndexOutOfBoundsException("Индекс " + index + " выходит за пределы вместимости двусторонней очереди");
+    protected void linearize() {
+        if (size == 0 || firstIndex == 0) {
+            return;
         }
 
-        if (firstIndex > lastIndex) {
-            if (index < firstIndex && index > lastIndex) {
-                throw new ArrayIndexOutOfBoundsException("Элемент по индексу" + index + " отсутствует");
-            }
+        if (firstIndex + size <= capacity) {
+            System.arraycopy(collection, firstIndex, collection, 0, size);
+            Arrays.fill(collection, size, firstIndex + size, 0);
         } else {
-            if (index < firstIndex || index > lastIndex) {
-                throw new ArrayIndexOutOfBoundsException("Элемент по индексу" + index + " отсутствует");
-            }
+            // элементы переходят через конец массива - циклический сдвиг массива влево на firstIndex
+            IntSort.reverse(collection, 0, firstIndex - 1);
+            IntSort.reverse(collection, firstIndex, capacity - 1);
+            IntSort.reverse(collection, 0, capacity - 1);
+        }
+        firstIndex = 0;
+        lastIndex = size - 1;
+        elementsRelocated();
+    }
+
+    /**
+     * Уменьшение количества элементов двусторонней очереди с сохранением первого элемента и обновлением индекса последнего
+     * @param newSize Новое количество элементов
+     * */
+    @Override
+    protected void truncate(int newSize) {
+        super.truncate(newSize);
+
+        if (newSize == 0) {
+            firstIndex = lastIndex = 0;
+        } else {
+            lastIndex = physicalIndex(newSize - 1);
+        }
+    }
+
+    /**
+     * Увеличение количества элементов двусторонней очереди с обновлением индекса последнего элемента
+     * (элементы пустой двусторонней очереди записываются с начала внутреннего массива)
+     * @param newSize Новое количество элементов
+     * */
+    @Override
+    protected void extend(int newSize) {
+        if (size == 0) {
+            firstIndex = 0;
+        }
+        super.extend(newSize);
+        lastIndex = physicalIndex(newSize - 1);
+    }
+
+    /**
+     * Пометка отслеживаемых минимума и максимума устаревшими после изменения элементов не на концах двусторонней очереди
+     * */
+    @Override
+    protected void elementsChanged() {
+        super.elementsChanged();
+
+        if (minMaxTracker != null) {
+            minMaxTracker.invalidate();
         }
     }
 
@@ -96,179 +153,68 @@ public class IntDeque extends IntStack {
     }
 
     /**
-     * Получение минимального значения элементов двусторонней очереди
-     * @return Минимальное значение элементов двусторонней очереди типа {@link Integer}
-     * */
-    @Override
-    public Integer getMin() {
+     * Получение элемента из начала двусторонней очереди без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой двусторонней очереди
+     * @return Элемент начала двусторонней очереди или defaultValue, если двусторонняя очередь пуста
+     * **/
+    public int peekFirstOrDefault(int defaultValue) {
         if (size == 0) {
-            return null;
-        }
-        int min = Integer.MAX_VALUE;
-
-        if (firstIndex <= lastIndex) {
-            for (int i = 0; i < size; i++) {
-                if (collection[i] < min) {
-                    min = collection[i];
-                }
-            }
-        } else {
-            for (int i = firstIndex; i < capacity; i++) {
-                if (collection[i] < min) {
-                    min = collection[i];
-                }
-            }
-
-            for (int i = 0; i <= lastIndex; i++) {
-                if (collection[i] < min) {
-                    min = collection[i];
-                }
-            }
+            return defaultValue;
         }
-        return min;
+        return collection[firstIndex];
     }
 
     /**
-     * Получение максимального значения элементов двусторонней очереди
-     * @return Максимальное значение элементов двусторонней очереди типа {@link Integer}
+     * Получение минимального значения элементов двусторонней очереди без упаковки значения.
+     * В режиме отслеживания (см. {@link IntDeque#setMinMaxTracking(boolean)}) выполняется за O(1)
+     * @param defaultValue Значение, возвращаемое для пустой двусторонней очереди
+     * @return Минимальное значение элементов двусторонней очереди или defaultValue, если двусторонняя очередь пуста
      * */
     @Override
-    public Integer getMax() {
+    public int getMinOrDefault(int defaultValue) {
         if (size == 0) {
-            return null;
+            return defaultValue;
         }
-        int max = Integer.MIN_VALUE;
 
-        if (firstIndex <= lastIndex) {
-            for (int i = 0; i < size; i++) {
-                if (collection[i] > max) {
-                    max = collection[i];
-                }
-            }
-        } else {
-            for (int i = firstIndex; i < capacity; i++) {
-                if (collection[i] > max) {
-                    max = collection[i];
-                }
-            }
-
-            for (int i = 0; i <= lastIndex; i++) {
-                if (collection[i] > max) {
-                    max = collection[i];
-                }
-            }
+        if (minMaxTracker == null) {
+            return super.getMinOrDefault(defaultValue);
         }
-        return max;
-    }
-
 
-    /**
-     * Получение двусторонней очереди элементов
-     * @return Полная двусторонняя очередь элементов
-     * */
-    @Override
-    public int[] getCollection() {
-        if (size == 0) {
-            return null;
-        }
-        int[] newCollection = new int[size];
-
-        if (firstIndex <= lastIndex) {
-            for (int i = 0, j = firstIndex; j <= lastIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-        } else {
-            int i = 0;
-
-            for (int j = firstIndex; j < capacity; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-
-            for (int j = 0; j <= lastIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
+        if (minMaxTracker.isStale()) {
+            minMaxTracker.rebuild(collection, headIndex(), size);
         }
-        return newCollection;
+        return minMaxTracker.getMin();
     }
 
     /**
-     * Получение элементов двусторонней очереди от начального индекса до конца двусторонней очереди
-     * @return Новый массив элементов от начального индекса до конца двусторонней очереди
+     * Получение максимального значения элементов двусторонней очереди без упаковки значения.
+     * В режиме отслеживания (см. {@link IntDeque#setMinMaxTracking(boolean)}) выполняется за O(1)
+     * @param defaultValue Значение, возвращаемое для пустой двусторонней очереди
+     * @return Максимальное значение элементов двусторонней очереди или defaultValue, если двусторонняя очередь пуста
      * */
     @Override
-    public int[] getCollection(int startIndex) {
+    public int getMaxOrDefault(int defaultValue) {
         if (size == 0) {
-            return null;
+            return defaultValue;
         }
-        checkIndex(startIndex);
-        startIndex = transformIndex(startIndex);
-
-        int newSize = 0;
-        int[] newCollection;
-
-        if (firstIndex <= lastIndex) {
-            newSize = lastIndex - startIndex + 1;
-            newCollection = new int[newSize];
 
-            for (int i = 0, j = startIndex; j <= lastIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-        } else {
-            newSize = (capacity - startIndex) + lastIndex;
-            newCollection = new int[newSize];
-            int i = 0;
-
-            for (int j = startIndex; j < capacity; i++, j++) {
-                newCollection[i] = collection[j];
-            }
+        if (minMaxTracker == null) {
+            return super.getMaxOrDefault(defaultValue);
+        }
 
-            for (int j = 0; j <= lastIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
+        if (minMaxTracker.isStale()) {
+            minMaxTracker.rebuild(collection, headIndex(), size);
         }
-        return newCollection;
+        return minMaxTracker.getMax();
     }
 
     /**
-     * Получение элементов двусторонней очереди от начального индекса до конечного индекса
-     * @return Новый массив элементов от начального индекса до конечного индекса двусторонней очереди
+     * Проверка режима отслеживания минимума и максимума
+     * @return true - если минимум и максимум отслеживаются при добавлении и удалении элементов, иначе - false
      * */
     @Override
-    public int[] getCollection(int startIndex,int endIndex) {
-        if (size == 0) {
-            return null;
-        }
-        checkIndex(startIndex);
-        checkIndex(endIndex);
-
-        int newStartIndex = transformIndex(startIndex);
-        int newEndIndex = transformIndex(endIndex);
-        checkIndexes(newStartIndex, newEndIndex, startIndex, endIndex);
-
-        int newSize = 0;
-        int[] newCollection;
-
-        if (firstIndex <= lastIndex) {
-            newSize = newEndIndex - newStartIndex + 1;
-            newCollection = new int[newSize];
-
-            for (int i = 0, j = startIndex; j <= newEndIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-        } else {
-            newSize = (capacity - newStartIndex) + newEndIndex;
-            newCollection = new int[newSize];
-            int i = 0;
-
-            for (int j = newStartIndex; j < capacity; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-
-            for (int j = 0; j <= newEndIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-        }
-        return newCollection;
+    public boolean isMinMaxTracking() {
+        return minMaxTracker != null;
     }
 
 
@@ -276,14 +222,14 @@ public class IntDeque extends IntStack {
     /**
      * Добавление элемента в начало двусторонней очереди
      * @param value Значение добавляемого элемента
-     * @exception ArrayStoreException Ошибка переполнения очереди
+     * @exception ArrayStoreException Ошибка переполнения очереди (если политика не позволяет увеличить вместимость)
      * **/
     public void addFirst(int value) {
-        if (size == capacity) {
+        if (size == capacity && !grow(size + 1)) {
             throw new ArrayStoreException("Двусторонняя очередь заполнена. Добавление нового элемента невозможно");
         }
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             firstIndex--;
@@ -294,6 +240,11 @@ public class IntDeque extends IntStack {
         }
         collection[firstIndex] = value;
         size++;
+
+        if (minMaxTracker != null) {
+            minMaxTracker.pushFirst(value);
+        }
+        elementAdded(value);
     }
 
     /**
@@ -302,11 +253,11 @@ public class IntDeque extends IntStack {
      * @return true - если новый элемент добавлен, иначе - false
      * **/
     public boolean offerFirst(int value) {
-        if (size == capacity) {
+        if (size == capacity && !grow(size + 1)) {
             return false;
         }
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             firstIndex--;
@@ -318,6 +269,11 @@ public class IntDeque extends IntStack {
 
         collection[firstIndex] = value;
         size++;
+
+        if (minMaxTracker != null) {
+            minMaxTracker.pushFirst(value);
+        }
+        elementAdded(value);
         return true;
     }
 
@@ -334,15 +290,15 @@ public class IntDeque extends IntStack {
     /**
      * Добавление элемента в конец двусторонней очереди
      * @param value Значение добавляемого элемента
-     * @exception ArrayStoreException Ошибка переполнения двусторонней очереди
+     * @exception ArrayStoreException Ошибка переполнения двусторонней очереди (если политика не позволяет увеличить вместимость)
      * **/
     @Override
     public void addLast(int value) {
-        if (size == capacity) {
+        if (size == capacity && !grow(size + 1)) {
             throw new ArrayStoreException("Двусторонняя очередь заполнена. Добавление нового элемента невозможно");
         }
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             lastIndex++;
@@ -354,6 +310,11 @@ public class IntDeque extends IntStack {
 
         collection[lastIndex] = value;
         size++;
+
+        if (minMaxTracker != null) {
+            minMaxTracker.pushLast(value);
+        }
+        elementAdded(value);
     }
 
     /**
@@ -374,11 +335,11 @@ public class IntDeque extends IntStack {
      * **/
     @Override
     public boolean offerLast(int value) {
-        if (size == capacity) {
+        if (size == capacity && !grow(size + 1)) {
             return false;
         }
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             lastIndex++;
@@ -390,11 +351,178 @@ public class IntDeque extends IntStack {
 
         collection[lastIndex] = value;
         size++;
+
+        if (minMaxTracker != null) {
+            minMaxTracker.pushLast(value);
+        }
+        elementAdded(value);
         return true;
     }
 
 
+    /**
+     * Пакетное добавление значений в конец двусторонней очереди
+     * @param values Добавляемые значения
+     * @exception ArrayStoreException Ошибка переполнения двусторонней очереди
+     * (если политика не позволяет увеличить вместимость)
+     * */
+    public void addAll(int[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Пакетное добавление участка массива в конец двусторонней очереди.
+     * Значения копируются не более чем двумя вызовами {@link System#arraycopy} (до конца внутреннего массива и с его начала)
+     * @param values Массив добавляемых значений
+     * @param offset Индекс первого добавляемого значения
+     * @param length Количество добавляемых значений
+     * @exception IndexOutOfBoundsException Ошибка выхода участка за пределы массива
+     * @exception ArrayStoreException Ошибка переполнения двусторонней очереди
+     * (если политика не позволяет увеличить вместимость)
+     * */
+    public void addAll(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+
+        if (length == 0) {
+            return;
+        }
+
+        if (!ensureFree(length)) {
+            throw new ArrayStoreException("Двусторонняя очередь заполнена. Добавление " + length + " элементов невозможно");
+        }
+
+        int start;
+
+        if (size == 0) {
+            start = firstIndex = 0;
+        } else {
+            start = (lastIndex + 1 == capacity) ? 0 : lastIndex + 1;
+        }
+        ringCopyFrom(values, offset, start, length);
+
+        lastIndex = start + length - 1;
+
+        if (lastIndex >= capacity) {
+            lastIndex -= capacity;
+        }
+        size += length;
+
+        if (minMaxTracker != null) {
+            for (int i = offset; i < offset + length; i++) {
+                minMaxTracker.pushLast(values[i]);
+            }
+        }
+        elementsAdded(values, offset, length);
+    }
+
+    /**
+     * Пакетное добавление значений в начало двусторонней очереди
+     * @param values Добавляемые значения
+     * @exception ArrayStoreException Ошибка переполнения двусторонней очереди
+     * (если политика не позволяет увеличить вместимость)
+     * */
+    public void addAllFirst(int[] values) {
+        addAllFirst(values, 0, values.length);
+    }
+
+    /**
+     * Пакетное добавление участка массива в начало двусторонней очереди с сохранением порядка значений
+     * (первым элементом очереди становится values[offset]).
+     * Значения копируются не более чем двумя вызовами {@link System#arraycopy}
+     * @param values Массив добавляемых значений
+     * @param offset Индекс первого добавляемого значения
+     * @param length Количество добавляемых значений
+     * @exception IndexOutOfBoundsException Ошибка выхода участка за пределы массива
+     * @exception ArrayStoreException Ошибка переполнения двусторонней очереди
+     * (если политика не позволяет увеличить вместимость)
+     * */
+    public void addAllFirst(int[] values, int offset, int length) {
+        if (size == 0) {
+            addAll(values, offset, length);
+            return;
+        }
+        Objects.checkFromIndexSize(offset, length, values.length);
+
+        if (length == 0) {
+            return;
+        }
+
+        if (!ensureFree(length)) {
+            throw new ArrayStoreException("Двусторонняя очередь заполнена. Добавление " + length + " элементов невозможно");
+        }
+
+        int start = firstIndex - length;
+
+        if (start < 0) {
+            start += capacity;
+        }
+        ringCopyFrom(values, offset, start, length);
+
+        firstIndex = start;
+        size += length;
+
+        if (minMaxTracker != null) {
+            for (int i = offset + length - 1; i >= offset; i--) {
+                minMaxTracker.pushFirst(values[i]);
+            }
+        }
+        elementsAdded(values, offset, length);
+    }
+
+    /**
+     * Вставка элемента в указанную позицию двусторонней очереди.
+     * Сдвигается более короткая сторона двусторонней очереди (элементы перед позицией - к началу, либо элементы с позиции - к концу)
+     * вызовами {@link System#arraycopy}, поэтому перемещается не более size / 2 элементов
+     * @param index Позиция вставляемого элемента от 0 (в начало) до size (в конец)
+     * @param value Значение вставляемого элемента
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода позиции за пределы двусторонней очереди
+     * @exception ArrayStoreException Ошибка переполнения двусторонней очереди (если политика не позволяет увеличить вместимость)
+     * */
+    @Override
+    public void insert(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Позиция " + index + " выходит за пределы двусторонней очереди размера " + size);
+        }
+
+        if (size == capacity && !grow(size + 1)) {
+            throw new ArrayStoreException("Двусторонняя очередь заполнена. Вставка нового элемента невозможна");
+        }
+
+        if (size == 0) {
+            firstIndex = lastIndex = 0;
+        } else if (index < size - index) {
+            firstIndex = (firstIndex == 0) ? capacity - 1 : firstIndex - 1;
+            ringMove(1, 0, index);
+        } else {
+            lastIndex = (lastIndex + 1 == capacity) ? 0 : lastIndex + 1;
+            ringMove(index, index + 1, size - index);
+        }
+        size++;
+        collection[physicalIndex(index)] = value;
+        elementAdded(value);
+        elementsChanged();
+    }
+
+
     // SETTERS - изменение данных
+    /**
+     * Включение или отключение режима отслеживания минимума и максимума.
+     * В режиме отслеживания {@link IntDeque#getMin()} и {@link IntDeque#getMax()} выполняются за O(1),
+     * а добавление и удаление на обоих концах двусторонней очереди - за амортизированное O(1)
+     * с дополнительной памятью три int на элемент. Другие изменения элементов (установка значений, сортировка,
+     * удаление по индексу) приводят к пересчёту при следующем запросе минимума или максимума
+     * @param enabled true - включить отслеживание, false - отключить
+     * */
+    @Override
+    public void setMinMaxTracking(boolean enabled) {
+        if (!enabled) {
+            minMaxTracker = null;
+        } else if (minMaxTracker == null) {
+            minMaxTracker = new IntMinMaxTracker();
+            minMaxTracker.rebuild(collection, headIndex(), size);
+        }
+    }
+
     /**
      * Установка значения первому элементу двусторонней очереди
      * @param value Новое значение первого элемента двусторонней очереди
@@ -404,120 +532,67 @@ public class IntDeque extends IntStack {
         if (size == 0) {
             throw new NoSuchElementException("Двусторонняя очередь пуста. Элементов для изменения значений нет");
         }
+        elementRemoved(collection[firstIndex]);
         collection[firstIndex] = value;
+        elementAdded(value);
+        elementsChanged();
     }
 
 
     // REMOVE - удаление данных
     /**
-     * Удаление элемента двусторонней очереди по указанному индексу с возвращением удалённого элемента
+     * Удаление элемента двусторонней очереди по указанному индексу с возвращением удалённого элемента.
+     * Сдвигается более короткая сторона двусторонней очереди (элементы перед удаляемым - к концу, либо элементы после него - к началу)
+     * вызовами {@link System#arraycopy}, поэтому перемещается не более size / 2 элементов
      * @param index Индекс удаляемого элемента
      *              (положительный - с начала двусторонней очереди, отрицательный - с конца двусторонней очереди)
      * @return Удалённый элемент двусторонней очереди
      * @exception NoSuchElementException Ошибка удаления элемента пустой двусторонней очереди
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода индекса за пределы двусторонней очереди
      * */
+    @Override
     public int remove(int index) {
         if (size == 0) {
             throw new NoSuchElementException("В двусторонней очереди отсутствуют элементы");
         }
+
         checkIndex(index);
         index = transformIndex(index);
-        index += firstIndex;
-        int value = 0;
-
-        if (firstIndex <= lastIndex) {
-            value = collection[index];
-
-            for (int i = index; i <= lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
-        } else if (index < capacity) {
-            for (int i = index; i < capacity - 1; i++) {
-                collection[i] = collection[i + 1];
-            }
+        int value = collection[physicalIndex(index)];
 
-            collection[capacity - 1] = collection[0];
-
-            for (int i = 0; i <lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
+        if (index < size - 1 - index) {
+            ringMove(0, 1, index);
+            collection[firstIndex] = 0;
+            firstIndex = (firstIndex + 1 == capacity) ? 0 : firstIndex + 1;
         } else {
-            index -= capacity;
-            value = collection[index];
-
-            for (int i = index; i <= lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
+            ringMove(index + 1, index, size - 1 - index);
+            collection[lastIndex] = 0;
+            lastIndex = (lastIndex == 0) ? capacity - 1 : lastIndex - 1;
         }
-
-        collection[lastIndex] = 0;
-        lastIndex--;
         size--;
 
-        if (lastIndex == -1) {
-            lastIndex = capacity - 1;
-        }
-
         if (size == 0) {
             firstIndex = 0;
             lastIndex = 0;
         }
+        elementRemoved(value);
+        elementsCompacted();
         return value;
     }
 
     /**
      * Удаление элемента двусторонней очереди по указанному индексу с возвращением удалённого элемента
+     * (сдвигается более короткая сторона, см. {@link #remove(int)})
      * @param index Индекс удаляемого элемента
      *              (положительный - с начала двусторонней очереди, отрицательный - с конца двусторонней очереди)
-     * @return Удалённый элемент двусторонней очереди типа {@link Integer}
+     * @return Удалённый элемент двусторонней очереди типа {@link Integer}. Если двусторонняя очередь пуста - возвращается null
      * */
+    @Override
     public Integer poll(int index) {
         if (size == 0) {
-            throw new NoSuchElementException("В двусторонней очереди отсутствуют элементы");
-        }
-        checkIndex(index);
-        index = transformIndex(index);
-        index += firstIndex;
-        int value = 0;
-
-        if (firstIndex <= lastIndex) {
-            value = collection[index];
-
-            for (int i = index; i <= lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
-        } else if (index < capacity) {
-            for (int i = index; i < capacity - 1; i++) {
-                collection[i] = collection[i + 1];
-            }
-
-            collection[capacity - 1] = collection[0];
-
-            for (int i = 0; i <lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
-        } else {
-            index -= capacity;
-            value = collection[index];
-
-            for (int i = index; i <= lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
-        }
-
-        collection[lastIndex] = 0;
-        lastIndex--;
-        size--;
-
-        if (lastIndex == -1) {
-            lastIndex = capacity - 1;
-        }
-
-        if (size == 1) {
-            firstIndex = 0;
-            lastIndex = 0;
+            return null;
         }
-        return value;
+        return remove(index);
     }
 
     /**
@@ -534,7 +609,7 @@ public class IntDeque extends IntStack {
         collection[firstIndex] = 0;
         size--;
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             firstIndex++;
@@ -543,6 +618,11 @@ public class IntDeque extends IntStack {
                 firstIndex = 0;
             }
         }
+
+        if (minMaxTracker != null) {
+            minMaxTracker.popFirst();
+        }
+        elementRemoved(value);
         return value;
     }
 
@@ -559,7 +639,7 @@ public class IntDeque extends IntStack {
         collection[firstIndex] = 0;
         size--;
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             firstIndex++;
@@ -568,9 +648,26 @@ public class IntDeque extends IntStack {
                 firstIndex = 0;
             }
         }
+
+        if (minMaxTracker != null) {
+            minMaxTracker.popFirst();
+        }
+        elementRemoved(value);
         return value;
     }
 
+    /**
+     * Удаление элемента из начала двусторонней очереди с возвращением удалённого элемента без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой двусторонней очереди
+     * @return Удалённый элемент двусторонней очереди или defaultValue, если двусторонняя очередь пуста
+     * **/
+    public int pollFirstOrDefault(int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        return removeFirst();
+    }
+
     /**
      * Удаление элемента из конца двусторонней очереди с возвращением удалённого элемента
      * @return Удалённый элемент двусторонней очереди
@@ -586,7 +683,7 @@ public class IntDeque extends IntStack {
         collection[lastIndex] = 0;
         size--;
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             lastIndex--;
@@ -595,6 +692,11 @@ public class IntDeque extends IntStack {
                 lastIndex = capacity - 1;
             }
         }
+
+        if (minMaxTracker != null) {
+            minMaxTracker.popLast();
+        }
+        elementRemoved(value);
         return value;
     }
 
@@ -612,7 +714,7 @@ public class IntDeque extends IntStack {
         collection[lastIndex] = 0;
         size--;
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             lastIndex--;
@@ -621,9 +723,145 @@ public class IntDeque extends IntStack {
                 lastIndex = capacity - 1;
             }
         }
+
+        if (minMaxTracker != null) {
+            minMaxTracker.popLast();
+        }
+        elementRemoved(value);
         return value;
     }
 
+    /**
+     * Пакетное удаление элементов из начала двусторонней очереди в массив
+     * @param target Массив-приёмник
+     * @return Количество перенесённых элементов
+     * */
+    public int drainTo(int[] target) {
+        return drainTo(target, 0, target.length);
+    }
+
+    /**
+     * Пакетное удаление элементов из начала двусторонней очереди в участок массива с сохранением их порядка.
+     * Элементы копируются не более чем двумя вызовами {@link System#arraycopy}
+     * @param target Массив-приёмник
+     * @param offset Индекс массива-приёмника для первого элемента
+     * @param maxCount Наибольшее количество переносимых элементов
+     * @return Количество перенесённых элементов
+     * @exception IndexOutOfBoundsException Ошибка выхода участка за пределы массива
+     * */
+    public int drainTo(int[] target, int offset, int maxCount) {
+        Objects.checkFromIndexSize(offset, maxCount, target.length);
+        int count = Math.min(size, maxCount);
+
+        if (count == 0) {
+            return 0;
+        }
+        ringCopyTo(firstIndex, target, offset, count);
+        ringClear(firstIndex, count);
+        size -= count;
+
+        if (size == 0) {
+            firstIndex = lastIndex = 0;
+        } else {
+            firstIndex += count;
+
+            if (firstIndex >= capacity) {
+                firstIndex -= capacity;
+            }
+        }
+
+        if (minMaxTracker != null) {
+            for (int i = 0; i < count; i++) {
+                minMaxTracker.popFirst();
+            }
+        }
+        elementsRemoved(target, offset, count);
+        return count;
+    }
+
+    /**
+     * Пакетное удаление элементов из конца двусторонней очереди в массив
+     * @param target Массив-приёмник
+     * @return Количество перенесённых элементов
+     * */
+    public int drainLastTo(int[] target) {
+        return drainLastTo(target, 0, target.length);
+    }
+
+    /**
+     * Пакетное удаление последних элементов двусторонней очереди в участок массива.
+     * Удалённые элементы записываются в порядке очереди (последний элемент очереди - в конец перенесённого участка).
+     * Элементы копируются не более чем двумя вызовами {@link System#arraycopy}
+     * @param target Массив-приёмник
+     * @param offset Индекс массива-приёмника для первого элемента
+     * @param maxCount Наибольшее количество переносимых элементов
+     * @return Количество перенесённых элементов
+     * @exception IndexOutOfBoundsException Ошибка выхода участка за пределы массива
+     * */
+    public int drainLastTo(int[] target, int offset, int maxCount) {
+        Objects.checkFromIndexSize(offset, maxCount, target.length);
+        int count = Math.min(size, maxCount);
+
+        if (count == 0) {
+            return 0;
+        }
+        int start = lastIndex - count + 1;
+
+        if (start < 0) {
+            start += capacity;
+        }
+        ringCopyTo(start, target, offset, count);
+        ringClear(start, count);
+        size -= count;
+
+        if (size == 0) {
+            firstIndex = lastIndex = 0;
+        } else {
+            lastIndex = (start == 0) ? capacity - 1 : start - 1;
+        }
+
+        if (minMaxTracker != null) {
+            for (int i = 0; i < count; i++) {
+                minMaxTracker.popLast();
+            }
+        }
+        elementsRemoved(target, offset, count);
+        return count;
+    }
+
+
+    // SORT - сортировка данных
+    /**
+     * Сортировка элементов двусторонней очереди в порядке увеличения значений.
+     * Элементы предварительно перемещаются в начало внутреннего массива (см. {@link IntDeque#linearize()})
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    @Override
+    public boolean sort() {
+        linearize();
+        return super.sort();
+    }
+
+    /**
+     * Сортировка элементов двусторонней очереди в порядке уменьшения значений.
+     * Элементы предварительно перемещаются в начало внутреннего массива (см. {@link IntDeque#linearize()})
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    @Override
+    public boolean reverseSort() {
+        if (size == 0) {
+            return false;
+        }
+        linearize();
+        boolean changed = IntSort.reverseSort(collection, 0, size);
+
+        if (changed) {
+            elementsChanged();
+        }
+        return changed;
+    }
+
+
     // TO_STRING - строковое преобразование данных
     /**
      * Вывод содержимого элементов очереди в виде строки
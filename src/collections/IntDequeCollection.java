@@ -0,0 +1,23 @@
+package collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Общий интерфейс двусторонних очередей целочисленных значений ({@link IntDeque}, {@link OffHeapIntDeque})
+ * */
+public interface IntDequeCollection extends IntStackCollection, IntQueueCollection {
+    /**
+     * Добавление элемента в начало двусторонней очереди
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения двусторонней очереди
+     * (если политика не позволяет увеличить вместимость)
+     * */
+    void addFirst(int value);
+
+    /**
+     * Добавление элемента в начало двусторонней очереди
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе - false
+     * */
+    boolean offerFirst(int value);
+}
@@ -0,0 +1,275 @@
+package collections;
+
+import java.util.Arrays;
+
+/**
+ * Хеш-индекс значений элементов коллекции: открытая адресация с линейным пробированием
+ * (значение - количество элементов с этим значением - индекс внутреннего массива первого из них).
+ * Количество обновляется точно при каждом добавлении и удалении, поэтому проверка наличия и подсчёт выполняются за O(1).
+ * Индекс первого элемента хранится как индекс внутреннего массива: добавление и удаление на концах кольцевой коллекции
+ * не перемещают остальные элементы. Перемещение элементов помечает индексы устаревшими - владелец коллекции
+ * восстанавливает их одним проходом ({@link IntHashIndex#rebuildPositions}) при следующем поиске
+ * */
+final class IntHashIndex {
+    // CONSTANTS - константы класса
+    private static final int MIN_TABLE_SIZE = 16;
+    /**
+     * Индекс первого элемента неизвестен (находится просмотром элементов при поиске)
+     * */
+    static final int UNKNOWN = -1;
+
+
+    // FIELDS - поля класса
+    private int[] keys = new int[MIN_TABLE_SIZE];
+    /**
+     * Количество элементов со значением (0 - ячейка таблицы свободна)
+     * */
+    private int[] counts = new int[MIN_TABLE_SIZE];
+    /**
+     * Индекс внутреннего массива первого элемента со значением или {@link IntHashIndex#UNKNOWN}
+     * */
+    private int[] firsts = new int[MIN_TABLE_SIZE];
+    /**
+     * Количество различных значений
+     * */
+    private int distinct;
+    /**
+     * Признак устаревших индексов первых элементов (элементы перемещались во внутреннем массиве)
+     * */
+    private boolean positionsStale;
+
+
+    // SERVICES - служебные методы
+    /**
+     * Ячейка таблицы, с которой начинается пробирование для значения
+     * */
+    private int slot(int value) {
+        int hash = value * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (keys.length - 1);
+    }
+
+    /**
+     * Поиск ячейки таблицы со значением
+     * @return Индекс ячейки или -1, если значения нет
+     * */
+    private int find(int value) {
+        int mask = keys.length - 1;
+
+        for (int i = slot(value); counts[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Увеличение таблицы вдвое (заполненность таблицы не превышает половины)
+     * */
+    private void rehash() {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        int[] oldFirsts = firsts;
+        keys = new int[oldKeys.length << 1];
+        counts = new int[oldKeys.length << 1];
+        firsts = new int[oldKeys.length << 1];
+        int mask = keys.length - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldCounts[i] != 0) {
+                int j = slot(oldKeys[i]);
+
+                while (counts[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                counts[j] = oldCounts[i];
+                firsts[j] = oldFirsts[i];
+            }
+        }
+    }
+
+    /**
+     * Освобождение ячейки таблицы со сдвигом следующих значений цепочки пробирования на её место
+     * */
+    private void delete(int index) {
+        int mask = keys.length - 1;
+        int gap = index;
+
+        for (int i = (index + 1) & mask; counts[i] != 0; i = (i + 1) & mask) {
+            int home = slot(keys[i]);
+
+            // значение можно перенести в освободившуюся ячейку, если она лежит между его начальной ячейкой и текущей
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                counts[gap] = counts[i];
+                firsts[gap] = firsts[i];
+                gap = i;
+            }
+        }
+        counts[gap] = 0;
+        distinct--;
+    }
+
+    /**
+     * Удаление всех значений
+     * */
+    void clear() {
+        if (keys.length > MIN_TABLE_SIZE) {
+            keys = new int[MIN_TABLE_SIZE];
+            counts = new int[MIN_TABLE_SIZE];
+            firsts = new int[MIN_TABLE_SIZE];
+        } else {
+            Arrays.fill(counts, 0);
+        }
+        distinct = 0;
+        positionsStale = false;
+    }
+
+    /**
+     * Пометка индексов первых элементов устаревшими
+     * */
+    void invalidatePositions() {
+        positionsStale = true;
+    }
+
+    /**
+     * Проверка устаревших индексов первых элементов
+     * @return true - если индексы нужно восстановить методом {@link IntHashIndex#rebuildPositions}
+     * */
+    boolean isPositionsStale() {
+        return positionsStale;
+    }
+
+    /**
+     * Восстановление индексов первых элементов одним проходом по элементам кольцевого массива
+     * @param array Внутренний массив коллекции
+     * @param head Индекс первого элемента во внутреннем массиве
+     * @param size Количество элементов
+     * */
+    void rebuildPositions(int[] array, int head, int size) {
+        Arrays.fill(firsts, UNKNOWN);
+
+        for (int i = 0, index = head; i < size; i++) {
+            int slot = find(array[index]);
+
+            if (firsts[slot] == UNKNOWN) {
+                firsts[slot] = index;
+            }
+
+            if (++index == array.length) {
+                index = 0;
+            }
+        }
+        positionsStale = false;
+    }
+
+    /**
+     * Получение занимаемой индексом памяти (массивы таблицы с заголовками)
+     * @return Размер в байтах
+     * */
+    long memoryUsage() {
+        return 3 * (16 + 4L * keys.length);
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение количества элементов со значением
+     * */
+    int count(int value) {
+        int index = find(value);
+        return (index < 0) ? 0 : counts[index];
+    }
+
+    /**
+     * Получение индекса внутреннего массива первого элемента со значением (индексы не устарели)
+     * @return Индекс внутреннего массива или {@link IntHashIndex#UNKNOWN}
+     * */
+    int first(int value) {
+        int index = find(value);
+        return (index < 0) ? UNKNOWN : firsts[index];
+    }
+
+    /**
+     * Установка найденного просмотром индекса внутреннего массива первого элемента со значением
+     * */
+    void setFirst(int value, int position) {
+        int index = find(value);
+
+        if (index >= 0) {
+            firsts[index] = position;
+        }
+    }
+
+
+    // ADD - добавление данных
+    /**
+     * Учёт добавленного элемента
+     * @param value Значение элемента
+     * @param position Индекс внутреннего массива первого элемента со значением, если он известен
+     *                 (иначе - {@link IntHashIndex#UNKNOWN})
+     * @return Количество элементов со значением до добавления
+     * */
+    int add(int value, int position) {
+        int index = find(value);
+
+        if (index >= 0) {
+            if (position != UNKNOWN) {
+                firsts[index] = position;
+            }
+            return counts[index]++;
+        }
+
+        if ((distinct + 1) << 1 > keys.length) {
+            rehash();
+        }
+        int mask = keys.length - 1;
+        index = slot(value);
+
+        while (counts[index] != 0) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = value;
+        counts[index] = 1;
+        firsts[index] = position;
+        distinct++;
+        return 0;
+    }
+
+    /**
+     * Замена всех значений указанным количеством одинаковых значений
+     * @param value Значение
+     * @param count Количество значений
+     * @param position Индекс внутреннего массива первого элемента
+     * */
+    void fill(int value, int count, int position) {
+        clear();
+
+        if (count > 0) {
+            add(value, position);
+            counts[find(value)] = count;
+        }
+    }
+
+
+    // REMOVE - удаление данных
+    /**
+     * Учёт удалённого элемента
+     * @param value Значение элемента
+     * @return Количество оставшихся элементов со значением
+     * */
+    int remove(int value) {
+        int index = find(value);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        if (--counts[index] == 0) {
+            delete(index);
+            return 0;
+        }
+        return counts[index];
+    }
+}
@@ -0,0 +1,191 @@
+package collections;
+
+import java.util.Arrays;
+
+/**
+ * Отслеживание минимального и максимального значений элементов очереди при добавлении и удалении на её концах.
+ * Элементы очереди дублируются в двух стеках: начальном (верхушка - первый элемент очереди)
+ * и конечном (верхушка - последний элемент очереди). Каждый уровень стека хранит минимум и максимум
+ * от дна стека до этого уровня, поэтому последовательности минимумов и максимумов монотонны,
+ * а минимум и максимум очереди вычисляются по двум верхушкам за O(1).
+ * Если удаление приходится на опустевший стек, оставшиеся элементы делятся между стеками пополам,
+ * поэтому добавление и удаление выполняются за амортизированное O(1) как с одного, так и с обоих концов.
+ * После изменений, не затрагивающих концы очереди, отслеживание помечается устаревшим
+ * и восстанавливается по элементам очереди при следующем запросе минимума или максимума.
+ * Стеки разделяются на месте, без промежуточного буфера, поэтому дополнительная память -
+ * три int (значение, минимум и максимум) на уровень стеков, то есть на элемент очереди
+ * с запасом вместимости стеков
+ * */
+final class IntMinMaxTracker {
+    // FIELDS - поля класса
+    /**
+     * Стек начала очереди (верхушка - первый элемент)
+     * */
+    private final MinMaxStack front = new MinMaxStack();
+    /**
+     * Стек конца очереди (верхушка - последний элемент)
+     * */
+    private final MinMaxStack back = new MinMaxStack();
+    /**
+     * Признак устаревшего состояния (стеки не соответствуют элементам очереди)
+     * */
+    private boolean stale;
+
+
+    // SERVICES - служебные методы
+    /**
+     * Проверка устаревшего состояния
+     * @return true - если отслеживание нужно восстановить методом {@link IntMinMaxTracker#rebuild}, иначе - false
+     * */
+    boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * Пометка отслеживания устаревшим (после изменения элементов не на концах очереди)
+     * */
+    void invalidate() {
+        stale = true;
+        front.size = 0;
+        back.size = 0;
+    }
+
+    /**
+     * Восстановление отслеживания по элементам кольцевого массива
+     * @param array Внутренний массив очереди
+     * @param head Индекс первого элемента во внутреннем массиве
+     * @param size Количество элементов
+     * */
+    void rebuild(int[] array, int head, int size) {
+        int frontSize = size >> 1;
+        front.size = 0;
+        back.size = 0;
+
+        for (int i = frontSize - 1; i >= 0; i--) {
+            front.push(array[(head + i) % array.length]);
+        }
+
+        for (int i = frontSize; i < size; i++) {
+            back.push(array[(head + i) % array.length]);
+        }
+        stale = false;
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение минимального значения (очередь не пуста, отслеживание не устарело)
+     * */
+    int getMin() {
+        if (front.size == 0) {
+            return back.min();
+        }
+        return (back.size == 0) ? front.min() : Math.min(front.min(), back.min());
+    }
+
+    /**
+     * Получение максимального значения (очередь не пуста, отслеживание не устарело)
+     * */
+    int getMax() {
+        if (front.size == 0) {
+            return back.max();
+        }
+        return (back.size == 0) ? front.max() : Math.max(front.max(), back.max());
+    }
+
+
+    // ADD - добавление данных
+    void pushFirst(int value) {
+        if (!stale) {
+            front.push(value);
+        }
+    }
+
+    void pushLast(int value) {
+        if (!stale) {
+            back.push(value);
+        }
+    }
+
+
+    // REMOVE - удаление данных
+    void popFirst() {
+        if (stale) {
+            return;
+        }
+
+        if (front.size == 0) {
+            // все элементы в стеке конца очереди - от дна к верхушке в порядке очереди
+            int size = back.size;
+            int frontSize = (size + 1) >> 1;
+
+            for (int i = frontSize - 1; i >= 0; i--) {
+                front.push(back.values[i]);
+            }
+            // сдвиг оставшихся элементов к дну: запись не опережает чтение
+            back.size = 0;
+
+            for (int i = frontSize; i < size; i++) {
+                back.push(back.values[i]);
+            }
+        }
+        front.size--;
+    }
+
+    void popLast() {
+        if (stale) {
+            return;
+        }
+
+        if (back.size == 0) {
+            // все элементы в стеке начала очереди - от верхушки к дну в порядке очереди
+            int size = front.size;
+            int frontSize = size >> 1;
+
+            for (int i = frontSize; i < size; i++) {
+                back.push(front.values[size - 1 - i]);
+            }
+            // сдвиг оставшихся элементов к дну: запись не опережает чтение
+            front.size = 0;
+
+            for (int i = frontSize - 1; i >= 0; i--) {
+                front.push(front.values[size - 1 - i]);
+            }
+        }
+        back.size--;
+    }
+
+
+    // STACK - стек с минимумом и максимумом на каждом уровне
+    private static final class MinMaxStack {
+        int[] values = new int[0];
+        int[] mins = new int[0];
+        int[] maxs = new int[0];
+        int size;
+
+        void push(int value) {
+            if (size == values.length) {
+                int newLength = Math.max(16, values.length << 1);
+                values = Arrays.copyOf(values, newLength);
+                mins = Arrays.copyOf(mins, newLength);
+                maxs = Arrays.copyOf(maxs, newLength);
+            }
+
+            if (size == 0) {
+                mins[0] = maxs[0] = value;
+            } else {
+                mins[size] = Math.min(mins[size - 1], value);
+                maxs[size] = Math.max(maxs[size - 1], value);
+            }
+            values[size++] = value;
+        }
+
+        int min() {
+            return mins[size - 1];
+        }
+
+        int max() {
+            return maxs[size - 1];
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package collections;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+
+/**
+ * Ограниченная неблокирующая очередь целочисленных значений для многих производителей и многих потребителей
+ * (схема Д. Вьюкова с порядковым номером у каждой позиции кольца).
+ * Номер позиции показывает, чья очередь работать с ней: равенство номера счётчику хвоста означает,
+ * что позиция свободна для производителя; равенство счётчику головы + 1 - что в ней лежит опубликованный элемент.
+ * Производители и потребители захватывают позицию сравнением с обменом счётчика (см. {@link RingIndexes}),
+ * после чего записывают или читают значение и передают позицию другой стороне записью номера с семантикой release.
+ * Значения хранятся в int[] без упаковки
+ * */
+public class IntMpmcQueue extends RingIndexes {
+    // CONSTANTS - константы класса
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+
+    // FIELDS - поля класса
+    /**
+     * Кольцевой массив значений
+     * */
+    private final int[] collection;
+    /**
+     * Порядковые номера позиций кольца
+     * */
+    private final long[] sequences;
+    /**
+     * Маска позиции в массиве (вместимость - 1)
+     * */
+    private final int mask;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор очереди с указанием её вместимости
+     * @param capacity Вместимость очереди (округляется вверх до степени двойки, но не меньше 2)
+     * @exception IllegalArgumentException Ошибка указания вместимости меньше 1 или больше 2^30
+     * */
+    public IntMpmcQueue(int capacity) {
+        // при вместимости 1 номера свободной и занятой позиции совпадают
+        int ringCapacity = Math.max(ringCapacity(capacity), 2);
+        collection = new int[ringCapacity];
+        sequences = new long[ringCapacity];
+        mask = ringCapacity - 1;
+
+        for (int i = 0; i < ringCapacity; i++) {
+            sequences[i] = i;
+        }
+        VarHandle.releaseFence();
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение вместимости очереди
+     * @return Вместимость очереди (степень двойки)
+     * */
+    public int getCapacity() {
+        return collection.length;
+    }
+
+    /**
+     * Получение количества элементов очереди (при одновременной работе потоков значение приблизительное)
+     * @return Количество элементов очереди
+     * */
+    public int getSize() {
+        long head = headAcquire();
+        long size = tailAcquire() - head;
+        return (int) Math.max(0, Math.min(size, collection.length));
+    }
+
+    /**
+     * Получение элемента из начала очереди без его удаления
+     * @return Элемент начала очереди типа {@link Integer} или null, если очередь пуста
+     * */
+    public Integer peekFirst() {
+        long head = headAcquire();
+
+        for (;;) {
+            int index = (int) head & mask;
+            long difference = (long) SEQUENCE.getAcquire(sequences, index) - (head + 1);
+
+            if (difference < 0) {
+                return null;
+            }
+
+            if (difference == 0) {
+                int value = collection[index];
+                long current = headAcquire();
+
+                // элемент не забран другим потребителем, пока значение читалось
+                if (current == head) {
+                    return value;
+                }
+                head = current;
+            } else {
+                head = headAcquire();
+            }
+        }
+    }
+
+
+    // ADD - добавление данных
+    /**
+     * Добавление элемента в конец очереди
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе (очередь заполнена) - false
+     * */
+    public boolean offer(int value) {
+        long tail = tailAcquire();
+
+        for (;;) {
+            int index = (int) tail & mask;
+            long difference = (long) SEQUENCE.getAcquire(sequences, index) - tail;
+
+            if (difference == 0) {
+                if (casTail(tail, tail + 1)) {
+                    collection[index] = value;
+                    SEQUENCE.setRelease(sequences, index, tail + 1);
+                    return true;
+                }
+                tail = tailAcquire();
+            } else if (difference < 0) {
+                // позиция ещё не освобождена потребителем предыдущего круга
+                return false;
+            } else {
+                tail = tailAcquire();
+            }
+        }
+    }
+
+    /**
+     * Добавление элемента в конец очереди
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения очереди
+     * */
+    public void addLast(int value) {
+        if (!offer(value)) {
+            throw new ArrayStoreException("Очередь заполнена. Добавление нового элемента невозможно");
+        }
+    }
+
+
+    // REMOVE - удаление данных
+    /**
+     * Захват первого опубликованного элемента
+     * @return Номер позиции (счётчик головы) захваченного элемента или -1, если очередь пуста
+     * */
+    private long claimFirst() {
+        long head = headAcquire();
+
+        for (;;) {
+            int index = (int) head & mask;
+            long difference = (long) SEQUENCE.getAcquire(sequences, index) - (head + 1);
+
+            if (difference == 0) {
+                if (casHead(head, head + 1)) {
+                    return head;
+                }
+                head = headAcquire();
+            } else if (difference < 0) {
+                return -1;
+            } else {
+                head = headAcquire();
+            }
+        }
+    }
+
+    /**
+     * Чтение захваченного элемента и передача позиции производителю следующего круга
+     * @param head Номер позиции захваченного элемента
+     * @return Значение элемента
+     * */
+    private int release(long head) {
+        int index = (int) head & mask;
+        int value = collection[index];
+        SEQUENCE.setRelease(sequences, index, head + collection.length);
+        return value;
+    }
+
+    /**
+     * Удаление элемента из начала очереди с возвращением удалённого элемента
+     * @return Удалённый элемент очереди типа {@link Integer} или null, если очередь пуста
+     * */
+    public Integer poll() {
+        long head = claimFirst();
+        return (head < 0) ? null : release(head);
+    }
+
+    /**
+     * Удаление элемента из начала очереди без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Удалённый элемент очереди или defaultValue, если очередь пуста
+     * */
+    public int pollOrDefault(int defaultValue) {
+        long head = claimFirst();
+        return (head < 0) ? defaultValue : release(head);
+    }
+
+    /**
+     * Удаление элемента из начала очереди с возвращением удалённого элемента
+     * @return Удалённый элемент очереди
+     * @exception NoSuchElementException Ошибка удаления элемента пустой очереди
+     * */
+    public int removeFirst() {
+        long head = claimFirst();
+
+        if (head < 0) {
+            throw new NoSuchElementException("Очередь пуста. Удаление первого элемента невозможно");
+        }
+        return release(head);
+    }
+}
@@ -0,0 +1,519 @@
+package collections;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Параллельная обработка элементов коллекций в {@link ForkJoinPool}.
+ * Коллекция описывается внутренним массивом, индексом первого элемента (head) и количеством элементов (size).
+ * Элементы могут переходить через конец массива (кольцевой буфер очередей), поэтому задачи делят
+ * логический диапазон [0, size), а каждая листовая задача обходит один или два непрерывных участка массива.
+ * Если вместо пула передан null, вся работа выполняется одной листовой задачей в вызывающем потоке.
+ * Участки листовых задач просматриваются ядрами {@link IntScan} (векторными, если они доступны)
+ * */
+final class IntParallel {
+    // CONSTANTS - константы класса
+    /**
+     * Наибольший размер листовой задачи (128 КБ значений - в пределах кэша L2 одного ядра)
+     * */
+    static final int MAX_CHUNK_SIZE = 1 << 15;
+    /**
+     * Наименьший размер листовой задачи (меньшие задачи не окупают накладные расходы на fork/join)
+     * */
+    static final int MIN_CHUNK_SIZE = 1 << 12;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Класс содержит только статические методы
+     * */
+    private IntParallel() {
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Вычисление размера листовой задачи: не больше {@link IntParallel#MAX_CHUNK_SIZE}
+     * и не меньше {@link IntParallel#MIN_CHUNK_SIZE}, примерно по четыре задачи на поток пула
+     * @param pool Пул потоков (null - обработка в вызывающем потоке)
+     * @param size Количество обрабатываемых элементов
+     * @return Размер листовой задачи
+     * */
+    static int chunkSize(ForkJoinPool pool, int size) {
+        if (pool == null) {
+            return Math.max(size, 1);
+        }
+        int perThread = size / (pool.getParallelism() << 2);
+        return Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, perThread));
+    }
+
+    /**
+     * Выполнение задачи в пуле потоков или, если пул не указан, в вызывающем потоке
+     * */
+    private static long invoke(ForkJoinPool pool, RangeTask task) {
+        return (pool == null) ? task.compute() : pool.invoke(task);
+    }
+
+    /**
+     * Выполнение сортировки в пуле потоков или, если пул не указан, в вызывающем потоке
+     * */
+    private static void invoke(ForkJoinPool pool, SortTask task) {
+        if (pool == null) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+
+    // REDUCE - свёртка данных
+    /**
+     * Сумма элементов (с переполнением, как у {@link IntArray#sum()})
+     * */
+    static int sum(ForkJoinPool pool, int[] array, int head, int size) {
+        return (int) invoke(pool, new SumTask(array, head, 0, size, chunkSize(pool, size)));
+    }
+
+    /**
+     * Минимальное значение элементов
+     * */
+    static int min(ForkJoinPool pool, int[] array, int head, int size) {
+        return (int) invoke(pool, new MinTask(array, head, 0, size, chunkSize(pool, size)));
+    }
+
+    /**
+     * Максимальное значение элементов
+     * */
+    static int max(ForkJoinPool pool, int[] array, int head, int size) {
+        return (int) invoke(pool, new MaxTask(array, head, 0, size, chunkSize(pool, size)));
+    }
+
+    /**
+     * Количество элементов с указанным значением
+     * */
+    static int count(ForkJoinPool pool, int[] array, int head, int size, int value) {
+        return (int) invoke(pool, new CountTask(array, head, 0, size, chunkSize(pool, size), value));
+    }
+
+    /**
+     * Логический индекс первого элемента с указанным значением
+     * @return Индекс элемента (от начала коллекции) или -1, если элемент не найден
+     * */
+    static int indexOf(ForkJoinPool pool, int[] array, int head, int size, int value) {
+        AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        invoke(pool, new IndexOfTask(array, head, 0, size, chunkSize(pool, size), value, found));
+        int index = found.get();
+        return (index == Integer.MAX_VALUE) ? -1 : index;
+    }
+
+    /**
+     * Установка значения всем элементам
+     * */
+    static void fill(ForkJoinPool pool, int[] array, int head, int size, int value) {
+        invoke(pool, new FillTask(array, head, 0, size, chunkSize(pool, size), value));
+    }
+
+
+    // SORT - сортировка данных
+    /**
+     * Параллельная сортировка непрерывного диапазона [0, size) массива в порядке увеличения значений.
+     * Листовые участки сортируются {@link IntSort}, затем попарно сливаются через буфер
+     * (уровни дерева поочерёдно пишут в массив и в буфер, поэтому лишних копирований нет)
+     * @param pool Пул потоков (null - сортировка в вызывающем потоке)
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    static boolean sort(ForkJoinPool pool, int[] array, int size) {
+        int chunk = chunkSize(pool, size);
+
+        if (invoke(pool, new SortedTask(array, 0, size, chunk, size)) == 0) {
+            return false;
+        }
+        invoke(pool, new SortTask(array, new int[size], 0, size, chunk, false));
+        return true;
+    }
+
+
+    // TASKS - задачи
+    /**
+     * Задача свёртки логического диапазона [from, to) коллекции.
+     * Диапазон делится пополам, пока не станет не больше размера листовой задачи
+     * */
+    @SuppressWarnings("serial")
+    private abstract static class RangeTask extends RecursiveTask<Long> {
+        final int[] array;
+        final int head;
+        final int from;
+        final int to;
+        final int chunk;
+
+        RangeTask(int[] array, int head, int from, int to, int chunk) {
+            this.array = array;
+            this.head = head;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected final Long compute() {
+            if (to - from <= chunk) {
+                int start = head + from;
+                if (start >= array.length) {
+                    start -= array.length;
+                }
+
+                int count = to - from;
+                int first = Math.min(count, array.length - start);
+                long result = segment(start, start + first, from);
+
+                // часть диапазона перешла через конец массива
+                if (first < count) {
+                    result = combine(result, segment(0, count - first, from + first));
+                }
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            RangeTask left = create(from, middle);
+            RangeTask right = create(middle, to);
+
+            right.fork();
+            long leftResult = left.compute();
+            long rightResult = right.join();
+            return combine(leftResult, rightResult);
+        }
+
+        /**
+         * Обработка непрерывного участка массива
+         * @param fromIndex Индекс массива первого элемента участка (включительно)
+         * @param toIndex Индекс массива конца участка (не включительно)
+         * @param logicalIndex Логический индекс (от начала коллекции) первого элемента участка
+         * */
+        abstract long segment(int fromIndex, int toIndex, int logicalIndex);
+
+        abstract long combine(long left, long right);
+
+        abstract RangeTask create(int from, int to);
+    }
+
+    @SuppressWarnings("serial")
+    private static final class SumTask extends RangeTask {
+        SumTask(int[] array, int head, int from, int to, int chunk) {
+            super(array, head, from, to, chunk);
+        }
+
+        @Override
+        long segment(int fromIndex, int toIndex, int logicalIndex) {
+            return IntScan.sum(array, fromIndex, toIndex);
+        }
+
+        @Override
+        long combine(long left, long right) {
+            return (int) (left + right);
+        }
+
+        @Override
+        RangeTask create(int from, int to) {
+            return new SumTask(array, head, from, to, chunk);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class MinTask extends RangeTask {
+        MinTask(int[] array, int head, int from, int to, int chunk) {
+            super(array, head, from, to, chunk);
+        }
+
+        @Override
+        long segment(int fromIndex, int toIndex, int logicalIndex) {
+            return IntScan.min(array, fromIndex, toIndex);
+        }
+
+        @Override
+        long combine(long left, long right) {
+            return Math.min(left, right);
+        }
+
+        @Override
+        RangeTask create(int from, int to) {
+            return new MinTask(array, head, from, to, chunk);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class MaxTask extends RangeTask {
+        MaxTask(int[] array, int head, int from, int to, int chunk) {
+            super(array, head, from, to, chunk);
+        }
+
+        @Override
+        long segment(int fromIndex, int toIndex, int logicalIndex) {
+            return IntScan.max(array, fromIndex, toIndex);
+        }
+
+        @Override
+        long combine(long left, long right) {
+            return Math.max(left, right);
+        }
+
+        @Override
+        RangeTask create(int from, int to) {
+            return new MaxTask(array, head, from, to, chunk);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class CountTask extends RangeTask {
+        private final int value;
+
+        CountTask(int[] array, int head, int from, int to, int chunk, int value) {
+            super(array, head, from, to, chunk);
+            this.value = value;
+        }
+
+        @Override
+        long segment(int fromIndex, int toIndex, int logicalIndex) {
+            return IntScan.count(array, fromIndex, toIndex, value);
+        }
+
+        @Override
+        long combine(long left, long right) {
+            return left + right;
+        }
+
+        @Override
+        RangeTask create(int from, int to) {
+            return new CountTask(array, head, from, to, chunk, value);
+        }
+    }
+
+    /**
+     * Поиск первого вхождения значения. Наименьший найденный логический индекс хранится в found,
+     * участки, расположенные после уже найденного элемента, пропускаются
+     * */
+    @SuppressWarnings("serial")
+    private static final class IndexOfTask extends RangeTask {
+        private final int value;
+        private final AtomicInteger found;
+
+        IndexOfTask(int[] array, int head, int from, int to, int chunk, int value, AtomicInteger found) {
+            super(array, head, from, to, chunk);
+            this.value = value;
+            this.found = found;
+        }
+
+        @Override
+        long segment(int fromIndex, int toIndex, int logicalIndex) {
+            if (logicalIndex >= found.get()) {
+                return 0;
+            }
+
+            int i = IntScan.indexOf(array, fromIndex, toIndex, value);
+
+            if (i >= 0) {
+                found.accumulateAndGet(logicalIndex + (i - fromIndex), Math::min);
+            }
+            return 0;
+        }
+
+        @Override
+        long combine(long left, long right) {
+            return 0;
+        }
+
+        @Override
+        RangeTask create(int from, int to) {
+            return new IndexOfTask(array, head, from, to, chunk, value, found);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class FillTask extends RangeTask {
+        private final int value;
+
+        FillTask(int[] array, int head, int from, int to, int chunk, int value) {
+            super(array, head, from, to, chunk);
+            this.value = value;
+        }
+
+        @Override
+        long segment(int fromIndex, int toIndex, int logicalIndex) {
+            Arrays.fill(array, fromIndex, toIndex, value);
+            return 0;
+        }
+
+        @Override
+        long combine(long left, long right) {
+            return 0;
+        }
+
+        @Override
+        RangeTask create(int from, int to) {
+            return new FillTask(array, head, from, to, chunk, value);
+        }
+    }
+
+    /**
+     * Проверка упорядоченности непрерывного диапазона [0, size) массива
+     * @return 0 - если элементы упорядочены по возрастанию, иначе - 1
+     * */
+    @SuppressWarnings("serial")
+    private static final class SortedTask extends RangeTask {
+        private final int size;
+
+        SortedTask(int[] array, int from, int to, int chunk, int size) {
+            super(array, 0, from, to, chunk);
+            this.size = size;
+        }
+
+        @Override
+        long segment(int fromIndex, int toIndex, int logicalIndex) {
+            int end = Math.min(toIndex, size - 1);
+
+            for (int i = fromIndex; i < end; i++) {
+                if (array[i] > array[i + 1]) {
+                    return 1;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        long combine(long left, long right) {
+            return left | right;
+        }
+
+        @Override
+        RangeTask create(int from, int to) {
+            return new SortedTask(array, from, to, chunk, size);
+        }
+    }
+
+    /**
+     * Сортировка диапазона [from, to). Результат помещается в буфер (intoBuffer = true) или в массив.
+     * Дочерние задачи пишут в противоположное хранилище, после чего их результаты сливаются в нужное
+     * */
+    @SuppressWarnings("serial")
+    private static final class SortTask extends RecursiveAction {
+        private final int[] array;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final boolean intoBuffer;
+
+        SortTask(int[] array, int[] buffer, int from, int to, int chunk, boolean intoBuffer) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.intoBuffer = intoBuffer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                IntSort.sort(array, from, to);
+
+                if (intoBuffer) {
+                    System.arraycopy(array, from, buffer, from, to - from);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask(array, buffer, from, middle, chunk, !intoBuffer),
+                    new SortTask(array, buffer, middle, to, chunk, !intoBuffer));
+
+            int[] source = intoBuffer ? array : buffer;
+            int[] target = intoBuffer ? buffer : array;
+            new MergeTask(source, target, from, middle, middle, to, from, chunk).compute();
+        }
+    }
+
+    /**
+     * Слияние упорядоченных участков [low1, high1) и [low2, high2) источника в приёмник с позиции position.
+     * Больший участок делится пополам, граница меньшего находится бинарным поиском
+     * */
+    @SuppressWarnings("serial")
+    private static final class MergeTask extends RecursiveAction {
+        private final int[] source;
+        private final int[] target;
+        private final int low1;
+        private final int high1;
+        private final int low2;
+        private final int high2;
+        private final int position;
+        private final int chunk;
+
+        MergeTask(int[] source, int[] target, int low1, int high1, int low2, int high2, int position, int chunk) {
+            this.source = source;
+            this.target = target;
+            this.low1 = low1;
+            this.high1 = high1;
+            this.low2 = low2;
+            this.high2 = high2;
+            this.position = position;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = high1 - low1;
+            int length2 = high2 - low2;
+
+            if (length1 + length2 <= chunk) {
+                mergeSequential();
+                return;
+            }
+
+            if (length1 < length2) {
+                new MergeTask(source, target, low2, high2, low1, high1, position, chunk).compute();
+                return;
+            }
+
+            int middle1 = (low1 + high1) >>> 1;
+            int middle2 = lowerBound(source, low2, high2, source[middle1]);
+            int rightPosition = position + (middle1 - low1) + (middle2 - low2);
+
+            invokeAll(new MergeTask(source, target, low1, middle1, low2, middle2, position, chunk),
+                    new MergeTask(source, target, middle1, high1, middle2, high2, rightPosition, chunk));
+        }
+
+        private void mergeSequential() {
+            int i = low1;
+            int j = low2;
+            int k = position;
+
+            while (i < high1 && j < high2) {
+                target[k++] = (source[i] <= source[j]) ? source[i++] : source[j++];
+            }
+
+            if (i < high1) {
+                System.arraycopy(source, i, target, k, high1 - i);
+            } else if (j < high2) {
+                System.arraycopy(source, j, target, k, high2 - j);
+            }
+        }
+
+        /**
+         * Индекс первого элемента участка [low, high), который не меньше указанного значения
+         * */
+        private static int lowerBound(int[] array, int low, int high, int value) {
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+
+                if (array[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -2,9 +2,11 @@ package collections;
 
 import com.sun.tools.jconsole.JConsoleContext;
 
+import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
-public class IntQueue extends IntArray {
+public class IntQueue extends IntArray implements IntQueueCollection {
     // FIELDS - поля класса
     /**
      * Индекс первого элемента очереди
@@ -14,6 +16,10 @@ public class IntQueue extends IntArray {
      * Индекс последнего элемента очереди
      * */
     protected int lastIndex;
+    /**
+     * Отслеживание минимального и максимального значений (null - отслеживание отключено)
+     * */
+    private IntMinMaxTracker minMaxTracker;
 
 
     // CONSTRUCTORS - конструкторы класса
@@ -60,25 +66,76 @@ public class IntQueue extends IntArray {
 
     // SERVICES - служебные методы
     /**
-     * Проверка допустимости индекса
-     * @param index Проверяемый индекс
-     * @exception ArrayIndexOutOfBoundsException Ошибка указания индекса за пределами вместимости очереди
-     * @exception ArrayIndexOutOfBoundsException Ошибка отсутствия элемента по указанному индексу
+     * Получение индекса внутреннего массива, по которому расположен первый элемент очереди
+     * @return Индекс первого элемента во внутреннем массиве
+     * */
+    @Override
+    protected int headIndex() {
+        return (size == 0) ? 0 : firstIndex;
+    }
+
+    /**
+     * Перемещение элементов очереди в начало внутреннего массива с сохранением их порядка.
+     * После перемещения первый элемент находится по индексу 0, а последний - по индексу size - 1
      * */
     @Override
-    protected void checkIndex(int index) {
-        if (index == capacity || Math.abs(index) > capacity) {
-            throw new ArrayIndexOutOfBoundsException("Индекс " + index + " выходит за пределы вместимости очереди");
+    protected void linearize() {
+        if (size == 0 || firstIndex == 0) {
+            return;
         }
 
-        if (firstIndex > lastIndex) {
-            if (index < firstIndex && index > lastIndex) {
-                throw new ArrayIndexOutOfBoundsException("Элемент по индексу" + index + " отсутствует");
-            }
+        if (firstIndex + size <= capacity) {
+            System.arraycopy(collection, firstIndex, collection, 0, size);
+            Arrays.fill(collection, size, firstIndex + size, 0);
         } else {
-            if (index < firstIndex || index > lastIndex) {
-                throw new ArrayIndexOutOfBoundsException("Элемент по индексу" + index + " отсутствует");
-            }
+            // элементы переходят через конец массива - циклический сдвиг массива влево на firstIndex
+            IntSort.reverse(collection, 0, firstIndex - 1);
+            IntSort.reverse(collection, firstIndex, capacity - 1);
+            IntSort.reverse(collection, 0, capacity - 1);
+        }
+        firstIndex = 0;
+        lastIndex = size - 1;
+        elementsRelocated();
+    }
+
+    /**
+     * Уменьшение количества элементов очереди с сохранением первого элемента и обновлением индекса последнего
+     * @param newSize Новое количество элементов
+     * */
+    @Override
+    protected void truncate(int newSize) {
+        super.truncate(newSize);
+
+        if (newSize == 0) {
+            firstIndex = lastIndex = 0;
+        } else {
+            lastIndex = physicalIndex(newSize - 1);
+        }
+    }
+
+    /**
+     * Увеличение количества элементов очереди с обновлением индекса последнего элемента
+     * (элементы пустой очереди записываются с начала внутреннего массива)
+     * @param newSize Новое количество элементов
+     * */
+    @Override
+    protected void extend(int newSize) {
+        if (size == 0) {
+            firstIndex = 0;
+        }
+        super.extend(newSize);
+        lastIndex = physicalIndex(newSize - 1);
+    }
+
+    /**
+     * Пометка отслеживаемых минимума и максимума устаревшими после изменения элементов не на концах очереди
+     * */
+    @Override
+    protected void elementsChanged() {
+        super.elementsChanged();
+
+        if (minMaxTracker != null) {
+            minMaxTracker.invalidate();
         }
     }
 
@@ -108,178 +165,67 @@ public class IntQueue extends IntArray {
     }
 
     /**
-     * Получение минимального значения элементов очереди
-     * @return Минимальное значение элементов очереди типа {@link Integer}
-     * */
-    @Override
-    public Integer getMin() {
+     * Получение элемента из начала очереди без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Элемент начала очереди или defaultValue, если очередь пуста
+     * **/
+    public int peekFirstOrDefault(int defaultValue) {
         if (size == 0) {
-            return null;
+            return defaultValue;
         }
-        int min = Integer.MAX_VALUE;
-
-        if (firstIndex <= lastIndex) {
-            for (int i = 0; i < size; i++) {
-                if (collection[i] < min) {
-                    min = collection[i];
-                }
-            }
-        } else {
-            for (int i = firstIndex; i < capacity; i++) {
-                if (collection[i] < min) {
-                    min = collection[i];
-                }
-            }
-
-            for (int i = 0; i <= lastIndex; i++) {
-                if (collection[i] < min) {
-                    min = collection[i];
-                }
-            }
-        }
-        return min;
+        return collection[firstIndex];
     }
 
     /**
-     * Получение максимального значения элементов очереди
-     * @return Максимальное значение элементов очереди типа {@link Integer}
+     * Получение минимального значения элементов очереди без упаковки значения.
+     * В режиме отслеживания (см. {@link IntQueue#setMinMaxTracking(boolean)}) выполняется за O(1)
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Минимальное значение элементов очереди или defaultValue, если очередь пуста
      * */
     @Override
-    public Integer getMax() {
+    public int getMinOrDefault(int defaultValue) {
         if (size == 0) {
-            return null;
+            return defaultValue;
         }
-        int max = Integer.MIN_VALUE;
-
-        if (firstIndex <= lastIndex) {
-            for (int i = 0; i < size; i++) {
-                if (collection[i] > max) {
-                    max = collection[i];
-                }
-            }
-        } else {
-            for (int i = firstIndex; i < capacity; i++) {
-                if (collection[i] > max) {
-                    max = collection[i];
-                }
-            }
 
-            for (int i = 0; i <= lastIndex; i++) {
-                if (collection[i] > max) {
-                    max = collection[i];
-                }
-            }
+        if (minMaxTracker == null) {
+            return super.getMinOrDefault(defaultValue);
         }
-        return max;
-    }
 
-    /**
-     * Получение очереди элементов
-     * @return Полная очередь элементов
-     * */
-    @Override
-    public int[] getCollection() {
-        if (size == 0) {
-            return null;
+        if (minMaxTracker.isStale()) {
+            minMaxTracker.rebuild(collection, headIndex(), size);
         }
-        int[] newCollection = new int[size];
-
-        if (firstIndex <= lastIndex) {
-            for (int i = 0, j = firstIndex; j <= lastIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-        } else {
-            int i = 0;
-
-            for (int j = firstIndex; j < capacity; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-
-            for (int j = 0; j <= lastIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-        }
-        return newCollection;
+        return minMaxTracker.getMin();
     }
 
     /**
-     * Получение элементов очереди от начального индекса до конца очереди
-     * @return Новый массив элементов от начального индекса до конца очереди
+     * Получение максимального значения элементов очереди без упаковки значения.
+     * В режиме отслеживания (см. {@link IntQueue#setMinMaxTracking(boolean)}) выполняется за O(1)
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Максимальное значение элементов очереди или defaultValue, если очередь пуста
      * */
     @Override
-    public int[] getCollection(int startIndex) {
+    public int getMaxOrDefault(int defaultValue) {
         if (size == 0) {
-            return null;
+            return defaultValue;
         }
-        checkIndex(startIndex);
-        startIndex = transformIndex(startIndex);
-
-        int newSize = 0;
-        int[] newCollection;
-
-        if (firstIndex <= lastIndex) {
-            newSize = lastIndex - startIndex + 1;
-            newCollection = new int[newSize];
 
-            for (int i = 0, j = startIndex; j <= lastIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-        } else {
-            newSize = (capacity - startIndex) + lastIndex;
-            newCollection = new int[newSize];
-            int i = 0;
-
-            for (int j = startIndex; j < capacity; i++, j++) {
-                newCollection[i] = collection[j];
-            }
+        if (minMaxTracker == null) {
+            return super.getMaxOrDefault(defaultValue);
+        }
 
-            for (int j = 0; j <= lastIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
+        if (minMaxTracker.isStale()) {
+            minMaxTracker.rebuild(collection, headIndex(), size);
         }
-        return newCollection;
+        return minMaxTracker.getMax();
     }
 
     /**
-     * Получение элементов очереди от начального индекса до конечного индекса
-     * @return Новый массив элементов от начального индекса до конечного индекса
+     * Проверка режима отслеживания минимума и максимума
+     * @return true - если минимум и максимум отслеживаются при добавлении и удалении элементов, иначе - false
      * */
-    @Override
-    public int[] getCollection(int startIndex,int endIndex) {
-        if (size == 0) {
-            return null;
-        }
-        checkIndex(startIndex);
-        checkIndex(endIndex);
-
-        int newStartIndex = transformIndex(startIndex);
-        int newEndIndex = transformIndex(endIndex);
-        checkIndexes(newStartIndex, newEndIndex, startIndex, endIndex);
-
-        int newSize = 0;
-        int[] newCollection;
-
-        if (firstIndex <= lastIndex) {
-            newSize = newEndIndex - newStartIndex + 1;
-            newCollection = new int[newSize];
-
-            for (int i = 0, j = startIndex; j <= newEndIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-        } else {
-            newSize = (capacity - newStartIndex) + newEndIndex;
-            newCollection = new int[newSize];
-            int i = 0;
-
-            for (int j = newStartIndex; j < capacity; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-
-            for (int j = 0; j <= newEndIndex; i++, j++) {
-                newCollection[i] = collection[j];
-            }
-        }
-        return newCollection;
+    public boolean isMinMaxTracking() {
+        return minMaxTracker != null;
     }
 
 
@@ -297,14 +243,14 @@ public class IntQueue extends IntArray {
     /**
      * Добавление элемента в конец очереди
      * @param value Значение добавляемого элемента
-     * @exception ArrayStoreException Ошибка переполнения очереди
+     * @exception ArrayStoreException Ошибка переполнения очереди (если политика не позволяет увеличить вместимость)
      * **/
     public void addLast(int value) {
-        if (size == capacity) {
+        if (size == capacity && !grow(size + 1)) {
             throw new ArrayStoreException("Очередь заполнена. Добавление нового элемента невозможно");
         }
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             lastIndex++;
@@ -315,6 +261,11 @@ public class IntQueue extends IntArray {
         }
         collection[lastIndex] = value;
         size++;
+
+        if (minMaxTracker != null) {
+            minMaxTracker.pushLast(value);
+        }
+        elementAdded(value);
     }
 
     /**
@@ -334,11 +285,11 @@ public class IntQueue extends IntArray {
      * @return true - если новый элемент добавлен, иначе - false
      * **/
     public boolean offerLast(int value) {
-        if (size == capacity) {
+        if (size == capacity && !grow(size + 1)) {
             return false;
         }
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             lastIndex++;
@@ -350,11 +301,121 @@ public class IntQueue extends IntArray {
 
         collection[lastIndex] = value;
         size++;
+
+        if (minMaxTracker != null) {
+            minMaxTracker.pushLast(value);
+        }
+        elementAdded(value);
         return true;
     }
 
+    /**
+     * Пакетное добавление значений в конец очереди
+     * @param values Добавляемые значения
+     * @exception ArrayStoreException Ошибка переполнения очереди (если политика не позволяет увеличить вместимость)
+     * */
+    public void addAll(int[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Пакетное добавление участка массива в конец очереди.
+     * Значения копируются не более чем двумя вызовами {@link System#arraycopy} (до конца внутреннего массива и с его начала)
+     * @param values Массив добавляемых значений
+     * @param offset Индекс первого добавляемого значения
+     * @param length Количество добавляемых значений
+     * @exception IndexOutOfBoundsException Ошибка выхода участка за пределы массива
+     * @exception ArrayStoreException Ошибка переполнения очереди (если политика не позволяет увеличить вместимость)
+     * */
+    public void addAll(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+
+        if (length == 0) {
+            return;
+        }
+
+        if (!ensureFree(length)) {
+            throw new ArrayStoreException("Очередь заполнена. Добавление " + length + " элементов невозможно");
+        }
+
+        int start;
+
+        if (size == 0) {
+            start = firstIndex = 0;
+        } else {
+            start = (lastIndex + 1 == capacity) ? 0 : lastIndex + 1;
+        }
+        ringCopyFrom(values, offset, start, length);
+
+        lastIndex = start + length - 1;
+
+        if (lastIndex >= capacity) {
+            lastIndex -= capacity;
+        }
+        size += length;
+
+        if (minMaxTracker != null) {
+            for (int i = offset; i < offset + length; i++) {
+                minMaxTracker.pushLast(values[i]);
+            }
+        }
+        elementsAdded(values, offset, length);
+    }
+
+
+    /**
+     * Вставка элемента в указанную позицию очереди.
+     * Сдвигается более короткая сторона очереди (элементы перед позицией - к началу, либо элементы с позиции - к концу)
+     * вызовами {@link System#arraycopy}, поэтому перемещается не более size / 2 элементов
+     * @param index Позиция вставляемого элемента от 0 (в начало) до size (в конец)
+     * @param value Значение вставляемого элемента
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода позиции за пределы очереди
+     * @exception ArrayStoreException Ошибка переполнения очереди (если политика не позволяет увеличить вместимость)
+     * */
+    @Override
+    public void insert(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException("Позиция " + index + " выходит за пределы очереди размера " + size);
+        }
+
+        if (size == capacity && !grow(size + 1)) {
+            throw new ArrayStoreException("Очередь заполнена. Вставка нового элемента невозможна");
+        }
+
+        if (size == 0) {
+            firstIndex = lastIndex = 0;
+        } else if (index < size - index) {
+            firstIndex = (firstIndex == 0) ? capacity - 1 : firstIndex - 1;
+            ringMove(1, 0, index);
+        } else {
+            lastIndex = (lastIndex + 1 == capacity) ? 0 : lastIndex + 1;
+            ringMove(index, index + 1, size - index);
+        }
+        size++;
+        collection[physicalIndex(index)] = value;
+        elementAdded(value);
+        elementsChanged();
+    }
+
 
     // SETTERS - изменение данных
+    /**
+     * Включение или отключение режима отслеживания минимума и максимума.
+     * В режиме отслеживания {@link IntQueue#getMin()} и {@link IntQueue#getMax()} выполняются за O(1),
+     * а добавление в конец и удаление из начала очереди - за амортизированное O(1) с дополнительной памятью
+     * три int на элемент. Другие изменения элементов (установка значений, сортировка, удаление по индексу)
+     * приводят к пересчёту при следующем запросе минимума или максимума
+     * @param enabled true - включить отслеживание, false - отключить
+     * */
+    public void setMinMaxTracking(boolean enabled) {
+        if (!enabled) {
+            minMaxTracker = null;
+        } else if (minMaxTracker == null) {
+            minMaxTracker = new IntMinMaxTracker();
+            minMaxTracker.rebuild(collection, headIndex(), size);
+        }
+    }
+
     /**
      * Установка значения первому элементу очереди
      * @param value Новое значение первого элемента очереди
@@ -364,7 +425,10 @@ public class IntQueue extends IntArray {
         if (size == 0) {
             throw new NoSuchElementException("Очередь пуста. Элементов для изменения значений нет");
         }
+        elementRemoved(collection[firstIndex]);
         collection[firstIndex] = value;
+        elementAdded(value);
+        elementsChanged();
     }
 
     /**
@@ -376,125 +440,67 @@ public class IntQueue extends IntArray {
         if (size == 0) {
             throw new NoSuchElementException("Очередь пуста. Элементов для изменения значений нет");
         }
+        elementRemoved(collection[lastIndex]);
         collection[lastIndex] = value;
+        elementAdded(value);
+        elementsChanged();
     }
 
 
     // REMOVE - удаление данных
     /**
-     * Удаление элемента двусторонней очереди по указанному индексу с возвращением удалённого элемента
+     * Удаление элемента очереди по указанному индексу с возвращением удалённого элемента.
+     * Сдвигается более короткая сторона очереди (элементы перед удаляемым - к концу, либо элементы после него - к началу)
+     * вызовами {@link System#arraycopy}, поэтому перемещается не более size / 2 элементов
      * @param index Индекс удаляемого элемента
-     *              (положительный - с начала двусторонней очереди, отрицательный - с конца двусторонней очереди)
-     * @return Удалённый элемент двусторонней очереди
-     * @exception NoSuchElementException Ошибка удаления элемента пустой двусторонней очереди
+     *              (положительный - с начала очереди, отрицательный - с конца очереди)
+     * @return Удалённый элемент очереди
+     * @exception NoSuchElementException Ошибка удаления элемента пустой очереди
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода индекса за пределы очереди
      * */
     @Override
     public int remove(int index) {
         if (size == 0) {
-            throw new NoSuchElementException("В двусторонней очереди отсутствуют элементы");
+            throw new NoSuchElementException("В очереди отсутствуют элементы");
         }
+
         checkIndex(index);
         index = transformIndex(index);
-        index += firstIndex;
-        int value = 0;
-
-        if (firstIndex <= lastIndex) {
-            value = collection[index];
-
-            for (int i = index; i <= lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
-        } else if (index < capacity) {
-            value = collection[index];
-
-            for (int i = index; i < capacity - 1; i++) {
-                collection[i] = collection[i + 1];
-            }
+        int value = collection[physicalIndex(index)];
 
-            collection[capacity - 1] = collection[0];
-
-            for (int i = 0; i < lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
+        if (index < size - 1 - index) {
+            ringMove(0, 1, index);
+            collection[firstIndex] = 0;
+            firstIndex = (firstIndex + 1 == capacity) ? 0 : firstIndex + 1;
         } else {
-            index -= capacity;
-            value = collection[index];
-
-            for (int i = index; i <= lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
+            ringMove(index + 1, index, size - 1 - index);
+            collection[lastIndex] = 0;
+            lastIndex = (lastIndex == 0) ? capacity - 1 : lastIndex - 1;
         }
-
-        collection[lastIndex] = 0;
-        lastIndex--;
         size--;
 
-        if (lastIndex == -1) {
-            lastIndex = capacity - 1;
-        }
-
         if (size == 0) {
             firstIndex = 0;
             lastIndex = 0;
         }
+        elementRemoved(value);
+        elementsCompacted();
         return value;
     }
 
     /**
-     * Удаление элемента двусторонней очереди по указанному индексу с возвращением удалённого элемента
+     * Удаление элемента очереди по указанному индексу с возвращением удалённого элемента
+     * (сдвигается более короткая сторона, см. {@link #remove(int)})
      * @param index Индекс удаляемого элемента
-     *              (положительный - с начала двусторонней очереди, отрицательный - с конца двусторонней очереди)
-     * @return Удалённый элемент двусторонней очереди типа {@link Integer}
+     *              (положительный - с начала очереди, отрицательный - с конца очереди)
+     * @return Удалённый элемент очереди типа {@link Integer}. Если очередь пуста - возвращается null
      * */
     @Override
     public Integer poll(int index) {
         if (size == 0) {
-            throw new NoSuchElementException("В двусторонней очереди отсутствуют элементы");
-        }
-        checkIndex(index);
-        index = transformIndex(index);
-        index += firstIndex;
-        int value = 0;
-
-        if (firstIndex <= lastIndex) {
-            value = collection[index];
-
-            for (int i = index; i <= lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
-        } else if (index < capacity) {
-            value = collection[index];
-
-            for (int i = index; i < capacity - 1; i++) {
-                collection[i] = collection[i + 1];
-            }
-            collection[capacity - 1] = collection[0];
-
-            for (int i = 0; i <lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
-        } else {
-            index -= capacity;
-            value = collection[index];
-
-            for (int i = index; i <= lastIndex; i++) {
-                collection[i] = collection[i + 1];
-            }
-        }
-
-        collection[lastIndex] = 0;
-        lastIndex--;
-        size--;
-
-        if (lastIndex == -1) {
-            lastIndex = capacity - 1;
-        }
-
-        if (size == 1) {
-            firstIndex = 0;
-            lastIndex = 0;
+            return null;
         }
-        return value;
+        return remove(index);
     }
 
     /**
@@ -511,7 +517,7 @@ public class IntQueue extends IntArray {
         collection[firstIndex] = 0;
         size--;
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             firstIndex++;
@@ -520,6 +526,11 @@ public class IntQueue extends IntArray {
                 firstIndex = 0;
             }
         }
+
+        if (minMaxTracker != null) {
+            minMaxTracker.popFirst();
+        }
+        elementRemoved(value);
         return value;
     }
 
@@ -537,7 +548,7 @@ public class IntQueue extends IntArray {
         collection[firstIndex] = 0;
         size--;
 
-        if (size == 1) {
+        if (size == 0) {
             firstIndex = lastIndex = 0;
         } else {
             firstIndex++;
@@ -546,9 +557,106 @@ public class IntQueue extends IntArray {
                 firstIndex = 0;
             }
         }
+
+        if (minMaxTracker != null) {
+            minMaxTracker.popFirst();
+        }
+        elementRemoved(value);
         return value;
     }
 
+    /**
+     * Удаление элемента из начала очереди с возвращением удалённого элемента без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Удалённый элемент очереди или defaultValue, если очередь пуста
+     * **/
+    public int pollFirstOrDefault(int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        return removeFirst();
+    }
+
+    /**
+     * Пакетное удаление элементов из начала очереди в массив
+     * @param target Массив-приёмник
+     * @return Количество перенесённых элементов
+     * */
+    public int drainTo(int[] target) {
+        return drainTo(target, 0, target.length);
+    }
+
+    /**
+     * Пакетное удаление элементов из начала очереди в участок массива с сохранением их порядка.
+     * Элементы копируются не более чем двумя вызовами {@link System#arraycopy}
+     * @param target Массив-приёмник
+     * @param offset Индекс массива-приёмника для первого элемента
+     * @param maxCount Наибольшее количество переносимых элементов
+     * @return Количество перенесённых элементов
+     * @exception IndexOutOfBoundsException Ошибка выхода участка за пределы массива
+     * */
+    public int drainTo(int[] target, int offset, int maxCount) {
+        Objects.checkFromIndexSize(offset, maxCount, target.length);
+        int count = Math.min(size, maxCount);
+
+        if (count == 0) {
+            return 0;
+        }
+        ringCopyTo(firstIndex, target, offset, count);
+        ringClear(firstIndex, count);
+        size -= count;
+
+        if (size == 0) {
+            firstIndex = lastIndex = 0;
+        } else {
+            firstIndex += count;
+
+            if (firstIndex >= capacity) {
+                firstIndex -= capacity;
+            }
+        }
+
+        if (minMaxTracker != null) {
+            for (int i = 0; i < count; i++) {
+                minMaxTracker.popFirst();
+            }
+        }
+        elementsRemoved(target, offset, count);
+        return count;
+    }
+
+
+    // SORT - сортировка данных
+    /**
+     * Сортировка элементов очереди в порядке увеличения значений.
+     * Элементы предварительно перемещаются в начало внутреннего массива (см. {@link IntQueue#linearize()})
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    @Override
+    public boolean sort() {
+        linearize();
+        return super.sort();
+    }
+
+    /**
+     * Сортировка элементов очереди в порядке уменьшения значений.
+     * Элементы предварительно перемещаются в начало внутреннего массива (см. {@link IntQueue#linearize()})
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    @Override
+    public boolean reverseSort() {
+        if (size == 0) {
+            return false;
+        }
+        linearize();
+        boolean changed = IntSort.reverseSort(collection, 0, size);
+
+        if (changed) {
+            elementsChanged();
+        }
+        return changed;
+    }
+
 
     // TO_STRING - строковое преобразование данных
     /**
@@ -0,0 +1,77 @@
+package collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Общий интерфейс очередей целочисленных значений ({@link IntQueue}, {@link OffHeapIntQueue})
+ * */
+public interface IntQueueCollection extends IntCollection {
+    /**
+     * Получение элемента из начала очереди
+     * @return Элемент начала очереди
+     * @exception NoSuchElementException Ошибка получения элемента из пустой очереди
+     * */
+    int getFirst();
+
+    /**
+     * Получение элемента из начала очереди
+     * @return Элемент начала очереди типа {@link Integer}
+     * */
+    Integer peekFirst();
+
+    /**
+     * Получение элемента из начала очереди без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Элемент начала очереди или defaultValue, если очередь пуста
+     * */
+    int peekFirstOrDefault(int defaultValue);
+
+    /**
+     * Добавление элемента в конец очереди
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения очереди (если политика не позволяет увеличить вместимость)
+     * */
+    void addLast(int value);
+
+    /**
+     * Добавление элемента в конец очереди
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе - false
+     * */
+    boolean offerLast(int value);
+
+    /**
+     * Установка значения первому элементу очереди
+     * @param value Новое значение первого элемента очереди
+     * @exception NoSuchElementException Ошибка изменения элемента в пустой очереди
+     * */
+    void setFirst(int value);
+
+    /**
+     * Установка значения последнему элементу очереди
+     * @param value Новое значение последнего элемента очереди
+     * @exception NoSuchElementException Ошибка изменения элемента в пустой очереди
+     * */
+    void setLast(int value);
+
+    /**
+     * Удаление элемента из начала очереди с возвращением удалённого элемента
+     * @return Удалённый элемент очереди
+     * @exception NoSuchElementException Ошибка удаления элемента пустой очереди
+     * */
+    int removeFirst();
+
+    /**
+     * Удаление элемента из начала очереди с возвращением удалённого элемента
+     * (если очередь пуста, возвращается значение null)
+     * @return Удалённый элемент очереди типа {@link Integer}
+     * */
+    Integer pollFirst();
+
+    /**
+     * Удаление элемента из начала очереди с возвращением удалённого элемента без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Удалённый элемент очереди или defaultValue, если очередь пуста
+     * */
+    int pollFirstOrDefault(int defaultValue);
+}
@@ -0,0 +1,201 @@
+package collections;
+
+/**
+ * Последовательный просмотр и свёртка участков целочисленного массива (сумма, минимум, максимум, поиск, подсчёт).
+ * Если при запуске JVM подключён модуль jdk.incubator.vector (--add-modules jdk.incubator.vector),
+ * участки обрабатываются векторными операциями {@link IntVectorScan} с шириной, выбранной для процессора,
+ * иначе - скалярными циклами.
+ * Методы с суффиксом Ring обходят коллекцию, описанную индексом первого элемента (head) и количеством элементов (size):
+ * элементы могут переходить через конец массива (кольцевой буфер очередей), тогда обрабатываются два участка
+ * */
+final class IntScan {
+    // CONSTANTS - константы класса
+    /**
+     * Признак использования векторных операций
+     * */
+    static final boolean VECTORIZED = vectorSupported();
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Класс содержит только статические методы
+     * */
+    private IntScan() {
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Проверка доступности векторных операций.
+     * Класс {@link IntVectorScan} загружается, только если модуль jdk.incubator.vector подключён к JVM
+     * @return true - если модуль подключён и вектор вмещает не меньше 4 значений, иначе - false
+     * */
+    private static boolean vectorSupported() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+
+        try {
+            return IntVectorScan.LANES >= 4;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Вычисление длины первого (до конца массива) участка кольцевой коллекции
+     * */
+    private static int firstLength(int[] array, int head, int size) {
+        return Math.min(size, array.length - head);
+    }
+
+
+    // SEGMENT - обработка непрерывного участка [fromIndex, toIndex)
+    /**
+     * Сумма элементов участка (с переполнением, как у {@link IntArray#sum()})
+     * */
+    static int sum(int[] array, int fromIndex, int toIndex) {
+        if (VECTORIZED) {
+            return IntVectorScan.sum(array, fromIndex, toIndex);
+        }
+        int sum = 0;
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Минимальное значение элементов участка (для пустого участка - Integer.MAX_VALUE)
+     * */
+    static int min(int[] array, int fromIndex, int toIndex) {
+        if (VECTORIZED) {
+            return IntVectorScan.min(array, fromIndex, toIndex);
+        }
+        int min = Integer.MAX_VALUE;
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Максимальное значение элементов участка (для пустого участка - Integer.MIN_VALUE)
+     * */
+    static int max(int[] array, int fromIndex, int toIndex) {
+        if (VECTORIZED) {
+            return IntVectorScan.max(array, fromIndex, toIndex);
+        }
+        int max = Integer.MIN_VALUE;
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Количество элементов участка с указанным значением
+     * */
+    static int count(int[] array, int fromIndex, int toIndex, int value) {
+        if (VECTORIZED) {
+            return IntVectorScan.count(array, fromIndex, toIndex, value);
+        }
+        int count = 0;
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Индекс массива первого элемента участка с указанным значением
+     * @return Индекс элемента или -1, если элемент не найден
+     * */
+    static int indexOf(int[] array, int fromIndex, int toIndex, int value) {
+        if (VECTORIZED) {
+            return IntVectorScan.indexOf(array, fromIndex, toIndex, value);
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Индекс массива последнего элемента участка с указанным значением
+     * @return Индекс элемента или -1, если элемент не найден
+     * */
+    static int lastIndexOf(int[] array, int fromIndex, int toIndex, int value) {
+        if (VECTORIZED) {
+            return IntVectorScan.lastIndexOf(array, fromIndex, toIndex, value);
+        }
+
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+
+    // RING - обработка кольцевой коллекции (не более двух участков)
+    static int sumRing(int[] array, int head, int size) {
+        int first = firstLength(array, head, size);
+        return sum(array, head, head + first) + sum(array, 0, size - first);
+    }
+
+    static int minRing(int[] array, int head, int size) {
+        int first = firstLength(array, head, size);
+        return Math.min(min(array, head, head + first), min(array, 0, size - first));
+    }
+
+    static int maxRing(int[] array, int head, int size) {
+        int first = firstLength(array, head, size);
+        return Math.max(max(array, head, head + first), max(array, 0, size - first));
+    }
+
+    static int countRing(int[] array, int head, int size, int value) {
+        int first = firstLength(array, head, size);
+        return count(array, head, head + first, value) + count(array, 0, size - first, value);
+    }
+
+    /**
+     * Логический индекс первого элемента с указанным значением
+     * @return Индекс элемента (от начала коллекции) или -1, если элемент не найден
+     * */
+    static int indexOfRing(int[] array, int head, int size, int value) {
+        int first = firstLength(array, head, size);
+        int index = indexOf(array, head, head + first, value);
+
+        if (index >= 0) {
+            return index - head;
+        }
+        index = indexOf(array, 0, size - first, value);
+        return (index >= 0) ? first + index : -1;
+    }
+
+    /**
+     * Логический индекс последнего элемента с указанным значением
+     * @return Индекс элемента (от начала коллекции) или -1, если элемент не найден
+     * */
+    static int lastIndexOfRing(int[] array, int head, int size, int value) {
+        int first = firstLength(array, head, size);
+        int index = lastIndexOf(array, 0, size - first, value);
+
+        if (index >= 0) {
+            return first + index;
+        }
+        index = lastIndexOf(array, head, head + first, value);
+        return (index >= 0) ? index - head : -1;
+    }
+}
@@ -0,0 +1,306 @@
+package collections;
+
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Представление диапазона элементов {@link IntArray} и наследников без копирования элементов.
+ * Представление читает и изменяет внутренний массив коллекции напрямую: диапазон может переходить
+ * через конец внутреннего массива очереди, тогда операции выполняются над двумя участками.
+ * Изменения через представление видны в коллекции и учитываются ею (статистика, отслеживание минимума и максимума).
+ * Любое другое изменение коллекции (добавление, удаление, увеличение вместимости, сортировка, изменение значений)
+ * делает представление недействительным: следующее обращение к нему приводит к {@link ConcurrentModificationException}
+ * */
+public final class IntSlice {
+    // FIELDS - поля класса
+    private final IntArray owner;
+    /**
+     * Внутренний массив коллекции на момент создания представления
+     * */
+    private final int[] array;
+    /**
+     * Индекс внутреннего массива первого элемента представления
+     * */
+    private final int start;
+    /**
+     * Позиция первого элемента представления в коллекции
+     * */
+    private final int fromIndex;
+    /**
+     * Количество элементов представления
+     * */
+    private final int size;
+    private int expectedModCount;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор представления диапазона позиций коллекции (диапазон предварительно проверен)
+     * @param owner Коллекция
+     * @param fromIndex Позиция первого элемента (включительно)
+     * @param toIndex Позиция конца диапазона (не включительно)
+     * */
+    IntSlice(IntArray owner, int fromIndex, int toIndex) {
+        int head = owner.headIndex();
+        int tail = owner.capacity - head;
+
+        this.owner = owner;
+        this.array = owner.collection;
+        this.start = (fromIndex < tail) ? head + fromIndex : fromIndex - tail;
+        this.fromIndex = fromIndex;
+        this.size = toIndex - fromIndex;
+        this.expectedModCount = owner.modCount;
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Проверка действительности представления
+     * @exception ConcurrentModificationException Ошибка изменения коллекции после создания представления
+     * */
+    private void checkValid() {
+        if (owner.modCount != expectedModCount) {
+            throw new ConcurrentModificationException("Коллекция изменена после создания представления");
+        }
+    }
+
+    /**
+     * Проверка индекса и преобразование его в индекс внутреннего массива
+     * @param index Индекс элемента (положительный - с начала представления, отрицательный - с конца представления)
+     * @return Индекс внутреннего массива
+     * @exception ArrayIndexOutOfBoundsException Ошибка отсутствия элемента по указанному индексу
+     * */
+    private int physicalIndex(int index) {
+        if (index >= size || index < -size) {
+            throw new ArrayIndexOutOfBoundsException("Элемент по индексу " + index + " отсутствует в представлении");
+        }
+
+        if (index < 0) {
+            index += size;
+        }
+        int tail = array.length - start;
+        return (index < tail) ? start + index : index - tail;
+    }
+
+    /**
+     * Проверка диапазона позиций [fromIndex, toIndex) для коллекции указанного размера
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода диапазона за пределы элементов
+     * */
+    static void checkRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Диапазон [" + fromIndex + ", " + toIndex +
+                    ") выходит за пределы элементов (количество элементов - " + size + ")");
+        }
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение количества элементов представления
+     * @return Количество элементов
+     * */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Получение элемента представления по индексу
+     * @param index Индекс элемента (положительный - с начала представления, отрицательный - с конца представления)
+     * @return Элемент по указанному индексу
+     * */
+    public int getElement(int index) {
+        checkValid();
+        return array[physicalIndex(index)];
+    }
+
+    /**
+     * Получение минимального значения элементов представления
+     * @return Минимальное значение элементов типа {@link Integer} (null - для пустого представления)
+     * */
+    public Integer getMin() {
+        return (size == 0) ? null : getMinOrDefault(0);
+    }
+
+    /**
+     * Получение минимального значения элементов представления без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого представления
+     * @return Минимальное значение элементов или defaultValue, если представление пусто
+     * */
+    public int getMinOrDefault(int defaultValue) {
+        checkValid();
+        return (size == 0) ? defaultValue : IntScan.minRing(array, start, size);
+    }
+
+    /**
+     * Получение максимального значения элементов представления
+     * @return Максимальное значение элементов типа {@link Integer} (null - для пустого представления)
+     * */
+    public Integer getMax() {
+        return (size == 0) ? null : getMaxOrDefault(0);
+    }
+
+    /**
+     * Получение максимального значения элементов представления без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого представления
+     * @return Максимальное значение элементов или defaultValue, если представление пусто
+     * */
+    public int getMaxOrDefault(int defaultValue) {
+        checkValid();
+        return (size == 0) ? defaultValue : IntScan.maxRing(array, start, size);
+    }
+
+    /**
+     * Получение нового массива элементов представления
+     * @return Копия элементов представления
+     * */
+    public int[] toArray() {
+        checkValid();
+        int[] result = new int[size];
+        int first = Math.min(size, array.length - start);
+        System.arraycopy(array, start, result, 0, first);
+        System.arraycopy(array, 0, result, first, size - first);
+        return result;
+    }
+
+
+    // SETTERS - изменение данных
+    /**
+     * Установка значения элементу представления (изменяет элемент коллекции)
+     * @param index Индекс элемента (положительный - с начала представления, отрицательный - с конца представления)
+     * @param value Новое значение элемента
+     * */
+    public void setElement(int index, int value) {
+        checkValid();
+        int physical = physicalIndex(index);
+        owner.elementRemoved(array[physical]);
+        array[physical] = value;
+        owner.elementAdded(value);
+        owner.elementsChanged();
+        expectedModCount = owner.modCount;
+    }
+
+    /**
+     * Установка значения всем элементам представления (изменяет элементы коллекции)
+     * @param value Новое значение элементов
+     * */
+    public void setAll(int value) {
+        checkValid();
+
+        for (int i = 0, j = start; i < size; i++, j++) {
+            if (j == array.length) {
+                j = 0;
+            }
+            owner.elementRemoved(array[j]);
+            array[j] = value;
+            owner.elementAdded(value);
+        }
+        owner.elementsChanged();
+        expectedModCount = owner.modCount;
+    }
+
+
+    // CHECK - проверка данных
+    /**
+     * Проверка наличия элемента с указанным значением
+     * @param value Проверяемое значение
+     * @return true - если в представлении имеется элемент с проверяемым значением, иначе - false
+     * */
+    public boolean contains(int value) {
+        return indexOfOrDefault(value, -1) >= 0;
+    }
+
+
+    // SEARCH - поиск данных
+    /**
+     * Получение индекса первого элемента представления с указанным значением без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое, если элемент не найден (обычно -1)
+     * @return Индекс элемента (от начала представления) или defaultValue
+     * */
+    public int indexOfOrDefault(int value, int defaultValue) {
+        checkValid();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        int index = IntScan.indexOfRing(array, start, size, value);
+        return (index < 0) ? defaultValue : index;
+    }
+
+
+    // SUM - сложение данных
+    /**
+     * Сложение значений элементов представления
+     * @return Сумма элементов типа {@link Integer} (null - для пустого представления)
+     * */
+    public Integer sum() {
+        return (size == 0) ? null : sumOrDefault(0);
+    }
+
+    /**
+     * Сложение значений элементов представления без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого представления
+     * @return Сумма элементов или defaultValue, если представление пусто
+     * */
+    public int sumOrDefault(int defaultValue) {
+        checkValid();
+        return (size == 0) ? defaultValue : IntScan.sumRing(array, start, size);
+    }
+
+
+    // SLICE - представление части элементов
+    /**
+     * Получение представления части элементов представления
+     * @param fromIndex Индекс первого элемента (включительно)
+     * @param toIndex Индекс конца диапазона (не включительно)
+     * @return Представление элементов коллекции
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода диапазона за пределы представления
+     * */
+    public IntSlice slice(int fromIndex, int toIndex) {
+        checkValid();
+        checkRange(fromIndex, toIndex, size);
+        return new IntSlice(owner, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+    }
+
+
+    // ITERATION - обход данных
+    /**
+     * Выполнение действия для каждого элемента представления без упаковки значений
+     * @param action Действие над значением элемента
+     * */
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action);
+        spliterator().forEachRemaining(action);
+    }
+
+    /**
+     * Получение итератора элементов представления без упаковки значений
+     * @return Итератор типа {@link PrimitiveIterator.OfInt}
+     * */
+    public PrimitiveIterator.OfInt iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Получение разделяемого обхода элементов представления (SIZED, SUBSIZED, ORDERED)
+     * @return Обход элементов типа {@link Spliterator.OfInt}
+     * */
+    public Spliterator.OfInt spliterator() {
+        checkValid();
+        return new IntSpliterator(owner, fromIndex, fromIndex + size);
+    }
+
+    /**
+     * Получение последовательного потока значений элементов представления
+     * @return Поток значений элементов
+     * */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+}
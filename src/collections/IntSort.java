@@ -0,0 +1,360 @@
+package collections;
+
+public final class IntSort {
+    // CONSTANTS - константы класса
+    /**
+     * Максимальное количество элементов, сортируемых вставками
+     * */
+    static final int INSERTION_SORT_THRESHOLD = 32;
+    /**
+     * Максимальное количество упорядоченных серий, при котором данные считаются почти отсортированными
+     * */
+    static final int MAX_RUN_COUNT = 64;
+    /**
+     * Минимальное количество элементов, сортируемых поразрядно (LSD radix sort)
+     * */
+    static final int RADIX_SORT_THRESHOLD = 1024;
+    /**
+     * Количество бит в одном разряде поразрядной сортировки
+     * */
+    private static final int RADIX_BITS = 8;
+    /**
+     * Количество значений одного разряда поразрядной сортировки
+     * */
+    private static final int RADIX = 1 << RADIX_BITS;
+    /**
+     * Количество разрядов в значении типа int
+     * */
+    private static final int DIGITS = Integer.SIZE / RADIX_BITS;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Класс содержит только статические методы
+     * */
+    private IntSort() {
+    }
+
+
+    // SORT - сортировка данных
+    /**
+     * Сортировка диапазона массива в порядке увеличения значений
+     * @param array Сортируемый массив
+     * @param fromIndex Индекс первого элемента диапазона (включительно)
+     * @param toIndex Индекс конца диапазона (не включительно)
+     * @return true - если порядок элементов изменился, иначе - false
+     * @exception ArrayIndexOutOfBoundsException Ошибка указания диапазона за пределами массива
+     * */
+    public static boolean sort(int[] array, int fromIndex, int toIndex) {
+        checkRange(array, fromIndex, toIndex);
+        return sortAscending(array, fromIndex, toIndex);
+    }
+
+    /**
+     * Сортировка диапазона массива в порядке уменьшения значений.
+     * Значения диапазона инвертируются (~x), сортируются по возрастанию
+     * и инвертируются обратно, так как x &lt; y равносильно ~x &gt; ~y
+     * @param array Сортируемый массив
+     * @param fromIndex Индекс первого элемента диапазона (включительно)
+     * @param toIndex Индекс конца диапазона (не включительно)
+     * @return true - если порядок элементов изменился, иначе - false
+     * @exception ArrayIndexOutOfBoundsException Ошибка указания диапазона за пределами массива
+     * */
+    public static boolean reverseSort(int[] array, int fromIndex, int toIndex) {
+        checkRange(array, fromIndex, toIndex);
+        complement(array, fromIndex, toIndex);
+        boolean sorted = sortAscending(array, fromIndex, toIndex);
+        complement(array, fromIndex, toIndex);
+        return sorted;
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Проверка допустимости диапазона массива
+     * @param array Проверяемый массив
+     * @param fromIndex Индекс первого элемента диапазона (включительно)
+     * @param toIndex Индекс конца диапазона (не включительно)
+     * @exception ArrayIndexOutOfBoundsException Ошибка указания диапазона за пределами массива
+     * */
+    private static void checkRange(int[] array, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > array.length || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Диапазон [" + fromIndex + ", " + toIndex +
+                    ") выходит за пределы массива длиной " + array.length);
+        }
+    }
+
+    /**
+     * Выбор метода сортировки по размеру и характеру данных
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    private static boolean sortAscending(int[] array, int fromIndex, int toIndex) {
+        int length = toIndex - fromIndex;
+
+        if (length < 2) {
+            return false;
+        }
+
+        if (length <= INSERTION_SORT_THRESHOLD) {
+            return insertionSort(array, fromIndex, toIndex);
+        }
+
+        // поиск упорядоченных серий: отсортированные и почти отсортированные данные
+        // сливаются за линейное (или близкое к линейному) время
+        int[] runs = new int[MAX_RUN_COUNT + 1];
+        int count = findRuns(array, fromIndex, toIndex, runs);
+
+        if (count == 1) {
+            return runs[0] != 0;
+        }
+
+        if (count > 0) {
+            runs[0] = 0;
+            mergeRuns(array, fromIndex, runs, count);
+            return true;
+        }
+
+        if (length >= RADIX_SORT_THRESHOLD) {
+            radixSort(array, fromIndex, toIndex);
+        } else {
+            mergeSort(array, fromIndex, toIndex);
+        }
+        return true;
+    }
+
+    /**
+     * Сортировка вставками
+     * @return true - если хотя бы один элемент был перемещён, иначе - false
+     * */
+    private static boolean insertionSort(int[] array, int fromIndex, int toIndex) {
+        boolean sorted = false;
+
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            int value = array[i];
+            int j = i - 1;
+
+            if (array[j] <= value) {
+                continue;
+            }
+
+            while (j >= fromIndex && array[j] > value) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+            sorted = true;
+        }
+        return sorted;
+    }
+
+    /**
+     * Поиск неубывающих серий в диапазоне массива. Убывающие серии разворачиваются на месте.
+     * Границы серий (относительно fromIndex) записываются в runs[1..count],
+     * а runs[0] принимает значение 1, если хотя бы одна серия была развёрнута
+     * @return Количество найденных серий или 0, если серий больше {@link IntSort#MAX_RUN_COUNT}
+     * */
+    private static int findRuns(int[] array, int fromIndex, int toIndex, int[] runs) {
+        int count = 0;
+        int index = fromIndex;
+        runs[0] = 0;
+
+        while (index < toIndex) {
+            int start = index++;
+
+            if (index < toIndex && array[index] < array[index - 1]) {
+                while (index < toIndex && array[index] <= array[index - 1]) {
+                    index++;
+                }
+                reverse(array, start, index - 1);
+                runs[0] = 1;
+            } else {
+                while (index < toIndex && array[index] >= array[index - 1]) {
+                    index++;
+                }
+            }
+
+            // соседние серии, которые продолжают друг друга, объединяются
+            if (count > 0 && array[start - 1] <= array[start]) {
+                runs[count] = index - fromIndex;
+                continue;
+            }
+
+            if (count == MAX_RUN_COUNT) {
+                return 0;
+            }
+            runs[++count] = index - fromIndex;
+        }
+        return count;
+    }
+
+    /**
+     * Попарное слияние серий с использованием вспомогательного буфера
+     * @param runs Границы серий относительно fromIndex (runs[0] = 0, runs[count] = длина диапазона)
+     * */
+    private static void mergeRuns(int[] array, int fromIndex, int[] runs, int count) {
+        int length = runs[count];
+        int[] buffer = new int[length];
+
+        int[] source = array;
+        int sourceOffset = fromIndex;
+        int[] target = buffer;
+        int targetOffset = 0;
+
+        while (count > 1) {
+            int newCount = 0;
+
+            for (int k = 0; k + 1 < count; k += 2) {
+                merge(source, sourceOffset, target, targetOffset, runs[k], runs[k + 1], runs[k + 2]);
+                runs[newCount++] = runs[k];
+            }
+
+            if ((count & 1) == 1) {
+                int start = runs[count - 1];
+                System.arraycopy(source, sourceOffset + start, target, targetOffset + start, length - start);
+                runs[newCount++] = start;
+            }
+            runs[newCount] = length;
+            count = newCount;
+
+            int[] temp = source;
+            source = target;
+            target = temp;
+
+            int tempOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = tempOffset;
+        }
+
+        if (source != array) {
+            System.arraycopy(buffer, 0, array, fromIndex, length);
+        }
+    }
+
+    /**
+     * Слияние двух соседних упорядоченных участков [low, middle) и [middle, high)
+     * */
+    private static void merge(int[] source, int sourceOffset, int[] target, int targetOffset,
+                              int low, int middle, int high) {
+        int i = low;
+        int j = middle;
+        int k = low;
+
+        while (i < middle && j < high) {
+            int left = source[sourceOffset + i];
+            int right = source[sourceOffset + j];
+
+            if (left <= right) {
+                target[targetOffset + k++] = left;
+                i++;
+            } else {
+                target[targetOffset + k++] = right;
+                j++;
+            }
+        }
+
+        if (i < middle) {
+            System.arraycopy(source, sourceOffset + i, target, targetOffset + k, middle - i);
+        } else if (j < high) {
+            System.arraycopy(source, sourceOffset + j, target, targetOffset + k, high - j);
+        }
+    }
+
+    /**
+     * Сортировка слиянием: блоки по {@link IntSort#INSERTION_SORT_THRESHOLD} элементов
+     * сортируются вставками, после чего попарно сливаются
+     * */
+    private static void mergeSort(int[] array, int fromIndex, int toIndex) {
+        int length = toIndex - fromIndex;
+        int count = (length + INSERTION_SORT_THRESHOLD - 1) / INSERTION_SORT_THRESHOLD;
+        int[] runs = new int[count + 1];
+
+        for (int i = 0; i < count; i++) {
+            int start = i * INSERTION_SORT_THRESHOLD;
+            int end = Math.min(start + INSERTION_SORT_THRESHOLD, length);
+            insertionSort(array, fromIndex + start, fromIndex + end);
+            runs[i + 1] = end;
+        }
+        mergeRuns(array, fromIndex, runs, count);
+    }
+
+    /**
+     * Поразрядная сортировка (LSD radix sort) по 8 бит за проход.
+     * Гистограммы всех разрядов строятся за один проход, разряды с одинаковым значением
+     * у всех элементов пропускаются. Знаковый бит старшего разряда инвертируется,
+     * чтобы отрицательные значения оказались перед положительными
+     * */
+    private static void radixSort(int[] array, int fromIndex, int toIndex) {
+        int length = toIndex - fromIndex;
+        int[] counts = new int[DIGITS * RADIX];
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            int key = array[i] ^ Integer.MIN_VALUE;
+
+            for (int digit = 0; digit < DIGITS; digit++) {
+                counts[digit * RADIX + ((key >>> (digit * RADIX_BITS)) & (RADIX - 1))]++;
+            }
+        }
+
+        int[] buffer = new int[length];
+        int[] source = array;
+        int sourceOffset = fromIndex;
+        int[] target = buffer;
+        int targetOffset = 0;
+
+        for (int digit = 0; digit < DIGITS; digit++) {
+            int base = digit * RADIX;
+            int shift = digit * RADIX_BITS;
+
+            // если все элементы имеют одинаковое значение разряда, проход не нужен
+            int first = ((source[sourceOffset] ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1);
+            if (counts[base + first] == length) {
+                continue;
+            }
+
+            int position = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int bucketSize = counts[base + bucket];
+                counts[base + bucket] = position;
+                position += bucketSize;
+            }
+
+            for (int i = 0; i < length; i++) {
+                int value = source[sourceOffset + i];
+                int bucket = ((value ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1);
+                target[targetOffset + counts[base + bucket]++] = value;
+            }
+
+            int[] temp = source;
+            source = target;
+            target = temp;
+
+            int tempOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = tempOffset;
+        }
+
+        if (source != array) {
+            System.arraycopy(buffer, 0, array, fromIndex, length);
+        }
+    }
+
+    /**
+     * Перевёртывание элементов массива в диапазоне [fromIndex, lastIndex]
+     * */
+    static void reverse(int[] array, int fromIndex, int lastIndex) {
+        for (int i = fromIndex, j = lastIndex; i < j; i++, j--) {
+            int temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+
+    /**
+     * Инвертирование всех битов значений диапазона массива
+     * */
+    private static void complement(int[] array, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            array[i] = ~array[i];
+        }
+    }
+}
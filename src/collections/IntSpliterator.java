@@ -0,0 +1,145 @@
+package collections;
+
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Разделяемый обход элементов {@link IntArray} и наследников для {@link java.util.stream.IntStream}.
+ * Обходит диапазон позиций элементов (от начала коллекции) и делит его пополам по позициям,
+ * поэтому части получаются равными и при кольцевом расположении элементов (первый элемент после последнего
+ * во внутреннем массиве очереди). Каждая часть читает внутренний массив напрямую - одним или двумя участками.
+ * Изменение коллекции во время обхода обнаруживается по счётчику изменений
+ * */
+final class IntSpliterator implements Spliterator.OfInt {
+    // FIELDS - поля класса
+    private final IntArray owner;
+    private final int[] array;
+    /**
+     * Индекс внутреннего массива первого элемента коллекции
+     * */
+    private final int head;
+    /**
+     * Количество позиций от первого элемента до конца внутреннего массива
+     * */
+    private final int tail;
+    /**
+     * Позиция следующего элемента
+     * */
+    private int index;
+    /**
+     * Позиция конца диапазона (не включительно)
+     * */
+    private final int fence;
+    private final int expectedModCount;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор обхода всех элементов коллекции
+     * @param owner Обходимая коллекция
+     * */
+    IntSpliterator(IntArray owner) {
+        this(owner, 0, owner.size);
+    }
+
+    /**
+     * Конструктор обхода элементов коллекции в диапазоне позиций
+     * @param owner Обходимая коллекция
+     * @param fromIndex Позиция первого элемента (включительно)
+     * @param toIndex Позиция конца диапазона (не включительно)
+     * */
+    IntSpliterator(IntArray owner, int fromIndex, int toIndex) {
+        this(owner, owner.collection, owner.headIndex(), owner.capacity - owner.headIndex(),
+                fromIndex, toIndex, owner.modCount);
+    }
+
+    private IntSpliterator(IntArray owner, int[] array, int head, int tail, int index, int fence, int expectedModCount) {
+        this.owner = owner;
+        this.array = array;
+        this.head = head;
+        this.tail = tail;
+        this.index = index;
+        this.fence = fence;
+        this.expectedModCount = expectedModCount;
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Преобразование позиции элемента в индекс внутреннего массива
+     * */
+    private int physicalIndex(int position) {
+        return (position < tail) ? head + position : position - tail;
+    }
+
+    /**
+     * Проверка отсутствия изменений коллекции с начала обхода
+     * @exception ConcurrentModificationException Ошибка изменения коллекции во время обхода
+     * */
+    private void checkModCount() {
+        if (owner.modCount != expectedModCount) {
+            throw new ConcurrentModificationException("Коллекция изменена во время обхода элементов");
+        }
+    }
+
+
+    // SPLIT - разделение обхода
+    @Override
+    public OfInt trySplit() {
+        int low = index;
+        int middle = (low + fence) >>> 1;
+
+        if (low >= middle) {
+            return null;
+        }
+        index = middle;
+        return new IntSpliterator(owner, array, head, tail, low, middle, expectedModCount);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+
+
+    // TRAVERSE - обход элементов
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        Objects.requireNonNull(action);
+
+        if (index >= fence) {
+            return false;
+        }
+        int value = array[physicalIndex(index)];
+        index++;
+        action.accept(value);
+        checkModCount();
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        Objects.requireNonNull(action);
+        int[] array = this.array;
+        int low = index;
+        int high = fence;
+        index = high;
+
+        // участок до конца внутреннего массива и участок с его начала
+        for (int i = low, end = Math.min(high, tail); i < end; i++) {
+            action.accept(array[head + i]);
+        }
+
+        for (int i = Math.max(low, tail) - tail, end = high - tail; i < end; i++) {
+            action.accept(array[i]);
+        }
+        checkModCount();
+    }
+}
@@ -0,0 +1,260 @@
+package collections;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Неблокирующая очередь целочисленных значений для одного производителя и одного потребителя.
+ * Повторяет кольцевую схему {@link IntQueue} (первый и последний элементы движутся по кругу внутреннего массива),
+ * но вместо индексов firstIndex/lastIndex хранит монотонные счётчики головы и хвоста (см. {@link RingIndexes}):
+ * позиция в массиве вычисляется маской, так как вместимость - степень двойки.
+ * Производитель публикует элементы записью хвоста с семантикой release, потребитель освобождает позиции
+ * записью головы с семантикой release; каждая сторона кэширует чужой счётчик и перечитывает его (acquire),
+ * только когда кэшированного значения недостаточно.
+ * Методы добавления (offer, fill) может вызывать только один поток, методы получения (peekFirst, poll, drainTo) -
+ * только один (другой) поток
+ * */
+public class IntSpscQueue extends RingIndexes {
+    // FIELDS - поля класса
+    /**
+     * Кольцевой массив значений
+     * */
+    private final int[] collection;
+    /**
+     * Маска позиции в массиве (вместимость - 1)
+     * */
+    private final int mask;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор очереди с указанием её вместимости
+     * @param capacity Вместимость очереди (округляется вверх до степени двойки)
+     * @exception IllegalArgumentException Ошибка указания вместимости меньше 1 или больше 2^30
+     * */
+    public IntSpscQueue(int capacity) {
+        int ringCapacity = ringCapacity(capacity);
+        collection = new int[ringCapacity];
+        mask = ringCapacity - 1;
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение вместимости очереди
+     * @return Вместимость очереди (степень двойки)
+     * */
+    public int getCapacity() {
+        return collection.length;
+    }
+
+    /**
+     * Получение количества элементов очереди
+     * (при одновременной работе производителя и потребителя значение приблизительное)
+     * @return Количество элементов очереди
+     * */
+    public int getSize() {
+        long head = headAcquire();
+        long size = tailAcquire() - head;
+        return (int) Math.max(0, Math.min(size, collection.length));
+    }
+
+    /**
+     * Проверка отсутствия элементов (вызывается потребителем)
+     * @return true - если очередь пуста, иначе - false
+     * */
+    public boolean isEmpty() {
+        return headPlain() == tailAcquire();
+    }
+
+    /**
+     * Получение элемента из начала очереди без его удаления (вызывается потребителем)
+     * @return Элемент начала очереди типа {@link Integer} или null, если очередь пуста
+     * */
+    public Integer peekFirst() {
+        long head = headPlain();
+
+        if (head == tailCache && head == (tailCache = tailAcquire())) {
+            return null;
+        }
+        return collection[(int) head & mask];
+    }
+
+    /**
+     * Получение элемента из начала очереди без его удаления и без упаковки значения (вызывается потребителем)
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Элемент начала очереди или defaultValue, если очередь пуста
+     * */
+    public int peekFirstOrDefault(int defaultValue) {
+        long head = headPlain();
+
+        if (head == tailCache && head == (tailCache = tailAcquire())) {
+            return defaultValue;
+        }
+        return collection[(int) head & mask];
+    }
+
+
+    // ADD - добавление данных (поток производителя)
+    /**
+     * Добавление элемента в конец очереди
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе (очередь заполнена) - false
+     * */
+    public boolean offer(int value) {
+        long tail = tailPlain();
+
+        if (tail - headCache == collection.length && tail - (headCache = headAcquire()) == collection.length) {
+            return false;
+        }
+        collection[(int) tail & mask] = value;
+        tailRelease(tail + 1);
+        return true;
+    }
+
+    /**
+     * Добавление элемента в конец очереди
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения очереди
+     * */
+    public void addLast(int value) {
+        if (!offer(value)) {
+            throw new ArrayStoreException("Очередь заполнена. Добавление нового элемента невозможно");
+        }
+    }
+
+    /**
+     * Пакетное добавление значений в конец очереди (хвост публикуется один раз на весь пакет)
+     * @param values Добавляемые значения
+     * @return Количество добавленных значений (меньше длины массива, если очередь заполнилась)
+     * */
+    public int fill(int[] values) {
+        return fill(values, 0, values.length);
+    }
+
+    /**
+     * Пакетное добавление участка массива в конец очереди (хвост публикуется один раз на весь пакет)
+     * @param values Массив добавляемых значений
+     * @param offset Индекс первого добавляемого значения
+     * @param length Наибольшее количество добавляемых значений
+     * @return Количество добавленных значений
+     * @exception IndexOutOfBoundsException Ошибка выхода участка за пределы массива
+     * */
+    public int fill(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long tail = tailPlain();
+        long free = collection.length - (tail - headCache);
+
+        if (free < length) {
+            headCache = headAcquire();
+            free = collection.length - (tail - headCache);
+        }
+
+        int count = (int) Math.min(free, length);
+
+        if (count == 0) {
+            return 0;
+        }
+
+        int start = (int) tail & mask;
+        int first = Math.min(count, collection.length - start);
+        System.arraycopy(values, offset, collection, start, first);
+        // часть пакета переходит через конец массива
+        System.arraycopy(values, offset + first, collection, 0, count - first);
+
+        tailRelease(tail + count);
+        return count;
+    }
+
+
+    // REMOVE - удаление данных (поток потребителя)
+    /**
+     * Удаление элемента из начала очереди с возвращением удалённого элемента
+     * @return Удалённый элемент очереди типа {@link Integer} или null, если очередь пуста
+     * */
+    public Integer poll() {
+        long head = headPlain();
+
+        if (head == tailCache && head == (tailCache = tailAcquire())) {
+            return null;
+        }
+        int value = collection[(int) head & mask];
+        headRelease(head + 1);
+        return value;
+    }
+
+    /**
+     * Удаление элемента из начала очереди без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Удалённый элемент очереди или defaultValue, если очередь пуста
+     * */
+    public int pollOrDefault(int defaultValue) {
+        long head = headPlain();
+
+        if (head == tailCache && head == (tailCache = tailAcquire())) {
+            return defaultValue;
+        }
+        int value = collection[(int) head & mask];
+        headRelease(head + 1);
+        return value;
+    }
+
+    /**
+     * Удаление элемента из начала очереди с возвращением удалённого элемента
+     * @return Удалённый элемент очереди
+     * @exception NoSuchElementException Ошибка удаления элемента пустой очереди
+     * */
+    public int removeFirst() {
+        long head = headPlain();
+
+        if (head == tailCache && head == (tailCache = tailAcquire())) {
+            throw new NoSuchElementException("Очередь пуста. Удаление первого элемента невозможно");
+        }
+        int value = collection[(int) head & mask];
+        headRelease(head + 1);
+        return value;
+    }
+
+    /**
+     * Пакетное удаление элементов из начала очереди в массив (голова публикуется один раз на весь пакет)
+     * @param target Массив-приёмник
+     * @return Количество перенесённых элементов
+     * */
+    public int drainTo(int[] target) {
+        return drainTo(target, 0, target.length);
+    }
+
+    /**
+     * Пакетное удаление элементов из начала очереди в участок массива (голова публикуется один раз на весь пакет)
+     * @param target Массив-приёмник
+     * @param offset Индекс массива-приёмника для первого элемента
+     * @param length Наибольшее количество переносимых элементов
+     * @return Количество перенесённых элементов
+     * @exception IndexOutOfBoundsException Ошибка выхода участка за пределы массива
+     * */
+    public int drainTo(int[] target, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, target.length);
+        long head = headPlain();
+        long available = tailCache - head;
+
+        if (available < length) {
+            tailCache = tailAcquire();
+            available = tailCache - head;
+        }
+
+        int count = (int) Math.min(available, length);
+
+        if (count == 0) {
+            return 0;
+        }
+
+        int start = (int) head & mask;
+        int first = Math.min(count, collection.length - start);
+        System.arraycopy(collection, start, target, offset, first);
+        // часть пакета переходит через конец массива
+        System.arraycopy(collection, 0, target, offset + first, count - first);
+
+        headRelease(head + count);
+        return count;
+    }
+}
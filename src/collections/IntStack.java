@@ -2,12 +2,16 @@ package collections;
 
 import java.util.NoSuchElementException;
 
-public class IntStack extends IntArray {
+public class IntStack extends IntArray implements IntStackCollection {
     // FIELDS - поля класса
     /**
      * Индекс последнего элемента стека
      * */
     protected int lastIndex;
+    /**
+     * Отслеживание минимального и максимального значений (null - отслеживание отключено)
+     * */
+    private IntStackMinMaxTracker minMaxTracker;
 
 
     // CONSTRUCTORS - конструкторы класса
@@ -45,6 +49,40 @@ public class IntStack extends IntArray {
     }
 
 
+    // SERVICES - служебные методы
+    /**
+     * Уменьшение количества элементов стека с обновлением индекса верхушки
+     * @param newSize Новое количество элементов
+     * */
+    @Override
+    protected void truncate(int newSize) {
+        super.truncate(newSize);
+        lastIndex = newSize - 1;
+    }
+
+    /**
+     * Увеличение количества элементов стека с обновлением индекса верхушки
+     * @param newSize Новое количество элементов
+     * */
+    @Override
+    protected void extend(int newSize) {
+        super.extend(newSize);
+        lastIndex = newSize - 1;
+    }
+
+    /**
+     * Пометка отслеживаемых минимума и максимума устаревшими после изменения элементов не на верхушке стека
+     * */
+    @Override
+    protected void elementsChanged() {
+        super.elementsChanged();
+
+        if (minMaxTracker != null) {
+            minMaxTracker.invalidate();
+        }
+    }
+
+
     // GETTERS - получение данных
     /**
      * Получение элемента верхушки стека
@@ -69,6 +107,70 @@ public class IntStack extends IntArray {
         return collection[lastIndex];
     }
 
+    /**
+     * Получение элемента верхушки стека без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого стека
+     * @return Элемент верхушки стека или defaultValue, если стек пуст
+     * **/
+    public int peekLastOrDefault(int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        return collection[lastIndex];
+    }
+
+    /**
+     * Получение минимального значения элементов стека без упаковки значения.
+     * В режиме отслеживания (см. {@link IntStack#setMinMaxTracking(boolean)}) выполняется за O(1)
+     * @param defaultValue Значение, возвращаемое для пустого стека
+     * @return Минимальное значение элементов стека или defaultValue, если стек пуст
+     * */
+    @Override
+    public int getMinOrDefault(int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+
+        if (minMaxTracker == null) {
+            return super.getMinOrDefault(defaultValue);
+        }
+
+        if (minMaxTracker.isStale()) {
+            minMaxTracker.rebuild(collection, size);
+        }
+        return minMaxTracker.getMin();
+    }
+
+    /**
+     * Получение максимального значения элементов стека без упаковки значения.
+     * В режиме отслеживания (см. {@link IntStack#setMinMaxTracking(boolean)}) выполняется за O(1)
+     * @param defaultValue Значение, возвращаемое для пустого стека
+     * @return Максимальное значение элементов стека или defaultValue, если стек пуст
+     * */
+    @Override
+    public int getMaxOrDefault(int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+
+        if (minMaxTracker == null) {
+            return super.getMaxOrDefault(defaultValue);
+        }
+
+        if (minMaxTracker.isStale()) {
+            minMaxTracker.rebuild(collection, size);
+        }
+        return minMaxTracker.getMax();
+    }
+
+    /**
+     * Проверка режима отслеживания минимума и максимума
+     * @return true - если минимум и максимум отслеживаются при добавлении и удалении элементов, иначе - false
+     * */
+    public boolean isMinMaxTracking() {
+        return minMaxTracker != null;
+    }
+
 
     // ADD - добавление данных
     /**
@@ -84,15 +186,20 @@ public class IntStack extends IntArray {
     /**
      * Добавление элемента в стек
      * @param value Значение добавляемого элемента
-     * @exception ArrayStoreException Ошибка переполнения стека
+     * @exception ArrayStoreException Ошибка переполнения стека (если политика не позволяет увеличить вместимость)
      * */
     public void addLast(int value) {
-        if (size == capacity) {
+        if (size == capacity && !grow(size + 1)) {
             throw new ArrayStoreException("Стек заполнен. Добавление нового элемента невозможно");
         }
         collection[size] = value;
         size++;
         lastIndex++;
+
+        if (minMaxTracker != null) {
+            minMaxTracker.push(value, size);
+        }
+        elementAdded(value);
     }
 
     /**
@@ -111,17 +218,40 @@ public class IntStack extends IntArray {
      * @return true - если новый элемент добавлен в массив, иначе - false
      * */
     public boolean offerLast(int value) {
-        if (size == capacity) {
+        if (size == capacity && !grow(size + 1)) {
             return false;
         }
         collection[size] = value;
         size++;
         lastIndex++;
+
+        if (minMaxTracker != null) {
+            minMaxTracker.push(value, size);
+        }
+        elementAdded(value);
         return true;
     }
 
 
     // SETTERS - изменение данных
+    /**
+     * Включение или отключение режима отслеживания минимума и максимума.
+     * В режиме отслеживания {@link IntStack#getMin()} и {@link IntStack#getMax()} выполняются за O(1).
+     * Минимум и максимум записываются только при изменении (два int на запись): для значений в случайном порядке
+     * это в среднем около ln(size) записей на каждую сторону, для возрастающих или убывающих значений - до size записей.
+     * Изменения элементов не на верхушке стека (сортировка, удаление по индексу) приводят к пересчёту
+     * при следующем запросе минимума или максимума
+     * @param enabled true - включить отслеживание, false - отключить
+     * */
+    public void setMinMaxTracking(boolean enabled) {
+        if (!enabled) {
+            minMaxTracker = null;
+        } else if (minMaxTracker == null) {
+            minMaxTracker = new IntStackMinMaxTracker();
+            minMaxTracker.rebuild(collection, size);
+        }
+    }
+
     /**
      * Установка значения элементу верхушки стека
      * @param value Новое значение элемента верхушки стека
@@ -131,7 +261,10 @@ public class IntStack extends IntArray {
         if (size == 0) {
             throw new NoSuchElementException("В стеке отсутствуют элементы");
         }
+        elementRemoved(collection[lastIndex]);
         collection[lastIndex] = value;
+        elementAdded(value);
+        elementsChanged();
     }
 
 
@@ -147,8 +280,13 @@ public class IntStack extends IntArray {
         }
         int value = collection[lastIndex];
         collection[lastIndex] = 0;
+
+        if (minMaxTracker != null) {
+            minMaxTracker.pop(size);
+        }
         lastIndex--;
         size--;
+        elementRemoved(value);
         return value;
     }
 
@@ -162,11 +300,28 @@ public class IntStack extends IntArray {
         }
         int value = collection[lastIndex];
         collection[lastIndex] = 0;
+
+        if (minMaxTracker != null) {
+            minMaxTracker.pop(size);
+        }
         lastIndex--;
         size--;
+        elementRemoved(value);
         return value;
     }
 
+    /**
+     * Удаление элемента верхушки стека с возвращением удалённого элемента без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого стека
+     * @return Удалённый элемент верхушки стека или defaultValue, если стек пуст
+     * **/
+    public int pollLastOrDefault(int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        return removeLast();
+    }
+
 
     // TO_STRING - строковое преобразование данных
     /**
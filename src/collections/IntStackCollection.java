@@ -0,0 +1,69 @@
+package collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Общий интерфейс стеков целочисленных значений ({@link IntStack}, {@link OffHeapIntStack})
+ * */
+public interface IntStackCollection extends IntCollection {
+    /**
+     * Получение элемента верхушки стека
+     * @return Элемент верхушки стека
+     * @exception NoSuchElementException Ошибка получения элемента из пустого стека
+     * */
+    int getLast();
+
+    /**
+     * Получение элемента верхушки стека
+     * @return Элемент верхушки стека типа {@link Integer}
+     * */
+    Integer peekLast();
+
+    /**
+     * Получение элемента верхушки стека без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого стека
+     * @return Элемент верхушки стека или defaultValue, если стек пуст
+     * */
+    int peekLastOrDefault(int defaultValue);
+
+    /**
+     * Добавление элемента в стек
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения стека (если политика не позволяет увеличить вместимость)
+     * */
+    void addLast(int value);
+
+    /**
+     * Добавление элемента в стек
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе - false
+     * */
+    boolean offerLast(int value);
+
+    /**
+     * Установка значения элементу верхушки стека
+     * @param value Новое значение элемента верхушки стека
+     * @exception NoSuchElementException Ошибка изменения элемента пустого стека
+     * */
+    void setLast(int value);
+
+    /**
+     * Удаление элемента верхушки стека с возвращением удалённого элемента
+     * @return Удалённый элемент верхушки стека
+     * @exception NoSuchElementException Ошибка удаления элемента в пустом стеке
+     * */
+    int removeLast();
+
+    /**
+     * Удаление элемента верхушки стека с возвращением удалённого элемента
+     * @return Удалённый элемент верхушки стека типа {@link Integer}
+     * */
+    Integer pollLast();
+
+    /**
+     * Удаление элемента верхушки стека с возвращением удалённого элемента без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого стека
+     * @return Удалённый элемент верхушки стека или defaultValue, если стек пуст
+     * */
+    int pollLastOrDefault(int defaultValue);
+}
@@ -0,0 +1,135 @@
+package collections;
+
+import java.util.Arrays;
+
+/**
+ * Отслеживание минимального и максимального значений элементов стека.
+ * Минимум (максимум) записывается только при изменении - вместе с глубиной стека, на которой элемент его изменил,
+ * и удаляется при снятии элемента с этой глубины. Поэтому {@link IntStackMinMaxTracker#getMin()}
+ * и {@link IntStackMinMaxTracker#getMax()} выполняются за O(1), а добавление и удаление - за O(1).
+ * Дополнительная память - два int на запись. Количество записей равно количеству изменений минимума (максимума)
+ * от дна стека к верхушке: для значений в случайном порядке это в среднем около ln(size) записей,
+ * для возрастающих или убывающих значений - до size записей на одну из сторон
+ * */
+final class IntStackMinMaxTracker {
+    // FIELDS - поля класса
+    /**
+     * Записи минимумов (от дна к верхушке значения убывают)
+     * */
+    private final Records mins = new Records();
+    /**
+     * Записи максимумов (от дна к верхушке значения возрастают)
+     * */
+    private final Records maxs = new Records();
+    /**
+     * Признак устаревшего состояния (записи не соответствуют элементам стека)
+     * */
+    private boolean stale;
+
+
+    // SERVICES - служебные методы
+    /**
+     * Проверка устаревшего состояния
+     * @return true - если отслеживание нужно восстановить методом {@link IntStackMinMaxTracker#rebuild}, иначе - false
+     * */
+    boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * Пометка отслеживания устаревшим (после изменения элементов не на верхушке стека)
+     * */
+    void invalidate() {
+        stale = true;
+        mins.count = 0;
+        maxs.count = 0;
+    }
+
+    /**
+     * Восстановление отслеживания по элементам стека
+     * @param array Внутренний массив стека (элементы расположены с начала массива)
+     * @param size Количество элементов
+     * */
+    void rebuild(int[] array, int size) {
+        stale = false;
+
+        for (int i = 0; i < size; i++) {
+            push(array[i], i + 1);
+        }
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение минимального значения (стек не пуст, отслеживание не устарело)
+     * */
+    int getMin() {
+        return mins.values[mins.count - 1];
+    }
+
+    /**
+     * Получение максимального значения (стек не пуст, отслеживание не устарело)
+     * */
+    int getMax() {
+        return maxs.values[maxs.count - 1];
+    }
+
+
+    // ADD - добавление данных
+    /**
+     * Учёт элемента, добавленного на верхушку стека
+     * @param value Значение элемента
+     * @param depth Количество элементов стека после добавления
+     * */
+    void push(int value, int depth) {
+        if (stale) {
+            return;
+        }
+
+        if (mins.count == 0 || value < mins.values[mins.count - 1]) {
+            mins.add(value, depth);
+        }
+
+        if (maxs.count == 0 || value > maxs.values[maxs.count - 1]) {
+            maxs.add(value, depth);
+        }
+    }
+
+
+    // REMOVE - удаление данных
+    /**
+     * Учёт элемента, снятого с верхушки стека
+     * @param depth Количество элементов стека до удаления
+     * */
+    void pop(int depth) {
+        if (stale) {
+            return;
+        }
+        mins.remove(depth);
+        maxs.remove(depth);
+    }
+
+
+    // RECORDS - записи значений с глубиной стека
+    private static final class Records {
+        int[] values = new int[8];
+        int[] depths = new int[8];
+        int count;
+
+        void add(int value, int depth) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count << 1);
+                depths = Arrays.copyOf(depths, count << 1);
+            }
+            values[count] = value;
+            depths[count] = depth;
+            count++;
+        }
+
+        void remove(int depth) {
+            if (count > 0 && depths[count - 1] == depth) {
+                count--;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package collections;
+
+/**
+ * Статистика значений элементов коллекции: количество, сумма, минимум, максимум, среднее и дисперсия.
+ * Сумма хранится в long и не переполняется для любой коллекции (до 2^31 значений int).
+ * Дисперсия вычисляется по точной (128-битной) сумме квадратов, поэтому не теряет точность
+ * при больших значениях с малым разбросом.
+ * Для пустой коллекции, как и у {@link java.util.IntSummaryStatistics}, минимум равен Integer.MAX_VALUE,
+ * максимум - Integer.MIN_VALUE, среднее и дисперсия - NaN
+ * */
+public final class IntStatistics {
+    // FIELDS - поля класса
+    private final int count;
+    private final long sum;
+    private final int min;
+    private final int max;
+    private final double mean;
+    private final double variance;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор статистики с указанием вычисленных значений
+     * @param count Количество элементов
+     * @param sum Сумма элементов
+     * @param min Минимальное значение
+     * @param max Максимальное значение
+     * @param mean Среднее значение
+     * @param variance Дисперсия (генеральная)
+     * */
+    IntStatistics(int count, long sum, int min, int max, double mean, double variance) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+        this.variance = variance;
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение количества элементов
+     * @return Количество элементов
+     * */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Получение суммы элементов
+     * @return Сумма элементов (без переполнения)
+     * */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * Получение минимального значения элементов
+     * @return Минимальное значение или Integer.MAX_VALUE, если элементов нет
+     * */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * Получение максимального значения элементов
+     * @return Максимальное значение или Integer.MIN_VALUE, если элементов нет
+     * */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Получение среднего значения элементов
+     * @return Среднее значение или NaN, если элементов нет
+     * */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Получение генеральной дисперсии значений элементов (средний квадрат отклонения от среднего)
+     * @return Дисперсия или NaN, если элементов нет
+     * */
+    public double getVariance() {
+        return variance;
+    }
+
+    /**
+     * Получение стандартного отклонения значений элементов
+     * @return Квадратный корень дисперсии или NaN, если элементов нет
+     * */
+    public double getStandardDeviation() {
+        return Math.sqrt(variance);
+    }
+
+
+    // TO_STRING - строковое преобразование данных
+    /**
+     * Вывод статистики в виде строки
+     * @return Строка со значениями статистики
+     * */
+    @Override
+    public String toString() {
+        return "count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max
+                + ", mean=" + mean + ", variance=" + variance;
+    }
+}
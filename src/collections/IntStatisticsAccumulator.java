@@ -0,0 +1,200 @@
+package collections;
+
+/**
+ * Накопление статистики значений для {@link IntStatistics}: количество, сумма в long,
+ * сумма квадратов (старшие и младшие 32 бита квадратов суммируются отдельно, без переполнения и ветвлений),
+ * минимум и максимум.
+ * Значения можно как добавлять, так и удалять: количество и суммы при удалении уменьшаются точно,
+ * а удаление минимального или максимального значения помечает их устаревшими -
+ * владелец коллекции пересчитывает их просмотром элементов ({@link IntStatisticsAccumulator#setExtremes})
+ * */
+final class IntStatisticsAccumulator {
+    // FIELDS - поля класса
+    private static final long LOW_MASK = 0xFFFFFFFFL;
+
+    private int count;
+    private long sum;
+    /**
+     * Сумма старших 32 бит квадратов (меньше 2^30 * 2^31)
+     * */
+    private long squaresHigh;
+    /**
+     * Сумма младших 32 бит квадратов (меньше 2^32 * 2^31)
+     * */
+    private long squaresLow;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+    /**
+     * Признак устаревших минимума и максимума (удалено одно из крайних значений)
+     * */
+    private boolean extremesStale;
+
+
+    // SERVICES - служебные методы
+    /**
+     * Проверка устаревших минимума и максимума
+     * @return true - если их нужно пересчитать и установить методом {@link IntStatisticsAccumulator#setExtremes}
+     * */
+    boolean isExtremesStale() {
+        return extremesStale;
+    }
+
+    /**
+     * Установка пересчитанных минимума и максимума
+     * */
+    void setExtremes(int min, int max) {
+        this.min = min;
+        this.max = max;
+        extremesStale = false;
+    }
+
+    /**
+     * Удаление всех значений
+     * */
+    void clear() {
+        count = 0;
+        sum = 0;
+        squaresHigh = 0;
+        squaresLow = 0;
+        min = Integer.MAX_VALUE;
+        max = Integer.MIN_VALUE;
+        extremesStale = false;
+    }
+
+    /**
+     * Замена всех значений указанным количеством одинаковых значений
+     * @param value Значение
+     * @param count Количество значений
+     * */
+    void fill(int value, int count) {
+        clear();
+
+        if (count == 0) {
+            return;
+        }
+        long square = (long) value * value;
+        this.count = count;
+        sum = (long) value * count;
+        squaresHigh = (square >>> 32) * count;
+        squaresLow = (square & LOW_MASK) * count;
+        min = max = value;
+    }
+
+
+    // ADD - добавление данных
+    void add(int value) {
+        long square = (long) value * value;
+        count++;
+        sum += value;
+        squaresHigh += square >>> 32;
+        squaresLow += square & LOW_MASK;
+
+        if (!extremesStale) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+    }
+
+    /**
+     * Добавление значений участка массива за один проход
+     * @param array Массив значений
+     * @param fromIndex Индекс первого значения (включительно)
+     * @param toIndex Индекс конца участка (не включительно)
+     * */
+    void addRange(int[] array, int fromIndex, int toIndex) {
+        long sum = this.sum;
+        long high = squaresHigh;
+        long low = squaresLow;
+        int min = this.min;
+        int max = this.max;
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            int value = array[i];
+            long square = (long) value * value;
+            sum += value;
+            high += square >>> 32;
+            low += square & LOW_MASK;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        count += toIndex - fromIndex;
+        this.sum = sum;
+        squaresHigh = high;
+        squaresLow = low;
+
+        if (!extremesStale) {
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+
+    // REMOVE - удаление данных
+    void remove(int value) {
+        long square = (long) value * value;
+        count--;
+        sum -= value;
+        squaresHigh -= square >>> 32;
+        squaresLow -= square & LOW_MASK;
+
+        if (count == 0) {
+            min = Integer.MAX_VALUE;
+            max = Integer.MIN_VALUE;
+            extremesStale = false;
+        } else if (value == min || value == max) {
+            extremesStale = true;
+        }
+    }
+
+    /**
+     * Удаление значений участка массива
+     * @param array Массив значений
+     * @param fromIndex Индекс первого значения (включительно)
+     * @param toIndex Индекс конца участка (не включительно)
+     * */
+    void removeRange(int[] array, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(array[i]);
+        }
+    }
+
+
+    // SNAPSHOT - получение статистики
+    /**
+     * Получение статистики накопленных значений (минимум и максимум не устарели)
+     * @return Статистика значений
+     * */
+    IntStatistics toStatistics() {
+        if (count == 0) {
+            return new IntStatistics(0, 0, Integer.MAX_VALUE, Integer.MIN_VALUE, Double.NaN, Double.NaN);
+        }
+
+        // сумма квадратов в 128 битах: squaresHigh * 2^32 + squaresLow
+        long squares = squaresHigh << 32;
+        long squaresTop = squaresHigh >>> 32;
+        squares += squaresLow;
+
+        if (Long.compareUnsigned(squares, squaresLow) < 0) {
+            squaresTop++;
+        }
+
+        // дисперсия = (count * сумма квадратов - сумма^2) / count^2, числитель (меньше 2^124) вычисляется точно
+        long product = squares * count;
+        long productTop = Math.multiplyHigh(squares, count) + ((squares < 0) ? count : 0) + squaresTop * count;
+        long square = sum * sum;
+        long squareTop = Math.multiplyHigh(sum, sum);
+        long numerator = product - square;
+        long numeratorTop = productTop - squareTop - ((Long.compareUnsigned(product, square) < 0) ? 1 : 0);
+        double variance = (numeratorTop * 0x1p64 + unsignedToDouble(numerator)) / ((double) count * count);
+
+        return new IntStatistics(count, sum, min, max, (double) sum / count, variance);
+    }
+
+    /**
+     * Преобразование 64 бит без знака в double
+     * */
+    private static double unsignedToDouble(long value) {
+        return (value >= 0) ? value : ((value >>> 1) | (value & 1)) * 2.0;
+    }
+}
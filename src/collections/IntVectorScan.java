@@ -0,0 +1,143 @@
+package collections;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Векторные (SIMD) реализации просмотра участков целочисленного массива для {@link IntScan}.
+ * Ширина вектора выбирается при запуске JVM ({@link IntVector#SPECIES_PREFERRED}): участок обрабатывается
+ * целыми векторами, остаток, не заполняющий вектор, - скалярным циклом.
+ * Класс использует инкубаторный модуль jdk.incubator.vector и загружается, только если модуль подключён к JVM
+ * */
+final class IntVectorScan {
+    // CONSTANTS - константы класса
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    /**
+     * Количество значений в одном векторе
+     * */
+    static final int LANES = SPECIES.length();
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Класс содержит только статические методы
+     * */
+    private IntVectorScan() {
+    }
+
+
+    // REDUCE - свёртка данных
+    static int sum(int[] array, int fromIndex, int toIndex) {
+        int bound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        IntVector sums = IntVector.zero(SPECIES);
+        int i = fromIndex;
+
+        for (; i < bound; i += LANES) {
+            sums = sums.add(IntVector.fromArray(SPECIES, array, i));
+        }
+        int sum = sums.reduceLanes(VectorOperators.ADD);
+
+        for (; i < toIndex; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    static int min(int[] array, int fromIndex, int toIndex) {
+        int bound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        IntVector mins = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        int i = fromIndex;
+
+        for (; i < bound; i += LANES) {
+            mins = mins.min(IntVector.fromArray(SPECIES, array, i));
+        }
+        int min = mins.reduceLanes(VectorOperators.MIN);
+
+        for (; i < toIndex; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    static int max(int[] array, int fromIndex, int toIndex) {
+        int bound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        IntVector maxs = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        int i = fromIndex;
+
+        for (; i < bound; i += LANES) {
+            maxs = maxs.max(IntVector.fromArray(SPECIES, array, i));
+        }
+        int max = maxs.reduceLanes(VectorOperators.MAX);
+
+        for (; i < toIndex; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    static int count(int[] array, int fromIndex, int toIndex, int value) {
+        int bound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        IntVector target = IntVector.broadcast(SPECIES, value);
+        int count = 0;
+        int i = fromIndex;
+
+        for (; i < bound; i += LANES) {
+            count += IntVector.fromArray(SPECIES, array, i).eq(target).trueCount();
+        }
+
+        for (; i < toIndex; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    // SEARCH - поиск данных
+    static int indexOf(int[] array, int fromIndex, int toIndex, int value) {
+        int bound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        IntVector target = IntVector.broadcast(SPECIES, value);
+        int i = fromIndex;
+
+        for (; i < bound; i += LANES) {
+            VectorMask<Integer> found = IntVector.fromArray(SPECIES, array, i).eq(target);
+
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+
+        for (; i < toIndex; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(int[] array, int fromIndex, int toIndex, int value) {
+        // векторами обрабатывается конец участка [bound, toIndex), скалярным циклом - его начало
+        int bound = toIndex - SPECIES.loopBound(toIndex - fromIndex);
+        IntVector target = IntVector.broadcast(SPECIES, value);
+        int i = toIndex;
+
+        while (i > bound) {
+            i -= LANES;
+            VectorMask<Integer> found = IntVector.fromArray(SPECIES, array, i).eq(target);
+
+            if (found.anyTrue()) {
+                return i + found.lastTrue();
+            }
+        }
+
+        for (i = bound - 1; i >= fromIndex; i--) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
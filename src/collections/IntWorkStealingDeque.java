@@ -0,0 +1,213 @@
+package collections;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * Неблокирующая двусторонняя очередь целочисленных значений для распределения задач с перехватом (Chase–Lev).
+ * Владелец работает с концом очереди, как {@link IntDeque#addLast(int)}/{@link IntDeque#removeLast()}
+ * (методы {@link IntWorkStealingDeque#push(int)} и {@link IntWorkStealingDeque#pop()}),
+ * а другие потоки забирают элементы из начала очереди, как {@link IntDeque#removeFirst()}
+ * (метод {@link IntWorkStealingDeque#steal()}).
+ * Конец владельца хранится в счётчике хвоста, начало - в счётчике головы (см. {@link RingIndexes});
+ * соперничество за последний элемент и перехваты разрешаются сравнением с обменом головы.
+ * Кольцевой массив увеличивается владельцем вдвое при заполнении, старый массив остаётся корректным для воров,
+ * которые успели его прочитать.
+ * Методы push и pop может вызывать только поток-владелец, steal - любой поток
+ * */
+public class IntWorkStealingDeque extends RingIndexes {
+    // FIELDS - поля класса
+    /**
+     * Кольцевой массив значений (вместимость - степень двойки)
+     * */
+    private volatile int[] collection;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор очереди по умолчанию (начальная вместимость 64)
+     * */
+    public IntWorkStealingDeque() {
+        this(64);
+    }
+
+    /**
+     * Конструктор очереди с указанием начальной вместимости
+     * @param capacity Начальная вместимость (округляется вверх до степени двойки)
+     * @exception IllegalArgumentException Ошибка указания вместимости меньше 1 или больше 2^30
+     * */
+    public IntWorkStealingDeque(int capacity) {
+        collection = new int[ringCapacity(capacity)];
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Увеличение вместимости вдвое с переносом элементов [top, bottom) на те же позиции по новой маске
+     * @param array Текущий массив
+     * @param top Счётчик головы
+     * @param bottom Счётчик хвоста
+     * @return Новый массив
+     * @exception IllegalStateException Ошибка превышения наибольшей вместимости
+     * */
+    private int[] grow(int[] array, long top, long bottom) {
+        if (array.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Очередь заполнена. Добавление нового элемента невозможно");
+        }
+
+        int[] newArray = new int[array.length << 1];
+        int mask = array.length - 1;
+        int newMask = newArray.length - 1;
+
+        for (long i = top; i < bottom; i++) {
+            newArray[(int) i & newMask] = array[(int) i & mask];
+        }
+        collection = newArray;
+        return newArray;
+    }
+
+    /**
+     * Удаление элемента из конца очереди (поток владельца)
+     * @return Счётчик позиции удалённого элемента или -1, если очередь пуста или последний элемент перехвачен
+     * */
+    private long takeLast() {
+        long bottom = tailPlain() - 1;
+        tailRelease(bottom);
+        // запись хвоста должна стать видимой ворам до чтения головы
+        VarHandle.fullFence();
+        long top = headPlain();
+
+        if (top > bottom) {
+            tailRelease(bottom + 1);
+            return -1;
+        }
+
+        if (top == bottom) {
+            // последний элемент - соперничество с ворами
+            boolean won = casHead(top, top + 1);
+            tailRelease(bottom + 1);
+            return won ? bottom : -1;
+        }
+        return bottom;
+    }
+
+    /**
+     * Перехват элемента из начала очереди (любой поток)
+     * @return Значение в младших 32 битах или Long.MIN_VALUE, если очередь пуста или перехват не удался
+     * */
+    private long takeFirst() {
+        long top = headAcquire();
+        VarHandle.fullFence();
+        long bottom = tailAcquire();
+
+        if (top >= bottom) {
+            return Long.MIN_VALUE;
+        }
+
+        int[] array = collection;
+        int value = array[(int) top & (array.length - 1)];
+
+        if (!casHead(top, top + 1)) {
+            return Long.MIN_VALUE;
+        }
+        return value;
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение вместимости текущего массива
+     * @return Вместимость массива (степень двойки)
+     * */
+    public int getCapacity() {
+        return collection.length;
+    }
+
+    /**
+     * Получение количества элементов очереди (при одновременной работе потоков значение приблизительное)
+     * @return Количество элементов очереди
+     * */
+    public int getSize() {
+        long top = headAcquire();
+        long size = tailAcquire() - top;
+        return (int) Math.max(0, size);
+    }
+
+    /**
+     * Проверка отсутствия элементов (при одновременной работе потоков значение приблизительное)
+     * @return true - если очередь пуста, иначе - false
+     * */
+    public boolean isEmpty() {
+        return getSize() == 0;
+    }
+
+
+    // OWNER - операции владельца
+    /**
+     * Добавление элемента в конец очереди (поток владельца)
+     * @param value Значение добавляемого элемента
+     * @exception IllegalStateException Ошибка превышения наибольшей вместимости 2^30
+     * */
+    public void push(int value) {
+        long bottom = tailPlain();
+        long top = headAcquire();
+        int[] array = collection;
+
+        if (bottom - top >= array.length) {
+            array = grow(array, top, bottom);
+        }
+        array[(int) bottom & (array.length - 1)] = value;
+        // значение и новый массив публикуются вместе с хвостом
+        tailRelease(bottom + 1);
+    }
+
+    /**
+     * Удаление элемента из конца очереди (поток владельца)
+     * @return Удалённый элемент типа {@link Integer} или null, если очередь пуста
+     * */
+    public Integer pop() {
+        long bottom = takeLast();
+
+        if (bottom < 0) {
+            return null;
+        }
+        int[] array = collection;
+        return array[(int) bottom & (array.length - 1)];
+    }
+
+    /**
+     * Удаление элемента из конца очереди без упаковки значения (поток владельца)
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Удалённый элемент или defaultValue, если очередь пуста
+     * */
+    public int popOrDefault(int defaultValue) {
+        long bottom = takeLast();
+
+        if (bottom < 0) {
+            return defaultValue;
+        }
+        int[] array = collection;
+        return array[(int) bottom & (array.length - 1)];
+    }
+
+
+    // THIEF - операции других потоков
+    /**
+     * Перехват элемента из начала очереди (любой поток)
+     * @return Перехваченный элемент типа {@link Integer} или null, если очередь пуста
+     * либо элемент забрал другой поток (попытку можно повторить)
+     * */
+    public Integer steal() {
+        long result = takeFirst();
+        return (result == Long.MIN_VALUE) ? null : (int) result;
+    }
+
+    /**
+     * Перехват элемента из начала очереди без упаковки значения (любой поток)
+     * @param defaultValue Значение, возвращаемое при неудачном перехвате
+     * @return Перехваченный элемент или defaultValue, если очередь пуста либо элемент забрал другой поток
+     * */
+    public int stealOrDefault(int defaultValue) {
+        long result = takeFirst();
+        return (result == Long.MIN_VALUE) ? defaultValue : (int) result;
+    }
+}
@@ -0,0 +1,300 @@
+package collections;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Массив целочисленных значений, отображённый в файл через {@link FileChannel#map}.
+ * Открытие файла не читает элементы: страницы загружаются и вытесняются кэшем операционной системы по мере обращения.
+ * Файл начинается с заголовка из {@link MappedIntArray#HEADER_SIZE} байт (сигнатура, версия, количество элементов,
+ * вместимость), за которым следуют значения элементов в порядке байтов little-endian.
+ * Заголовок записывается при увеличении вместимости, {@link MappedIntArray#force()} и {@link MappedIntArray#close()}
+ * */
+public class MappedIntArray extends OffHeapIntArray {
+    // CONSTANTS - константы класса
+    /**
+     * Размер заголовка файла в байтах
+     * */
+    public static final int HEADER_SIZE = 16;
+    /**
+     * Сигнатура файла ("IARR")
+     * */
+    private static final int MAGIC = 0x49415252;
+    /**
+     * Версия формата файла
+     * */
+    private static final int VERSION = 1;
+    /**
+     * Наибольшая вместимость массива (одно отображение ограничено int байтами)
+     * */
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / Integer.BYTES;
+
+
+    // FIELDS - поля класса
+    /**
+     * Канал файла
+     * */
+    private final FileChannel channel;
+    /**
+     * Режим отображения (только чтение или чтение и запись)
+     * */
+    private final FileChannel.MapMode mode;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Открытие существующего файла массива
+     * @param path Путь к файлу
+     * @param mode Режим отображения: {@link FileChannel.MapMode#READ_ONLY} или {@link FileChannel.MapMode#READ_WRITE}
+     * @exception IOException Ошибка открытия файла или неверный формат файла
+     * */
+    public MappedIntArray(Path path, FileChannel.MapMode mode) throws IOException {
+        this(open(path, mode));
+    }
+
+    /**
+     * Открытие файла массива для чтения и записи. Если файл отсутствует или пуст, он создаётся
+     * @param path Путь к файлу
+     * @param capacity Наименьшая вместимость массива (вместимость существующего файла увеличивается до неё)
+     * @exception IOException Ошибка открытия файла или неверный формат файла
+     * @exception NegativeArraySizeException Ошибка указания отрицательного значения вместимости массива
+     * */
+    public MappedIntArray(Path path, int capacity) throws IOException {
+        this(create(path, capacity));
+
+        if (capacity > this.capacity) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Конструктор массива над открытым отображением файла
+     * @param mapping Отображение файла
+     * */
+    private MappedIntArray(Mapping mapping) {
+        super(mapping.memory, elements(mapping.memory, mapping.capacity), mapping.size);
+        channel = mapping.channel;
+        mode = mapping.mode;
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Отображение файла в память с чтением заголовка
+     * */
+    private static Mapping open(Path path, FileChannel.MapMode mode) throws IOException {
+        boolean readOnly = mode == FileChannel.MapMode.READ_ONLY;
+
+        if (!readOnly && mode != FileChannel.MapMode.READ_WRITE) {
+            throw new IllegalArgumentException("Поддерживаются только режимы READ_ONLY и READ_WRITE");
+        }
+
+        FileChannel channel = readOnly
+                ? FileChannel.open(path, StandardOpenOption.READ)
+                : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            long fileSize = channel.size();
+
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Файл " + path + " не является файлом массива (размер " + fileSize + " байт)");
+            }
+
+            MappedByteBuffer memory = channel.map(mode, 0, fileSize);
+            memory.order(ByteOrder.LITTLE_ENDIAN);
+
+            int size = memory.getInt(8);
+            int capacity = memory.getInt(12);
+
+            if (memory.getInt(0) != MAGIC || memory.getInt(4) != VERSION
+                    || capacity < 0 || size < 0 || size > capacity
+                    || HEADER_SIZE + (long) capacity * Integer.BYTES > fileSize) {
+                OffHeapMemory.free(memory);
+                throw new IOException("Файл " + path + " не является файлом массива или повреждён");
+            }
+            return new Mapping(channel, mode, memory, size, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Открытие существующего непустого файла или создание нового файла массива
+     * */
+    private static Mapping create(Path path, int capacity) throws IOException {
+        if (capacity < 0) {
+            throw new NegativeArraySizeException("Вместимость массива не может иметь отрицательное значение");
+        }
+
+        if (capacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Вместимость массива в файле превышает " + MAX_CAPACITY + " элементов");
+        }
+
+        if (Files.exists(path) && Files.size(path) > 0) {
+            return open(path, FileChannel.MapMode.READ_WRITE);
+        }
+
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            MappedByteBuffer memory = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) capacity * Integer.BYTES);
+            memory.order(ByteOrder.LITTLE_ENDIAN);
+            writeHeader(memory, 0, capacity);
+            return new Mapping(channel, FileChannel.MapMode.READ_WRITE, memory, 0, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Получение целочисленного представления элементов, расположенных после заголовка
+     * */
+    private static IntBuffer elements(ByteBuffer memory, int capacity) {
+        return memory.slice(HEADER_SIZE, capacity * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    /**
+     * Запись заголовка файла
+     * */
+    private static void writeHeader(ByteBuffer memory, int size, int capacity) {
+        memory.putInt(0, MAGIC);
+        memory.putInt(4, VERSION);
+        memory.putInt(8, size);
+        memory.putInt(12, capacity);
+    }
+
+    /**
+     * Получение наибольшей вместимости массива
+     * @return Наибольшее количество элементов, которое помещается в одно отображение файла
+     * */
+    @Override
+    protected int maxCapacity() {
+        return MAX_CAPACITY;
+    }
+
+    /**
+     * Смещение первого значения после заголовка файла
+     * @return Размер заголовка файла в байтах
+     * */
+    @Override
+    protected int memoryOffset() {
+        return HEADER_SIZE;
+    }
+
+    /**
+     * Увеличение вместимости массива по его политике
+     * @param minCapacity Требуемая вместимость массива
+     * @return true - если вместимость массива не меньше требуемой, иначе - false
+     * @exception ReadOnlyBufferException Ошибка увеличения вместимости массива, открытого только для чтения
+     * */
+    @Override
+    protected boolean grow(int minCapacity) {
+        if (minCapacity > capacity && isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        return super.grow(minCapacity);
+    }
+
+    /**
+     * Увеличение вместимости через повторное отображение удлинённого файла.
+     * Элементы остаются в файле, поэтому копирование не требуется
+     * @param newCapacity Новая вместимость (не меньше количества элементов)
+     * @exception ReadOnlyBufferException Ошибка увеличения вместимости массива, открытого только для чтения
+     * @exception UncheckedIOException Ошибка отображения файла
+     * */
+    @Override
+    protected void resize(int newCapacity) {
+        buffer();
+
+        if (isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+
+        MappedByteBuffer newMemory;
+
+        try {
+            newMemory = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) newCapacity * Integer.BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        newMemory.order(ByteOrder.LITTLE_ENDIAN);
+        writeHeader(newMemory, size, newCapacity);
+
+        OffHeapMemory.free(memory);
+        memory = newMemory;
+        collection = elements(newMemory, newCapacity);
+        capacity = newCapacity;
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Проверка режима отображения
+     * @return true - если массив открыт только для чтения, иначе - false
+     * */
+    public boolean isReadOnly() {
+        return mode == FileChannel.MapMode.READ_ONLY;
+    }
+
+
+    // FORCE - сохранение данных
+    /**
+     * Запись заголовка и принудительный сброс изменённых страниц на устройство хранения
+     * (для массива, открытого только для чтения, не выполняет никаких действий)
+     * */
+    public void force() {
+        buffer();
+
+        if (isReadOnly()) {
+            return;
+        }
+        writeHeader(memory, size, capacity);
+        ((MappedByteBuffer) memory).force();
+    }
+
+
+    // CLOSE - освобождение памяти
+    /**
+     * Запись заголовка, снятие отображения и закрытие файла.
+     * Изменённые страницы сбрасываются на диск операционной системой (для гарантии сохранности - {@link MappedIntArray#force()})
+     * @exception UncheckedIOException Ошибка закрытия файла
+     * */
+    @Override
+    public void close() {
+        if (isClosed()) {
+            return;
+        }
+
+        if (!isReadOnly()) {
+            writeHeader(memory, size, capacity);
+        }
+        super.close();
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    // MAPPING - отображение файла
+    /**
+     * Открытое отображение файла с прочитанным заголовком
+     * */
+    private record Mapping(FileChannel channel, FileChannel.MapMode mode, MappedByteBuffer memory, int size, int capacity) {
+    }
+}
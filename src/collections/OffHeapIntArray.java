@@ -0,0 +1,1269 @@
+package collections;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Массив целочисленных значений, хранящий элементы вне кучи (в прямом {@link ByteBuffer}).
+ * Элементы не просматриваются сборщиком мусора, а память освобождается явно методом {@link OffHeapIntArray#close()}.
+ * Элементы хранятся кольцом: первый элемент расположен по индексу head внутреннего буфера,
+ * поэтому тот же буфер используют очереди {@link OffHeapIntQueue} и {@link OffHeapIntDeque}.
+ * Вместимость ограничена {@link OffHeapMemory#MAX_CAPACITY} элементами
+ * */
+public class OffHeapIntArray implements IntCollection, AutoCloseable {
+    // FIELDS - поля класса
+    /**
+     * Память вне кучи (null - если коллекция закрыта)
+     * */
+    protected ByteBuffer memory;
+    /**
+     * Целочисленное представление памяти вне кучи
+     * */
+    protected IntBuffer collection;
+    /**
+     * Вместимость коллекции
+     * */
+    protected int capacity;
+    /**
+     * Количество элементов коллекции
+     * */
+    protected int size;
+    /**
+     * Индекс внутреннего буфера, по которому расположен первый элемент коллекции
+     * */
+    protected int head;
+    /**
+     * Политика увеличения вместимости при добавлении элемента в заполненную коллекцию
+     * (по умолчанию вместимость не увеличивается)
+     * */
+    protected GrowthPolicy growthPolicy = GrowthPolicy.failFast();
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор массива по умолчанию
+     * */
+    public OffHeapIntArray() {
+        this(16);
+    }
+
+    /**
+     * Конструктор массива с указанием его вместимости
+     * @param capacity Вместимость будущего массива
+     * @exception NegativeArraySizeException Ошибка указания отрицательного значения вместимости массива
+     * */
+    public OffHeapIntArray(int capacity) {
+        memory = OffHeapMemory.allocate(capacity);
+        collection = memory.asIntBuffer();
+        this.capacity = capacity;
+    }
+
+    /**
+     * Конструктор массива с указанием списка добавляемых значений
+     * @param values Список добавляемых значений
+     * */
+    public OffHeapIntArray(int... values) {
+        this((int) (values.length * 1.5), values);
+    }
+
+    /**
+     * Конструктор массива с указанием его вместимости и списком добавляемых значений
+     * (не вошедшие в пределы вместимости значения списка игнорируются)
+     * @param capacity Вместимость будущего массива
+     * @param values Список добавляемых значений
+     * @exception NegativeArraySizeException Ошибка указания отрицательного значения вместимости массива
+     * */
+    public OffHeapIntArray(int capacity, int... values) {
+        this(capacity);
+        size = Math.min(capacity, values.length);
+        collection.put(0, values, 0, size);
+    }
+
+    /**
+     * Конструктор коллекции над уже выделенной памятью (например, отображённым в память файлом)
+     * @param memory Память вне кучи
+     * @param collection Целочисленное представление памяти (вместимость коллекции - его размер)
+     * @param size Количество элементов, уже записанных в начало памяти
+     * */
+    protected OffHeapIntArray(ByteBuffer memory, IntBuffer collection, int size) {
+        this.memory = memory;
+        this.collection = collection;
+        this.capacity = collection.capacity();
+        this.size = size;
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Получение целочисленного представления памяти открытой коллекции
+     * @return Целочисленное представление памяти вне кучи
+     * @exception IllegalStateException Ошибка обращения к закрытой коллекции
+     * */
+    protected IntBuffer buffer() {
+        if (memory == null) {
+            throw new IllegalStateException("Коллекция закрыта. Память вне кучи освобождена");
+        }
+        return collection;
+    }
+
+    /**
+     * Проверка допустимости индекса
+     * @param index Проверяемый индекс
+     * @exception ArrayIndexOutOfBoundsException Ошибка отсутствия элемента по указанному индексу
+     * */
+    protected void checkIndex(int index) {
+        if (index >= size || index < -size) {
+            throw new ArrayIndexOutOfBoundsException("Элемент по индексу " + index + " отсутствует");
+        }
+    }
+
+    /**
+     * Преобразование отрицательного индекса в положительное
+     * @param index Преобразуемый индекс
+     * @return Новое (положительное) значение индекса
+     * */
+    protected int transformIndex(int index) {
+        return (index < 0) ? size + index : index;
+    }
+
+    /**
+     * Преобразование индекса элемента (от начала коллекции) в индекс внутреннего буфера
+     * @param index Индекс элемента от 0 до size (включительно)
+     * @return Индекс внутреннего буфера
+     * */
+    protected int physicalIndex(int index) {
+        int result = head + index;
+        return (result >= capacity) ? result - capacity : result;
+    }
+
+    /**
+     * Проверка наличия элементов открытой коллекции
+     * @exception IllegalStateException Ошибка обращения к закрытой коллекции
+     * @exception NoSuchElementException Ошибка обращения к элементам пустой коллекции
+     * */
+    protected void checkNotEmpty() {
+        buffer();
+
+        if (size == 0) {
+            throw new NoSuchElementException("В коллекции отсутствуют элементы");
+        }
+    }
+
+    /**
+     * Перемещение элементов в начало внутреннего буфера с сохранением их порядка
+     * */
+    protected void linearize() {
+        IntBuffer buffer = buffer();
+
+        if (size == 0 || head == 0) {
+            head = 0;
+            return;
+        }
+
+        if (head + size <= capacity) {
+            buffer.put(0, buffer, head, size);
+        } else {
+            // элементы переходят через конец буфера - циклический сдвиг буфера влево на head
+            reverse(buffer, 0, head - 1);
+            reverse(buffer, head, capacity - 1);
+            reverse(buffer, 0, capacity - 1);
+        }
+        head = 0;
+    }
+
+    /**
+     * Перевёртывание участка буфера
+     * @param buffer Буфер
+     * @param fromIndex Индекс первого элемента участка (включительно)
+     * @param toIndex Индекс последнего элемента участка (включительно)
+     * */
+    private static void reverse(IntBuffer buffer, int fromIndex, int toIndex) {
+        for (int i = fromIndex, j = toIndex; i < j; i++, j--) {
+            int temp = buffer.get(i);
+            buffer.put(i, buffer.get(j));
+            buffer.put(j, temp);
+        }
+    }
+
+    /**
+     * Копирование элементов коллекции в массив кучи
+     * @param startIndex Индекс (от начала коллекции) первого копируемого элемента
+     * @param target Массив-приёмник
+     * @param offset Индекс массива-приёмника для первого элемента
+     * @param length Количество копируемых элементов
+     * */
+    protected void copyTo(int startIndex, int[] target, int offset, int length) {
+        IntBuffer buffer = buffer();
+        int start = physicalIndex(startIndex);
+        int first = Math.min(length, capacity - start);
+
+        buffer.get(start, target, offset, first);
+        // часть элементов перешла через конец буфера
+        buffer.get(0, target, offset + first, length - first);
+    }
+
+    /**
+     * Получение наибольшей вместимости коллекции
+     * @return Наибольшее количество элементов, которое помещается в одну область памяти
+     * */
+    protected int maxCapacity() {
+        return OffHeapMemory.MAX_CAPACITY;
+    }
+
+    /**
+     * Увеличение вместимости коллекции по её политике
+     * @param minCapacity Требуемая вместимость коллекции
+     * @return true - если вместимость коллекции не меньше требуемой, иначе - false
+     * */
+    protected boolean grow(int minCapacity) {
+        if (minCapacity <= capacity) {
+            return true;
+        }
+
+        int newCapacity = Math.min(growthPolicy.newCapacity(capacity, minCapacity), maxCapacity());
+
+        if (newCapacity < minCapacity) {
+            return false;
+        }
+        resize(newCapacity);
+        return true;
+    }
+
+    /**
+     * Перенос элементов в новую память вне кучи указанной вместимости с освобождением прежней памяти.
+     * Первый элемент переносится в начало нового буфера
+     * @param newCapacity Новая вместимость (не меньше количества элементов)
+     * */
+    protected void resize(int newCapacity) {
+        IntBuffer buffer = buffer();
+        ByteBuffer newMemory = OffHeapMemory.allocate(newCapacity);
+        IntBuffer newCollection = newMemory.asIntBuffer();
+        int first = Math.min(size, capacity - head);
+
+        newCollection.put(0, buffer, head, first);
+        newCollection.put(first, buffer, 0, size - first);
+
+        OffHeapMemory.free(memory);
+        memory = newMemory;
+        collection = newCollection;
+        capacity = newCapacity;
+        head = 0;
+    }
+
+    /**
+     * Добавление элемента в конец коллекции
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе - false
+     * */
+    protected boolean pushLast(int value) {
+        buffer();
+
+        if (size == capacity && !grow(size + 1)) {
+            return false;
+        }
+        collection.put(physicalIndex(size), value);
+        size++;
+        return true;
+    }
+
+    /**
+     * Добавление элемента в начало коллекции
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе - false
+     * */
+    protected boolean pushFirst(int value) {
+        buffer();
+
+        if (size == capacity && !grow(size + 1)) {
+            return false;
+        }
+        head = (head == 0) ? capacity - 1 : head - 1;
+        collection.put(head, value);
+        size++;
+        return true;
+    }
+
+    /**
+     * Удаление первого элемента непустой коллекции
+     * @return Удалённый элемент
+     * */
+    protected int popFirst() {
+        IntBuffer buffer = buffer();
+        int value = buffer.get(head);
+
+        buffer.put(head, 0);
+        size--;
+        head = (size == 0 || head + 1 == capacity) ? 0 : head + 1;
+        return value;
+    }
+
+    /**
+     * Удаление последнего элемента непустой коллекции
+     * @return Удалённый элемент
+     * */
+    protected int popLast() {
+        IntBuffer buffer = buffer();
+        int index = physicalIndex(size - 1);
+        int value = buffer.get(index);
+
+        buffer.put(index, 0);
+        size--;
+
+        if (size == 0) {
+            head = 0;
+        }
+        return value;
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение элемента по индексу
+     * @param index Индекс возвращаемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @return Элемент по указанному индексу
+     * @exception NoSuchElementException Ошибка получения элемента из пустой коллекции
+     * */
+    @Override
+    public int getElement(int index) {
+        checkNotEmpty();
+        checkIndex(index);
+        return buffer().get(physicalIndex(transformIndex(index)));
+    }
+
+    /**
+     * Получение элемента по индексу (если коллекция пуста, возвращается значение null)
+     * @param index Индекс возвращаемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @return Элемент по указанному индексу типа {@link Integer}
+     * */
+    @Override
+    public Integer peek(int index) {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        checkIndex(index);
+        return buffer().get(physicalIndex(transformIndex(index)));
+    }
+
+    /**
+     * Получение элемента по индексу без упаковки значения
+     * @param index Индекс возвращаемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Элемент по указанному индексу или defaultValue, если коллекция пуста
+     * */
+    @Override
+    public int peekOrDefault(int index, int defaultValue) {
+        buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        return getElement(index);
+    }
+
+    /**
+     * Получение минимального значения элементов
+     * @return Минимальное значение элементов типа {@link Integer}
+     * */
+    @Override
+    public Integer getMin() {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return getMinOrDefault(0);
+    }
+
+    /**
+     * Получение минимального значения элементов без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Минимальное значение элементов или defaultValue, если коллекция пуста
+     * */
+    @Override
+    public int getMinOrDefault(int defaultValue) {
+        IntBuffer buffer = buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        int min = Integer.MAX_VALUE;
+
+        for (int i = 0, j = head; i < size; i++, j++) {
+            if (j == capacity) {
+                j = 0;
+            }
+            min = Math.min(min, buffer.get(j));
+        }
+        return min;
+    }
+
+    /**
+     * Получение максимального значения элементов
+     * @return Максимальное значение элементов типа {@link Integer}
+     * */
+    @Override
+    public Integer getMax() {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return getMaxOrDefault(0);
+    }
+
+    /**
+     * Получение максимального значения элементов без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Максимальное значение элементов или defaultValue, если коллекция пуста
+     * */
+    @Override
+    public int getMaxOrDefault(int defaultValue) {
+        IntBuffer buffer = buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        int max = Integer.MIN_VALUE;
+
+        for (int i = 0, j = head; i < size; i++, j++) {
+            if (j == capacity) {
+                j = 0;
+            }
+            max = Math.max(max, buffer.get(j));
+        }
+        return max;
+    }
+
+    /**
+     * Получение элементов коллекции
+     * @return Новый массив всех элементов коллекции в куче
+     * */
+    @Override
+    public int[] getCollection() {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        int[] newCollection = new int[size];
+        copyTo(0, newCollection, 0, size);
+        return newCollection;
+    }
+
+    /**
+     * Получение элементов от начального индекса до конца коллекции
+     * @return Новый массив элементов от начального индекса до конца коллекции в куче
+     * */
+    @Override
+    public int[] getCollection(int startIndex) {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        checkIndex(startIndex);
+        startIndex = transformIndex(startIndex);
+
+        int[] newCollection = new int[size - startIndex];
+        copyTo(startIndex, newCollection, 0, newCollection.length);
+        return newCollection;
+    }
+
+    /**
+     * Получение элементов от начального индекса до конечного индекса (включительно)
+     * @return Новый массив элементов от начального индекса до конечного индекса в куче
+     * */
+    @Override
+    public int[] getCollection(int startIndex, int endIndex) {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        checkIndex(startIndex);
+        checkIndex(endIndex);
+
+        int newStartIndex = transformIndex(startIndex);
+        int newEndIndex = transformIndex(endIndex);
+
+        if (newStartIndex > newEndIndex) {
+            throw new ArrayIndexOutOfBoundsException("Элемент с индексом " + startIndex +
+                    " не может стоять после элемента с индексом " + endIndex);
+        }
+
+        int[] newCollection = new int[newEndIndex - newStartIndex + 1];
+        copyTo(newStartIndex, newCollection, 0, newCollection.length);
+        return newCollection;
+    }
+
+    /**
+     * Получение вместимости коллекции
+     * @return Вместимость коллекции
+     * */
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Получение количества элементов коллекции
+     * @return Количество элементов коллекции
+     * */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Получение политики увеличения вместимости
+     * @return Политика увеличения вместимости при добавлении элемента в заполненную коллекцию
+     * */
+    @Override
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Установка политики увеличения вместимости при добавлении элемента в заполненную коллекцию
+     * @param growthPolicy Политика увеличения вместимости
+     * @exception IllegalArgumentException Ошибка указания пустой политики
+     * */
+    @Override
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("Политика увеличения вместимости не указана");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Проверка освобождения памяти коллекции
+     * @return true - если коллекция закрыта, иначе - false
+     * */
+    public boolean isClosed() {
+        return memory == null;
+    }
+
+
+    // ADD - добавление данных
+    /**
+     * Добавление элемента в конец коллекции
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения коллекции (если политика не позволяет увеличить вместимость)
+     * */
+    @Override
+    public void add(int value) {
+        if (!pushLast(value)) {
+            throw new ArrayStoreException("Коллекция заполнена. Добавление нового элемента невозможно");
+        }
+    }
+
+    /**
+     * Добавление элемента в конец коллекции
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе - false
+     * */
+    @Override
+    public boolean offer(int value) {
+        return pushLast(value);
+    }
+
+
+    // SETTERS - изменение данных
+    /**
+     * Установка значения элементу по указанному индексу
+     * @param index Индекс изменяемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @param value Новое значение изменяемого элемента
+     * @exception NoSuchElementException Ошибка изменения элемента пустой коллекции
+     * */
+    @Override
+    public void setElement(int index, int value) {
+        checkNotEmpty();
+        checkIndex(index);
+        buffer().put(physicalIndex(transformIndex(index)), value);
+    }
+
+    /**
+     * Установка нового значения всем элементам
+     * @param value Новое значение элементов
+     * @exception NoSuchElementException Ошибка изменения элементов пустой коллекции
+     * */
+    @Override
+    public void setAll(int value) {
+        checkNotEmpty();
+        IntBuffer buffer = buffer();
+
+        for (int i = 0, j = head; i < size; i++, j++) {
+            if (j == capacity) {
+                j = 0;
+            }
+            buffer.put(j, value);
+        }
+    }
+
+
+    // REMOVE - удаление данных
+    /**
+     * Удаление элемента по указанному индексу с возвращением удалённого элемента.
+     * Элементы после удалённого сдвигаются к началу коллекции
+     * @param index Индекс удаляемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @return Удалённый элемент
+     * @exception NoSuchElementException Ошибка удаления элемента пустой коллекции
+     * */
+    @Override
+    public int remove(int index) {
+        checkNotEmpty();
+        checkIndex(index);
+        index = transformIndex(index);
+
+        IntBuffer buffer = buffer();
+        int value = buffer.get(physicalIndex(index));
+
+        for (int i = index; i < size - 1; i++) {
+            buffer.put(physicalIndex(i), buffer.get(physicalIndex(i + 1)));
+        }
+        popLast();
+        return value;
+    }
+
+    /**
+     * Удаление элемента по указанному индексу с возвращением удалённого элемента
+     * @param index Индекс удаляемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @return Удалённый элемент типа {@link Integer}
+     * */
+    @Override
+    public Integer poll(int index) {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return remove(index);
+    }
+
+    /**
+     * Удаление элемента по указанному индексу с возвращением удалённого элемента без упаковки значения
+     * @param index Индекс удаляемого элемента
+     *              (положительный - с начала коллекции, отрицательный - с конца коллекции)
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Удалённый элемент или defaultValue, если коллекция пуста
+     * */
+    @Override
+    public int pollOrDefault(int index, int defaultValue) {
+        buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        return remove(index);
+    }
+
+    /**
+     * Очищение коллекции
+     * @exception NoSuchElementException Ошибка очищения пустой коллекции
+     * */
+    @Override
+    public void clear() {
+        checkNotEmpty();
+        IntBuffer buffer = buffer();
+
+        for (int i = 0; i < capacity; i++) {
+            buffer.put(i, 0);
+        }
+        size = 0;
+        head = 0;
+    }
+
+
+    // CHECK - проверка данных
+    /**
+     * Проверка наличия элемента с указанным значением
+     * @param value Проверяемое значение
+     * @return true - если в коллекции имеется элемент с проверяемым значением, иначе - false
+     * */
+    @Override
+    public boolean contains(int value) {
+        return indexOfOrDefault(value, -1) != -1;
+    }
+
+
+    // SEARCH - поиск данных
+    /**
+     * Получение индекса первого элемента с указанным значением
+     * @param value Искомое значение
+     * @return Индекс элемента (от начала коллекции) типа {@link Integer}.
+     * Если элемент не найден возвращается -1. Если коллекция пуста - возвращается null
+     * */
+    @Override
+    public Integer indexOf(int value) {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return indexOfOrDefault(value, -1);
+    }
+
+    /**
+     * Получение индекса первого элемента с указанным значением без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое, если элемент не найден или коллекция пуста (обычно -1)
+     * @return Индекс элемента (от начала коллекции) или defaultValue
+     * */
+    @Override
+    public int indexOfOrDefault(int value, int defaultValue) {
+        IntBuffer buffer = buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+
+        for (int i = 0, j = head; i < size; i++, j++) {
+            if (j == capacity) {
+                j = 0;
+            }
+
+            if (buffer.get(j) == value) {
+                return i;
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Получение индекса последнего элемента с указанным значением
+     * @param value Искомое значение
+     * @return Индекс элемента (от начала коллекции) типа {@link Integer}.
+     * Если элемент не найден возвращается -1. Если коллекция пуста - возвращается null
+     * */
+    @Override
+    public Integer lastIndexOf(int value) {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return lastIndexOfOrDefault(value, -1);
+    }
+
+    /**
+     * Получение индекса последнего элемента с указанным значением без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое, если элемент не найден или коллекция пуста (обычно -1)
+     * @return Индекс элемента (от начала коллекции) или defaultValue
+     * */
+    @Override
+    public int lastIndexOfOrDefault(int value, int defaultValue) {
+        IntBuffer buffer = buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+
+        for (int i = size - 1; i > -1; i--) {
+            if (buffer.get(physicalIndex(i)) == value) {
+                return i;
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Количество элементов с указанным значением
+     * @param value Искомое значение
+     * @return Количество элементов с указанным значением типа {@link Integer}.
+     * Если коллекция пуста - возвращается null
+     * */
+    @Override
+    public Integer findCount(int value) {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return findCountOrDefault(value, 0);
+    }
+
+    /**
+     * Количество элементов с указанным значением без упаковки значения
+     * @param value Искомое значение
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Количество элементов с указанным значением или defaultValue, если коллекция пуста
+     * */
+    @Override
+    public int findCountOrDefault(int value, int defaultValue) {
+        IntBuffer buffer = buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        int count = 0;
+
+        for (int i = 0, j = head; i < size; i++, j++) {
+            if (j == capacity) {
+                j = 0;
+            }
+
+            if (buffer.get(j) == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+
+    // SORT - сортировка данных
+    /**
+     * Сортировка элементов в порядке увеличения значений.
+     * Элементы сортируются {@link IntSort} во временном массиве кучи и записываются обратно
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    @Override
+    public boolean sort() {
+        buffer();
+
+        if (size == 0) {
+            return false;
+        }
+        int[] values = getCollection();
+
+        if (!IntSort.sort(values, 0, size)) {
+            return false;
+        }
+        linearize();
+        collection.put(0, values, 0, size);
+        return true;
+    }
+
+    /**
+     * Сортировка элементов в порядке уменьшения значений.
+     * Элементы сортируются {@link IntSort} во временном массиве кучи и записываются обратно
+     * @return true - если порядок элементов изменился, иначе - false
+     * */
+    @Override
+    public boolean reverseSort() {
+        buffer();
+
+        if (size == 0) {
+            return false;
+        }
+        int[] values = getCollection();
+
+        if (!IntSort.reverseSort(values, 0, size)) {
+            return false;
+        }
+        linearize();
+        collection.put(0, values, 0, size);
+        return true;
+    }
+
+
+    // REVERSE - перевёртывание данных
+    /**
+     * Перевёртывание элементов
+     * @exception NoSuchElementException Попытка перевёртывания элементов пустой коллекции
+     * */
+    @Override
+    public void reverse() {
+        checkNotEmpty();
+        IntBuffer buffer = buffer();
+
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int first = physicalIndex(i);
+            int second = physicalIndex(j);
+            int temp = buffer.get(first);
+            buffer.put(first, buffer.get(second));
+            buffer.put(second, temp);
+        }
+    }
+
+
+    // TRANSFORM - Трансформация данных
+    /**
+     * Увеличение вместимости в значение по умолчанию (в 1,5 раза, но не меньше чем на 1)
+     * */
+    @Override
+    public void increaseCapacity() {
+        increaseCapacity(Math.max(capacity >> 1, 1));
+    }
+
+    /**
+     * Увеличение вместимости на указанное значение
+     * @param capacity Прирост вместимости
+     * @exception NegativeArraySizeException Ошибка указания отрицательного прироста вместимости
+     * @exception OutOfMemoryError Ошибка превышения наибольшей вместимости коллекции
+     * */
+    @Override
+    public void increaseCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new NegativeArraySizeException("Прирост вместимости не может иметь отрицательное значение");
+        }
+
+        if (capacity > maxCapacity() - this.capacity) {
+            throw new OutOfMemoryError("Вместимость коллекции вне кучи превышает " + maxCapacity() + " элементов");
+        }
+
+        if (capacity > 0) {
+            resize(this.capacity + capacity);
+        }
+    }
+
+    /**
+     * Перемена значений двух элементов с указанными индексами
+     * @param firstIndex Индекс первого элемента
+     * @param secondIndex Индекс второго элемента
+     * @exception NoSuchElementException Попытка изменения элементов пустой коллекции
+     * */
+    @Override
+    public void transform(int firstIndex, int secondIndex) {
+        checkNotEmpty();
+        checkIndex(firstIndex);
+        checkIndex(secondIndex);
+
+        IntBuffer buffer = buffer();
+        int first = physicalIndex(transformIndex(firstIndex));
+        int second = physicalIndex(transformIndex(secondIndex));
+
+        int temp = buffer.get(first);
+        buffer.put(first, buffer.get(second));
+        buffer.put(second, temp);
+    }
+
+
+    // COPY - копирование данных
+    /**
+     * Копирование коллекции в кучу
+     * @return Новый массив вместимостью коллекции, начинающийся с её элементов
+     * */
+    @Override
+    public int[] copy() {
+        int[] newCollection = new int[capacity];
+        copyTo(0, newCollection, 0, size);
+        return newCollection;
+    }
+
+
+    // UNION - объединение данных
+    /**
+     * Объединение коллекции с новой коллекцией элементов
+     * @param values Новая коллекция элементов
+     * @return Новый массив в куче с элементами текущей коллекции и добавляемой коллекцией
+     * */
+    @Override
+    public int[] concat(int... values) {
+        int[] newCollection = new int[size + values.length];
+        copyTo(0, newCollection, 0, size);
+        System.arraycopy(values, 0, newCollection, size, values.length);
+        return newCollection;
+    }
+
+    /**
+     * Преобразование элементов в строку с указанным разделителем
+     * @param separator Строковый разделитель
+     * @return Строка из элементов, разделённых указанным разделителем
+     * */
+    @Override
+    public String join(String separator) {
+        IntBuffer buffer = buffer();
+
+        if (size == 0) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder();
+        result.append(buffer.get(head));
+
+        for (int i = 1; i < size; i++) {
+            result.append(separator).append(buffer.get(physicalIndex(i)));
+        }
+        return result.toString();
+    }
+
+
+    // SUM - сложение данных
+    /**
+     * Сложение значений элементов
+     * @return Сумма элементов типа {@link Integer}
+     * */
+    @Override
+    public Integer sum() {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return sumOrDefault(0);
+    }
+
+    /**
+     * Сложение значений элементов без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой коллекции
+     * @return Сумма элементов или defaultValue, если коллекция пуста
+     * */
+    @Override
+    public int sumOrDefault(int defaultValue) {
+        IntBuffer buffer = buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        int sum = 0;
+
+        for (int i = 0, j = head; i < size; i++, j++) {
+            if (j == capacity) {
+                j = 0;
+            }
+            sum += buffer.get(j);
+        }
+        return sum;
+    }
+
+
+    // STATISTICS - статистика данных
+    /**
+     * Получение статистики значений элементов (количество, сумма без переполнения, минимум, максимум,
+     * среднее и дисперсия), вычисленной за один проход
+     * @return Статистика значений элементов
+     * */
+    @Override
+    public IntStatistics getStatistics() {
+        IntBuffer buffer = buffer();
+        IntStatisticsAccumulator accumulator = new IntStatisticsAccumulator();
+
+        for (int i = 0, j = head; i < size; i++, j++) {
+            if (j == capacity) {
+                j = 0;
+            }
+            accumulator.add(buffer.get(j));
+        }
+        return accumulator.toStatistics();
+    }
+
+
+    // STREAM - потоки данных
+    /**
+     * Получение разделяемого обхода элементов в порядке индексов (SIZED, SUBSIZED, ORDERED).
+     * Обход делится пополам по позициям элементов, в том числе при кольцевом расположении элементов
+     * @return Обход элементов типа {@link Spliterator.OfInt}
+     * */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        buffer();
+        return new OffHeapIntSpliterator(this);
+    }
+
+    /**
+     * Получение последовательного потока значений элементов без копирования элементов в кучу
+     * @return Поток значений элементов
+     * */
+    @Override
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Получение параллельного потока значений элементов без копирования элементов в кучу
+     * @return Параллельный поток значений элементов
+     * */
+    @Override
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+
+    // IO - двоичная запись и чтение данных
+    /**
+     * Смещение первого значения внутреннего буфера от начала памяти вне кучи
+     * @return Смещение в байтах
+     * */
+    protected int memoryOffset() {
+        return 0;
+    }
+
+    /**
+     * Получение байтового представления участка внутреннего буфера (участок не переходит через конец буфера)
+     * @param start Индекс внутреннего буфера первого значения участка
+     * @param count Количество значений участка
+     * @return Представление участка памяти вне кучи
+     * */
+    private ByteBuffer bytes(int start, int count) {
+        return memory.slice(memoryOffset() + start * Integer.BYTES, count * Integer.BYTES);
+    }
+
+    /**
+     * Запись элементов в канал: заголовок из 8 байт (сигнатура "INT1", количество элементов)
+     * и значения элементов в порядке байтов little-endian.
+     * Если память вне кучи хранит значения в порядке little-endian, участки кольца записываются в канал
+     * непосредственно из неё, без промежуточного копирования
+     * @param channel Канал
+     * @exception IOException Ошибка записи в канал
+     * @exception IllegalStateException Ошибка обращения к закрытой коллекции
+     * */
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        IntBuffer elements = buffer();
+        int first = Math.min(size, capacity - head);
+
+        if (elements.order() == ByteOrder.LITTLE_ENDIAN) {
+            ByteBuffer header = ByteBuffer.allocate(IntBinaryFormat.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            IntBinaryFormat.putHeader(header, size);
+            IntBinaryFormat.writeFully(channel, header.flip());
+            IntBinaryFormat.writeFully(channel, bytes(head, first));
+            IntBinaryFormat.writeFully(channel, bytes(0, size - first));
+            return;
+        }
+
+        ByteBuffer transfer = IntBinaryFormat.transferBuffer(size);
+        IntBinaryFormat.putHeader(transfer, size);
+        IntBinaryFormat.write(channel, transfer, elements.slice(head, first));
+        IntBinaryFormat.write(channel, transfer, elements.slice(0, size - first));
+        IntBinaryFormat.flush(channel, transfer);
+    }
+
+    /**
+     * Запись элементов в буфер в формате {@link OffHeapIntArray#writeTo(WritableByteChannel)}
+     * (порядок байтов буфера не учитывается). Позиция буфера сдвигается на размер записи
+     * @param buffer Буфер
+     * @exception java.nio.BufferOverflowException Ошибка недостатка места в буфере (буфер не изменяется)
+     * @exception IllegalStateException Ошибка обращения к закрытой коллекции
+     * */
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        IntBuffer elements = buffer();
+        IntBuffer values = IntBinaryFormat.writeHeader(buffer, size);
+        int first = Math.min(size, capacity - head);
+
+        values.put(0, elements, head, first).put(first, elements, 0, size - first);
+        buffer.position(buffer.position() + (int) IntBinaryFormat.byteSize(size));
+    }
+
+    /**
+     * Чтение элементов, записанных {@link OffHeapIntArray#writeTo(WritableByteChannel)}, и добавление их в конец коллекции.
+     * Значения читаются из канала непосредственно в память вне кучи
+     * @param channel Канал
+     * @return Количество добавленных элементов
+     * @exception IOException Ошибка чтения из канала, неверная или неполная запись (элементы коллекции не изменяются)
+     * @exception ArrayStoreException Ошибка переполнения коллекции (если политика не позволяет увеличить вместимость)
+     * @exception ReadOnlyBufferException Ошибка изменения коллекции, доступной только для чтения
+     * @exception IllegalStateException Ошибка обращения к закрытой коллекции
+     * */
+    @Override
+    public int readFrom(ReadableByteChannel channel) throws IOException {
+        writableBuffer();
+        int count = IntBinaryFormat.readHeader(channel);
+        int start = reserve(count);
+        int first = Math.min(count, capacity - start);
+
+        try {
+            if (collection.order() == ByteOrder.LITTLE_ENDIAN) {
+                IntBinaryFormat.readFully(channel, bytes(start, first));
+                IntBinaryFormat.readFully(channel, bytes(0, count - first));
+            } else {
+                ByteBuffer transfer = IntBinaryFormat.transferBuffer(count);
+                IntBinaryFormat.read(channel, transfer, collection.slice(start, first));
+                IntBinaryFormat.read(channel, transfer, collection.slice(0, count - first));
+            }
+        } catch (IOException e) {
+            for (int i = 0; i < count; i++) {
+                collection.put(physicalIndex(size + i), 0);
+            }
+            throw e;
+        }
+        size += count;
+        return count;
+    }
+
+    /**
+     * Чтение элементов, записанных {@link OffHeapIntArray#writeTo(ByteBuffer)}, и добавление их в конец коллекции.
+     * Позиция буфера сдвигается на размер записи
+     * @param buffer Буфер
+     * @return Количество добавленных элементов
+     * @exception java.nio.BufferUnderflowException Ошибка неполной записи в буфере
+     * @exception IllegalArgumentException Ошибка неверной записи в буфере
+     * @exception ArrayStoreException Ошибка переполнения коллекции (если политика не позволяет увеличить вместимость)
+     * @exception ReadOnlyBufferException Ошибка изменения коллекции, доступной только для чтения
+     * @exception IllegalStateException Ошибка обращения к закрытой коллекции
+     * */
+    @Override
+    public int readFrom(ByteBuffer buffer) {
+        writableBuffer();
+        IntBuffer values = IntBinaryFormat.readHeader(buffer);
+        int count = values.remaining();
+        int start = reserve(count);
+        int first = Math.min(count, capacity - start);
+
+        collection.put(start, values, 0, first).put(0, values, first, count - first);
+        buffer.position(buffer.position() + (int) IntBinaryFormat.byteSize(count));
+        size += count;
+        return count;
+    }
+
+    /**
+     * Проверка возможности изменения элементов открытой коллекции
+     * @exception ReadOnlyBufferException Ошибка изменения коллекции, доступной только для чтения
+     * @exception IllegalStateException Ошибка обращения к закрытой коллекции
+     * */
+    private void writableBuffer() {
+        if (buffer().isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+    }
+
+    /**
+     * Подготовка места для элементов, добавляемых в конец коллекции чтением
+     * @param count Количество добавляемых элементов
+     * @return Индекс внутреннего буфера для первого добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения коллекции (если политика не позволяет увеличить вместимость)
+     * */
+    private int reserve(int count) {
+        if (count > maxCapacity() - size || !grow(size + count)) {
+            throw new ArrayStoreException("Коллекция заполнена. Добавление " + count + " элементов невозможно");
+        }
+        return physicalIndex(size);
+    }
+
+
+    // CLOSE - освобождение памяти
+    /**
+     * Освобождение памяти вне кучи. После закрытия обращение к элементам приводит к {@link IllegalStateException}.
+     * Повторное закрытие не выполняет никаких действий
+     * */
+    @Override
+    public void close() {
+        if (memory == null) {
+            return;
+        }
+        OffHeapMemory.free(memory);
+        memory = null;
+        collection = null;
+        size = 0;
+        head = 0;
+    }
+
+
+    // TO_STRING - строковое преобразование данных
+    /**
+     * Вывод содержимого элементов в виде строки
+     * @return Строка, состоящая из элементов, разделённых пробелом
+     * */
+    @Override
+    public String toString() {
+        return join(" ");
+    }
+}
@@ -0,0 +1,191 @@
+package collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Двусторонняя очередь целочисленных значений, хранящая элементы вне кучи в кольцевом буфере
+ * (см. {@link OffHeapIntArray})
+ * */
+public class OffHeapIntDeque extends OffHeapIntStack implements IntDequeCollection {
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор двусторонней очереди по умолчанию
+     * */
+    public OffHeapIntDeque() {
+        super();
+    }
+
+    /**
+     * Конструктор двусторонней очереди с указанием её вместимости
+     * @param capacity Вместимость будущей двусторонней очереди
+     * @exception NegativeArraySizeException Ошибка указания отрицательного значения вместимости двусторонней очереди
+     * */
+    public OffHeapIntDeque(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Конструктор двусторонней очереди с указанием списка добавляемых значений
+     * @param values Список добавляемых значений
+     * */
+    public OffHeapIntDeque(int... values) {
+        super(values);
+    }
+
+    /**
+     * Конструктор двусторонней очереди с указанием её вместимости и списком добавляемых значений
+     * @param capacity Вместимость будущей двусторонней очереди
+     * @param values Список добавляемых значений
+     * @exception NegativeArraySizeException Ошибка указания отрицательного значения вместимости двусторонней очереди
+     * */
+    public OffHeapIntDeque(int capacity, int... values) {
+        super(capacity, values);
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение элемента из начала двусторонней очереди
+     * @return Элемент начала двусторонней очереди
+     * @exception NoSuchElementException Ошибка получения элемента из пустой двусторонней очереди
+     * **/
+    @Override
+    public int getFirst() {
+        buffer();
+
+        if (size == 0) {
+            throw new NoSuchElementException("В двусторонней очереди отсутствуют элементы");
+        }
+        return buffer().get(head);
+    }
+
+    /**
+     * Получение элемента из начала двусторонней очереди
+     * @return Элемент начала двусторонней очереди типа {@link Integer}
+     * **/
+    @Override
+    public Integer peekFirst() {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return buffer().get(head);
+    }
+
+    /**
+     * Получение элемента из начала двусторонней очереди без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой двусторонней очереди
+     * @return Элемент начала двусторонней очереди или defaultValue, если двусторонняя очередь пуста
+     * **/
+    @Override
+    public int peekFirstOrDefault(int defaultValue) {
+        buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        return buffer().get(head);
+    }
+
+
+    // ADD - добавление данных
+    /**
+     * Добавление элемента в начало двусторонней очереди
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения двусторонней очереди
+     * (если политика не позволяет увеличить вместимость)
+     * **/
+    @Override
+    public void addFirst(int value) {
+        if (!pushFirst(value)) {
+            throw new ArrayStoreException("Двусторонняя очередь заполнена. Добавление нового элемента невозможно");
+        }
+    }
+
+    /**
+     * Добавление элемента в начало двусторонней очереди
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе - false
+     * **/
+    @Override
+    public boolean offerFirst(int value) {
+        return pushFirst(value);
+    }
+
+    /**
+     * Добавление элемента в конец двусторонней очереди
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения двусторонней очереди
+     * (если политика не позволяет увеличить вместимость)
+     * **/
+    @Override
+    public void addLast(int value) {
+        if (!pushLast(value)) {
+            throw new ArrayStoreException("Двусторонняя очередь заполнена. Добавление нового элемента невозможно");
+        }
+    }
+
+
+    // SETTERS - изменение данных
+    /**
+     * Установка значения первому элементу двусторонней очереди
+     * @param value Новое значение первого элемента двусторонней очереди
+     * @exception NoSuchElementException Ошибка изменения элемента в пустой двусторонней очереди
+     **/
+    @Override
+    public void setFirst(int value) {
+        buffer();
+
+        if (size == 0) {
+            throw new NoSuchElementException("Двусторонняя очередь пуста. Элементов для изменения значений нет");
+        }
+        buffer().put(head, value);
+    }
+
+
+    // REMOVE - удаление данных
+    /**
+     * Удаление элемента из начала двусторонней очереди с возвращением удалённого элемента
+     * @return Удалённый элемент двусторонней очереди
+     * @exception NoSuchElementException Ошибка удаления элемента пустой двусторонней очереди
+     * **/
+    @Override
+    public int removeFirst() {
+        buffer();
+
+        if (size == 0) {
+            throw new NoSuchElementException("Двусторонняя очередь пуста. Удаление первого элемента невозможно");
+        }
+        return popFirst();
+    }
+
+    /**
+     * Удаление элемента из начала двусторонней очереди с возвращением удалённого элемента
+     * @return Удалённый элемент двусторонней очереди типа {@link Integer}
+     * **/
+    @Override
+    public Integer pollFirst() {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return popFirst();
+    }
+
+    /**
+     * Удаление элемента из начала двусторонней очереди с возвращением удалённого элемента без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой двусторонней очереди
+     * @return Удалённый элемент двусторонней очереди или defaultValue, если двусторонняя очередь пуста
+     * **/
+    @Override
+    public int pollFirstOrDefault(int defaultValue) {
+        buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        return popFirst();
+    }
+}
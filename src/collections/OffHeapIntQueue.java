@@ -0,0 +1,202 @@
+package collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Очередь целочисленных значений, хранящая элементы вне кучи в кольцевом буфере (см. {@link OffHeapIntArray})
+ * */
+public class OffHeapIntQueue extends OffHeapIntArray implements IntQueueCollection {
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор очереди по умолчанию
+     * */
+    public OffHeapIntQueue() {
+        super();
+    }
+
+    /**
+     * Конструктор очереди с указанием её вместимости
+     * @param capacity Вместимость будущей очереди
+     * @exception NegativeArraySizeException Ошибка указания отрицательного значения вместимости очереди
+     * */
+    public OffHeapIntQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Конструктор очереди с указанием списка добавляемых значений
+     * @param values Список добавляемых значений
+     * */
+    public OffHeapIntQueue(int... values) {
+        super(values);
+    }
+
+    /**
+     * Конструктор очереди с указанием её вместимости и списком добавляемых значений
+     * @param capacity Вместимость будущей очереди
+     * @param values Список добавляемых значений
+     * @exception NegativeArraySizeException Ошибка указания отрицательного значения вместимости очереди
+     * */
+    public OffHeapIntQueue(int capacity, int... values) {
+        super(capacity, values);
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение элемента из начала очереди
+     * @return Элемент начала очереди
+     * @exception NoSuchElementException Ошибка получения элемента из пустой очереди
+     * **/
+    @Override
+    public int getFirst() {
+        buffer();
+
+        if (size == 0) {
+            throw new NoSuchElementException("В очереди отсутствуют элементы");
+        }
+        return buffer().get(head);
+    }
+
+    /**
+     * Получение элемента из начала очереди
+     * @return Элемент начала очереди типа {@link Integer}
+     * **/
+    @Override
+    public Integer peekFirst() {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return buffer().get(head);
+    }
+
+    /**
+     * Получение элемента из начала очереди без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Элемент начала очереди или defaultValue, если очередь пуста
+     * **/
+    @Override
+    public int peekFirstOrDefault(int defaultValue) {
+        buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        return buffer().get(head);
+    }
+
+
+    // ADD - добавление данных
+    /**
+     * Добавление элемента в конец очереди. Копирует метод {@link OffHeapIntQueue#addLast(int)}
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения очереди (если политика не позволяет увеличить вместимость)
+     * **/
+    @Override
+    public void add(int value) {
+        addLast(value);
+    }
+
+    /**
+     * Добавление элемента в конец очереди
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения очереди (если политика не позволяет увеличить вместимость)
+     * **/
+    @Override
+    public void addLast(int value) {
+        if (!pushLast(value)) {
+            throw new ArrayStoreException("Очередь заполнена. Добавление нового элемента невозможно");
+        }
+    }
+
+    /**
+     * Добавление элемента в конец очереди
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе - false
+     * **/
+    @Override
+    public boolean offerLast(int value) {
+        return pushLast(value);
+    }
+
+
+    // SETTERS - изменение данных
+    /**
+     * Установка значения первому элементу очереди
+     * @param value Новое значение первого элемента очереди
+     * @exception NoSuchElementException Ошибка изменения элемента в пустой очереди
+     **/
+    @Override
+    public void setFirst(int value) {
+        buffer();
+
+        if (size == 0) {
+            throw new NoSuchElementException("Очередь пуста. Элементов для изменения значений нет");
+        }
+        buffer().put(head, value);
+    }
+
+    /**
+     * Установка значения последнему элементу очереди
+     * @param value Новое значение последнего элемента очереди
+     * @exception NoSuchElementException Ошибка изменения элемента в пустой очереди
+     **/
+    @Override
+    public void setLast(int value) {
+        buffer();
+
+        if (size == 0) {
+            throw new NoSuchElementException("Очередь пуста. Элементов для изменения значений нет");
+        }
+        buffer().put(physicalIndex(size - 1), value);
+    }
+
+
+    // REMOVE - удаление данных
+    /**
+     * Удаление элемента из начала очереди с возвращением удалённого элемента
+     * @return Удалённый элемент очереди
+     * @exception NoSuchElementException Ошибка удаления элемента пустой очереди
+     * **/
+    @Override
+    public int removeFirst() {
+        buffer();
+
+        if (size == 0) {
+            throw new NoSuchElementException("Очередь пуста. Удаление первого элемента невозможно");
+        }
+        return popFirst();
+    }
+
+    /**
+     * Удаление элемента из начала очереди с возвращением удалённого элемента
+     * (если очередь пуста, возвращается значение null)
+     * @return Удалённый элемент очереди типа {@link Integer}
+     * **/
+    @Override
+    public Integer pollFirst() {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return popFirst();
+    }
+
+    /**
+     * Удаление элемента из начала очереди с возвращением удалённого элемента без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустой очереди
+     * @return Удалённый элемент очереди или defaultValue, если очередь пуста
+     * **/
+    @Override
+    public int pollFirstOrDefault(int defaultValue) {
+        buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        return popFirst();
+    }
+}
@@ -0,0 +1,105 @@
+package collections;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Разделяемый обход элементов {@link OffHeapIntArray} и наследников для {@link java.util.stream.IntStream}.
+ * Диапазон позиций элементов делится пополам по позициям, поэтому части получаются равными
+ * и при кольцевом расположении элементов. Буфер запрашивается у коллекции при чтении каждого элемента,
+ * поэтому обход закрытой коллекции приводит к {@link IllegalStateException}, а не к чтению освобождённой памяти.
+ * Коллекцию нельзя изменять во время обхода
+ * */
+final class OffHeapIntSpliterator implements Spliterator.OfInt {
+    // FIELDS - поля класса
+    private final OffHeapIntArray owner;
+    /**
+     * Индекс буфера первого элемента коллекции
+     * */
+    private final int head;
+    /**
+     * Количество позиций от первого элемента до конца буфера
+     * */
+    private final int tail;
+    /**
+     * Позиция следующего элемента
+     * */
+    private int index;
+    /**
+     * Позиция конца диапазона (не включительно)
+     * */
+    private final int fence;
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор обхода всех элементов коллекции
+     * @param owner Обходимая коллекция
+     * */
+    OffHeapIntSpliterator(OffHeapIntArray owner) {
+        this(owner, owner.head, owner.capacity - owner.head, 0, owner.size);
+    }
+
+    private OffHeapIntSpliterator(OffHeapIntArray owner, int head, int tail, int index, int fence) {
+        this.owner = owner;
+        this.head = head;
+        this.tail = tail;
+        this.index = index;
+        this.fence = fence;
+    }
+
+
+    // SPLIT - разделение обхода
+    @Override
+    public OfInt trySplit() {
+        int low = index;
+        int middle = (low + fence) >>> 1;
+
+        if (low >= middle) {
+            return null;
+        }
+        index = middle;
+        return new OffHeapIntSpliterator(owner, head, tail, low, middle);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+
+
+    // TRAVERSE - обход элементов
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        Objects.requireNonNull(action);
+
+        if (index >= fence) {
+            return false;
+        }
+        int position = index++;
+        action.accept(owner.buffer().get((position < tail) ? head + position : position - tail));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        Objects.requireNonNull(action);
+        int low = index;
+        int high = fence;
+        index = high;
+
+        for (int i = low, end = Math.min(high, tail); i < end; i++) {
+            action.accept(owner.buffer().get(head + i));
+        }
+
+        for (int i = Math.max(low, tail) - tail, end = high - tail; i < end; i++) {
+            action.accept(owner.buffer().get(i));
+        }
+    }
+}
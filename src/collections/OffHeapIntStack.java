@@ -0,0 +1,186 @@
+package collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Стек целочисленных значений, хранящий элементы вне кучи (см. {@link OffHeapIntArray})
+ * */
+public class OffHeapIntStack extends OffHeapIntArray implements IntStackCollection {
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор стека по умолчанию
+     * */
+    public OffHeapIntStack() {
+        super();
+    }
+
+    /**
+     * Конструктор стека с указанием его вместимости
+     * @param capacity Вместимость будущего стека
+     * @exception NegativeArraySizeException Ошибка указания отрицательного значения вместимости стека
+     * */
+    public OffHeapIntStack(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Конструктор стека с указанием списка добавляемых значений
+     * @param values Список добавляемых значений
+     * */
+    public OffHeapIntStack(int... values) {
+        super(values);
+    }
+
+    /**
+     * Конструктор стека с указанием его вместимости и списком добавляемых значений
+     * @param capacity Вместимость будущего стека
+     * @param values Список добавляемых значений
+     * @exception NegativeArraySizeException Ошибка указания отрицательного значения вместимости стека
+     * */
+    public OffHeapIntStack(int capacity, int... values) {
+        super(capacity, values);
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение элемента верхушки стека
+     * @return Элемент верхушки стека
+     * @exception NoSuchElementException Ошибка получения элемента из пустого стека
+     * **/
+    @Override
+    public int getLast() {
+        buffer();
+
+        if (size == 0) {
+            throw new NoSuchElementException("В стеке отсутствуют элементы");
+        }
+        return buffer().get(physicalIndex(size - 1));
+    }
+
+    /**
+     * Получение элемента верхушки стека
+     * @return Элемент верхушки стека типа {@link Integer}
+     * **/
+    @Override
+    public Integer peekLast() {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return buffer().get(physicalIndex(size - 1));
+    }
+
+    /**
+     * Получение элемента верхушки стека без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого стека
+     * @return Элемент верхушки стека или defaultValue, если стек пуст
+     * **/
+    @Override
+    public int peekLastOrDefault(int defaultValue) {
+        buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        return buffer().get(physicalIndex(size - 1));
+    }
+
+
+    // ADD - добавление данных
+    /**
+     * Добавление элемента в стек. Копирует метод {@link OffHeapIntStack#addLast(int)}
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения стека (если политика не позволяет увеличить вместимость)
+     * */
+    @Override
+    public void add(int value) {
+        addLast(value);
+    }
+
+    /**
+     * Добавление элемента в стек
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения стека (если политика не позволяет увеличить вместимость)
+     * */
+    @Override
+    public void addLast(int value) {
+        if (!pushLast(value)) {
+            throw new ArrayStoreException("Стек заполнен. Добавление нового элемента невозможно");
+        }
+    }
+
+    /**
+     * Добавление элемента в стек
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен, иначе - false
+     * */
+    @Override
+    public boolean offerLast(int value) {
+        return pushLast(value);
+    }
+
+
+    // SETTERS - изменение данных
+    /**
+     * Установка значения элементу верхушки стека
+     * @param value Новое значение элемента верхушки стека
+     * @exception NoSuchElementException Ошибка изменение элемента пустого стека
+     **/
+    @Override
+    public void setLast(int value) {
+        buffer();
+
+        if (size == 0) {
+            throw new NoSuchElementException("В стеке отсутствуют элементы");
+        }
+        buffer().put(physicalIndex(size - 1), value);
+    }
+
+
+    // REMOVE - удаление данных
+    /**
+     * Удаление элемента верхушки стека с возвращением удалённого элемента
+     * @return Удалённый элемент верхушки стека
+     * @exception NoSuchElementException Ошибка удаления элемента в пустом стеке
+     **/
+    @Override
+    public int removeLast() {
+        buffer();
+
+        if (size == 0) {
+            throw new NoSuchElementException("В стеке отсутствуют элементы");
+        }
+        return popLast();
+    }
+
+    /**
+     * Удаление элемента верхушки стека с возвращением удалённого элемента
+     * @return Удалённый элемент верхушки стека типа {@link Integer}
+     **/
+    @Override
+    public Integer pollLast() {
+        buffer();
+
+        if (size == 0) {
+            return null;
+        }
+        return popLast();
+    }
+
+    /**
+     * Удаление элемента верхушки стека с возвращением удалённого элемента без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого стека
+     * @return Удалённый элемент верхушки стека или defaultValue, если стек пуст
+     * **/
+    @Override
+    public int pollLastOrDefault(int defaultValue) {
+        buffer();
+
+        if (size == 0) {
+            return defaultValue;
+        }
+        return popLast();
+    }
+}
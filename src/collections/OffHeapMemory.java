@@ -0,0 +1,88 @@
+package collections;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Выделение и освобождение памяти вне кучи для коллекций {@link OffHeapIntArray}.
+ * Память выделяется прямым {@link ByteBuffer} и освобождается сразу при закрытии коллекции
+ * (через sun.misc.Unsafe#invokeCleaner). Если освобождение недоступно, память освобождается
+ * сборщиком мусора после того, как на буфер не останется ссылок
+ * */
+final class OffHeapMemory {
+    // CONSTANTS - константы класса
+    /**
+     * Наибольшее количество значений int в одном прямом буфере (размер буфера ограничен int байтами)
+     * */
+    static final int MAX_CAPACITY = Integer.MAX_VALUE / Integer.BYTES;
+    /**
+     * Метод освобождения памяти прямого буфера (null - если метод недоступен)
+     * */
+    private static final MethodHandle CLEANER = findCleaner();
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Класс содержит только статические методы
+     * */
+    private OffHeapMemory() {
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Поиск метода освобождения памяти прямого буфера
+     * @return Метод invokeCleaner(ByteBuffer), привязанный к экземпляру Unsafe, или null
+     * */
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Выделение памяти вне кучи под указанное количество значений int
+     * @param capacity Количество значений
+     * @return Прямой буфер с порядком байтов платформы
+     * @exception NegativeArraySizeException Ошибка указания отрицательного количества значений
+     * @exception OutOfMemoryError Ошибка превышения наибольшего количества значений {@link OffHeapMemory#MAX_CAPACITY}
+     * */
+    static ByteBuffer allocate(int capacity) {
+        if (capacity < 0) {
+            throw new NegativeArraySizeException("Вместимость коллекции не может иметь отрицательное значение");
+        }
+
+        if (capacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Вместимость коллекции вне кучи превышает " + MAX_CAPACITY + " элементов");
+        }
+        return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Освобождение памяти прямого буфера. После вызова обращение к буферу недопустимо
+     * @param memory Прямой буфер, выделенный {@link OffHeapMemory#allocate(int)}
+     * */
+    static void free(ByteBuffer memory) {
+        if (CLEANER == null) {
+            return;
+        }
+
+        try {
+            CLEANER.invokeExact(memory);
+        } catch (Throwable e) {
+            // память будет освобождена сборщиком мусора
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Массив целочисленных значений, упакованных в слова long по bitWidth бит на элемент.
+ * Подходит для значений небольшого диапазона (коды перечислений, счётчики): при ширине 4 бита
+ * элемент занимает в 8 раз меньше памяти, чем в {@link IntArray}.
+ * Значение, которое не помещается в текущую ширину, расширяет её: все элементы перепаковываются за O(n)
+ * (отрицательные значения расширяют ширину до 32 бит).
+ * Элемент может пересекать границу двух слов, поэтому чтение и запись всегда обращаются к двум соседним словам
+ * (внутренний массив содержит дополнительное слово в конце) - без ветвлений по положению элемента
+ * */
+public class PackedIntArray {
+    // CONSTANTS - константы класса
+    /**
+     * Ширина элемента по умолчанию в битах
+     * */
+    public static final int DEFAULT_BIT_WIDTH = 4;
+    /**
+     * Количество элементов, извлекаемых за один шаг последовательного чтения (кратно 64)
+     * */
+    private static final int CHUNK_SIZE = 256;
+
+
+    // FIELDS - поля класса
+    /**
+     * Слова с упакованными значениями
+     * */
+    private long[] words;
+    /**
+     * Ширина элемента в битах (от 1 до 32)
+     * */
+    private int bitWidth;
+    /**
+     * Маска младших bitWidth бит
+     * */
+    private long mask;
+    /**
+     * Вместимость массива (наибольшее количество элементов без увеличения массива слов)
+     * */
+    private int capacity;
+    /**
+     * Количество элементов массива
+     * */
+    private int size;
+    /**
+     * Буфер распакованных значений для последовательного чтения {@link PackedIntArray#CHUNK_SIZE} элементов
+     * (создаётся при первом просмотре и используется повторно, поэтому просмотр не выделяет память;
+     * из-за общего буфера contains и sum нельзя вызывать одновременно из нескольких потоков)
+     * */
+    private int[] chunk;
+    /**
+     * Политика увеличения вместимости при добавлении элемента в заполненный массив
+     * (по умолчанию вместимость не увеличивается)
+     * */
+    private GrowthPolicy growthPolicy = GrowthPolicy.failFast();
+
+
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Конструктор массива по умолчанию
+     * */
+    public PackedIntArray() {
+        this(16);
+    }
+
+    /**
+     * Конструктор массива с указанием его вместимости (ширина элемента - {@link PackedIntArray#DEFAULT_BIT_WIDTH} бита)
+     * @param capacity Вместимость будущего массива
+     * @exception NegativeArraySizeException Ошибка указания отрицательного значения вместимости массива
+     * */
+    public PackedIntArray(int capacity) {
+        this(capacity, DEFAULT_BIT_WIDTH);
+    }
+
+    /**
+     * Конструктор массива с указанием его вместимости и начальной ширины элемента
+     * @param capacity Вместимость будущего массива
+     * @param bitWidth Ширина элемента в битах (от 1 до 32)
+     * @exception NegativeArraySizeException Ошибка указания отрицательного значения вместимости массива
+     * @exception IllegalArgumentException Ошибка указания ширины элемента вне диапазона от 1 до 32
+     * */
+    public PackedIntArray(int capacity, int bitWidth) {
+        if (capacity < 0) {
+            throw new NegativeArraySizeException("Вместимость массива не может иметь отрицательное значение");
+        }
+
+        if (bitWidth < 1 || bitWidth > Integer.SIZE) {
+            throw new IllegalArgumentException("Ширина элемента должна быть от 1 до 32 бит");
+        }
+        this.capacity = capacity;
+        this.bitWidth = bitWidth;
+        mask = -1L >>> (Long.SIZE - bitWidth);
+        words = new long[wordCount(capacity, bitWidth)];
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Количество слов для указанного количества элементов (с дополнительным словом для чтения двух соседних слов)
+     * */
+    private static int wordCount(int capacity, int bitWidth) {
+        return (int) (((long) capacity * bitWidth + Long.SIZE - 1) >>> 6) + 1;
+    }
+
+    /**
+     * Количество бит, необходимое для хранения значения
+     * */
+    private static int requiredWidth(int value) {
+        return (value < 0) ? Integer.SIZE : Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(value));
+    }
+
+    /**
+     * Проверка индекса и преобразование отрицательного индекса в положительный
+     * */
+    private int checkIndex(int index) {
+        if (size == 0) {
+            throw new NoSuchElementException("В массиве отсутствуют элементы");
+        }
+
+        if (index >= size || index < -size) {
+            throw new ArrayIndexOutOfBoundsException("Элемент по индексу " + index + " отсутствует");
+        }
+        return (index < 0) ? index + size : index;
+    }
+
+    /**
+     * Чтение значения элемента (старшая часть элемента, пересекающего границу слов, берётся из следующего слова)
+     * */
+    private int read(int index) {
+        long bit = (long) index * bitWidth;
+        int word = (int) (bit >>> 6);
+        int shift = (int) bit & 63;
+        // сдвиг в два шага: при shift == 0 старшая часть равна нулю
+        long high = (words[word + 1] << 1) << (63 - shift);
+        return (int) (((words[word] >>> shift) | high) & mask);
+    }
+
+    /**
+     * Запись значения элемента (значение помещается в текущую ширину)
+     * */
+    private void write(int index, int value) {
+        long bit = (long) index * bitWidth;
+        int word = (int) (bit >>> 6);
+        int shift = (int) bit & 63;
+        long bits = value & mask;
+        words[word] = (words[word] & ~(mask << shift)) | (bits << shift);
+        long highMask = (mask >>> 1) >>> (63 - shift);
+        words[word + 1] = (words[word + 1] & ~highMask) | ((bits >>> 1) >>> (63 - shift));
+    }
+
+    /**
+     * Последовательное чтение элементов: значения извлекаются из буфера текущего слова сдвигами,
+     * следующее слово читается один раз, когда буфер исчерпан
+     * @param target Массив для значений элементов
+     * @param from Индекс первого элемента (кратен 64, чтобы элемент начинался с границы слова)
+     * @param count Количество элементов
+     * */
+    private void readRange(int[] target, int from, int count) {
+        int word = (int) (((long) from * bitWidth) >>> 6);
+        long buffer = words[word++];
+        int available = Long.SIZE;
+
+        for (int i = 0; i < count; i++) {
+            if (available >= bitWidth) {
+                target[i] = (int) (buffer & mask);
+                buffer >>>= bitWidth;
+                available -= bitWidth;
+            } else {
+                long next = words[word++];
+                target[i] = (int) ((buffer | (next << available)) & mask);
+                buffer = next >>> (bitWidth - available);
+                available += Long.SIZE - bitWidth;
+            }
+        }
+    }
+
+    /**
+     * Получение буфера последовательного чтения
+     * @return Буфер на {@link PackedIntArray#CHUNK_SIZE} значений
+     * */
+    private int[] chunk() {
+        if (chunk == null) {
+            chunk = new int[CHUNK_SIZE];
+        }
+        return chunk;
+    }
+
+    /**
+     * Расширение ширины элемента до необходимой для значения с перепаковкой всех элементов
+     * */
+    private void ensureWidth(int value) {
+        int required = requiredWidth(value);
+
+        if (required <= bitWidth) {
+            return;
+        }
+        PackedIntArray widened = new PackedIntArray(capacity, required);
+
+        for (int i = 0; i < size; i++) {
+            widened.write(i, read(i));
+        }
+        words = widened.words;
+        bitWidth = required;
+        mask = widened.mask;
+    }
+
+    /**
+     * Увеличение вместимости массива по его политике
+     * @param minCapacity Требуемая вместимость массива
+     * @return true - если вместимость массива не меньше требуемой, иначе - false
+     * */
+    private boolean grow(int minCapacity) {
+        int newCapacity = growthPolicy.newCapacity(capacity, minCapacity);
+
+        if (newCapacity < minCapacity) {
+            return false;
+        }
+        words = Arrays.copyOf(words, wordCount(newCapacity, bitWidth));
+        capacity = newCapacity;
+        return true;
+    }
+
+
+    // GETTERS - получение данных
+    /**
+     * Получение элемента массива по индексу
+     * @param index Индекс возвращаемого элемента
+     *              (положительный - с начала массива, отрицательный - с конца массива)
+     * @return Элемент массива по указанному индексу
+     * @exception NoSuchElementException Ошибка получения элемента из пустого массива
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода индекса за пределы массива
+     * */
+    public int getElement(int index) {
+        return read(checkIndex(index));
+    }
+
+    /**
+     * Получение всех элементов массива
+     * @return Новый массив значений элементов
+     * */
+    public int[] toArray() {
+        int[] result = new int[size];
+
+        if (size > 0) {
+            readRange(result, 0, size);
+        }
+        return result;
+    }
+
+    /**
+     * Получение количества элементов массива
+     * @return Количество элементов массива
+     * */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Получение вместимости массива
+     * @return Вместимость массива
+     * */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Получение текущей ширины элемента
+     * @return Количество бит на элемент
+     * */
+    public int getBitWidth() {
+        return bitWidth;
+    }
+
+    /**
+     * Получение памяти внутреннего массива слов (с заголовком массива)
+     * @return Размер в байтах (для сравнения: внутренний массив {@link IntArray} занимает 16 + 4 * capacity байт)
+     * */
+    public long getMemoryUsage() {
+        return 16 + (long) Long.BYTES * words.length;
+    }
+
+    /**
+     * Получение политики увеличения вместимости массива
+     * @return Текущая политика увеличения вместимости
+     * */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Установка политики увеличения вместимости массива
+     * @param growthPolicy Политика увеличения вместимости
+     * @exception IllegalArgumentException Ошибка указания пустой политики
+     * */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("Политика увеличения вместимости не указана");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+
+    // ADD - добавление данных
+    /**
+     * Добавление элемента в массив (ширина элемента расширяется, если значение в неё не помещается)
+     * @param value Значение добавляемого элемента
+     * @exception ArrayStoreException Ошибка переполнения массива (если политика не позволяет увеличить вместимость)
+     * */
+    public void add(int value) {
+        if (!offer(value)) {
+            throw new ArrayStoreException("Массив заполнен. Добавление нового элемента невозможно");
+        }
+    }
+
+    /**
+     * Добавление элемента в массив (ширина элемента расширяется, если значение в неё не помещается)
+     * @param value Значение добавляемого элемента
+     * @return true - если новый элемент добавлен в массив, иначе - false
+     * */
+    public boolean offer(int value) {
+        if (size == capacity && !grow(size + 1)) {
+            return false;
+        }
+        ensureWidth(value);
+        write(size, value);
+        size++;
+        return true;
+    }
+
+
+    // SETTERS - изменение данных
+    /**
+     * Установка значения элементу массива по указанному индексу
+     * (ширина элемента расширяется, если значение в неё не помещается)
+     * @param index Индекс изменяемого элемента
+     *              (положительный - с начала массива, отрицательный - с конца массива)
+     * @param value Новое значение изменяемого элемента
+     * @exception NoSuchElementException Ошибка изменения элемента пустого массива
+     * @exception ArrayIndexOutOfBoundsException Ошибка выхода индекса за пределы массива
+     * */
+    public void setElement(int index, int value) {
+        index = checkIndex(index);
+        ensureWidth(value);
+        write(index, value);
+    }
+
+
+    // REMOVE - удаление данных
+    /**
+     * Удаление всех элементов массива (ширина элемента сохраняется)
+     * */
+    public void clear() {
+        Arrays.fill(words, 0);
+        size = 0;
+    }
+
+
+    // CHECK - проверка данных
+    /**
+     * Проверка наличия элемента в массиве с указанным значением.
+     * Значение, не помещающееся в текущую ширину элемента, отсутствует без просмотра элементов
+     * @param value Проверяемое значение
+     * @return true - если в массиве имеется элемент с проверяемым значением, иначе - false
+     * */
+    public boolean contains(int value) {
+        if (requiredWidth(value) > bitWidth) {
+            return false;
+        }
+
+        int[] chunk = chunk();
+
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int count = Math.min(CHUNK_SIZE, size - from);
+            readRange(chunk, from, count);
+
+            if (IntScan.indexOf(chunk, 0, count, value) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    // SUM - сложение данных
+    /**
+     * Сложение значений элементов массива
+     * @return Сумма элементов массива типа {@link Integer}. Если массив пуст - возвращается null
+     * */
+    public Integer sum() {
+        if (size == 0) {
+            return null;
+        }
+        return sumOrDefault(0);
+    }
+
+    /**
+     * Сложение значений элементов массива без упаковки значения
+     * @param defaultValue Значение, возвращаемое для пустого массива
+     * @return Сумма элементов массива или defaultValue, если массив пуст
+     * */
+    public int sumOrDefault(int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        int[] chunk = chunk();
+        int sum = 0;
+
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int count = Math.min(CHUNK_SIZE, size - from);
+            readRange(chunk, from, count);
+            sum += IntScan.sum(chunk, 0, count);
+        }
+        return sum;
+    }
+
+
+    // TO_STRING - строковое преобразование данных
+    /**
+     * Вывод содержимого элементов массива в виде строки
+     * @return Строка, состоящая из элементов массива, разделённых пробелом
+     * */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                result.append(' ');
+            }
+            result.append(read(i));
+        }
+        return result.toString();
+    }
+}
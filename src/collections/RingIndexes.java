@@ -0,0 +1,130 @@
+package collections;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Поля дополнения до строки кэша перед индексом производителя
+ * */
+abstract class RingPadding0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+/**
+ * Индекс производителя (хвост кольца) и его кэш индекса потребителя
+ * */
+abstract class RingProducerIndex extends RingPadding0 {
+    /**
+     * Количество элементов, добавленных за всё время (номер следующей свободной позиции)
+     * */
+    volatile long tail;
+    /**
+     * Последнее прочитанное производителем значение индекса потребителя
+     * */
+    long headCache;
+}
+
+/**
+ * Поля дополнения до строки кэша между индексами производителя и потребителя
+ * */
+abstract class RingPadding1 extends RingProducerIndex {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p30, p31, p32, p33, p34, p35, p36, p37;
+}
+
+/**
+ * Индекс потребителя (голова кольца) и его кэш индекса производителя
+ * */
+abstract class RingConsumerIndex extends RingPadding1 {
+    /**
+     * Количество элементов, удалённых за всё время (номер следующей занятой позиции)
+     * */
+    volatile long head;
+    /**
+     * Последнее прочитанное потребителем значение индекса производителя
+     * */
+    long tailCache;
+}
+
+/**
+ * Поля дополнения до строки кэша после индекса потребителя
+ * */
+abstract class RingPadding2 extends RingConsumerIndex {
+    long p40, p41, p42, p43, p44, p45, p46, p47;
+    long p50, p51, p52, p53, p54, p55, p56, p57;
+}
+
+/**
+ * Индексы головы и хвоста конкурентного кольцевого буфера, разнесённые по разным строкам кэша.
+ * Индексы растут монотонно (позиция в буфере - индекс по маске), поэтому заполненное и пустое кольцо различаются
+ * без отдельного счётчика. JVM не гарантирует порядок полей одного класса, поэтому дополнение
+ * задаётся цепочкой наследования (поля суперкласса располагаются перед полями подкласса).
+ * Доступ с семантикой release/acquire выполняется через {@link VarHandle}
+ * */
+abstract class RingIndexes extends RingPadding2 {
+    // CONSTANTS - константы класса
+    /**
+     * Наибольшая вместимость кольца
+     * */
+    static final int MAX_CAPACITY = 1 << 30;
+    private static final VarHandle TAIL;
+    private static final VarHandle HEAD;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(RingProducerIndex.class, "tail", long.class);
+            HEAD = lookup.findVarHandle(RingConsumerIndex.class, "head", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+
+    // SERVICES - служебные методы
+    /**
+     * Вычисление вместимости кольца - ближайшей степени двойки, не меньшей указанной вместимости
+     * @param capacity Требуемая вместимость
+     * @return Вместимость кольца
+     * @exception IllegalArgumentException Ошибка указания вместимости меньше 1 или больше {@link RingIndexes#MAX_CAPACITY}
+     * */
+    static int ringCapacity(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Вместимость очереди должна быть от 1 до " + MAX_CAPACITY);
+        }
+        return (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    final long tailPlain() {
+        return (long) TAIL.get(this);
+    }
+
+    final long tailAcquire() {
+        return (long) TAIL.getAcquire(this);
+    }
+
+    final void tailRelease(long value) {
+        TAIL.setRelease(this, value);
+    }
+
+    final boolean casTail(long expected, long value) {
+        return TAIL.compareAndSet(this, expected, value);
+    }
+
+    final long headPlain() {
+        return (long) HEAD.get(this);
+    }
+
+    final long headAcquire() {
+        return (long) HEAD.getAcquire(this);
+    }
+
+    final void headRelease(long value) {
+        HEAD.setRelease(this, value);
+    }
+
+    final boolean casHead(long expected, long value) {
+        return HEAD.compareAndSet(this, expected, value);
+    }
+}
@@ -0,0 +1,234 @@
+package collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrozenIntArrayTest {
+    private static final int BLOCK = FrozenIntArray.BLOCK_SIZE;
+
+    /**
+     * Сжатие значений и проверка способа сжатия каждого полного блока
+     * (для неполного последнего блока может оказаться выгоднее другой способ)
+     * */
+    private static FrozenIntArray freeze(int[] values, byte encoding) {
+        FrozenIntArray frozen = new IntArray(values).freeze();
+
+        for (int block = 0; (block + 1) * BLOCK <= values.length; block++) {
+            assertEquals(encoding, frozen.getEncoding(block), "Способ сжатия блока " + block);
+        }
+        assertRoundTrip(values, frozen);
+        return frozen;
+    }
+
+    /**
+     * Сравнение сжатой копии с исходными значениями всеми способами чтения
+     * */
+    private static void assertRoundTrip(int[] values, FrozenIntArray frozen) {
+        assertEquals(values.length, frozen.getSize());
+        assertArrayEquals(values, frozen.toArray());
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], frozen.getElement(i), "Индекс " + i);
+            assertEquals(values[i], frozen.getElement(i - values.length), "Индекс " + (i - values.length));
+        }
+        long sum = 0;
+
+        for (int value : values) {
+            sum += value;
+        }
+        assertEquals(sum, frozen.sum());
+        long[] each = new long[1];
+        frozen.forEach(value -> each[0] += value);
+        assertEquals(sum, each[0]);
+
+        if (values.length > 0) {
+            assertEquals(Arrays.stream(values).min().getAsInt(), frozen.getMin());
+            assertEquals(Arrays.stream(values).max().getAsInt(), frozen.getMax());
+            assertTrue(frozen.contains(values[values.length / 2]));
+            assertTrue(frozen.contains(values[values.length - 1]));
+        }
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> frozen.getElement(values.length));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> frozen.getElement(-values.length - 1));
+    }
+
+    @Test
+    void frameBlocksPackOffsetsFromTheMinimum() {
+        Random random = new Random(1);
+        int[] values = new int[3 * BLOCK + 17];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1000 + random.nextInt(100);
+        }
+        FrozenIntArray frozen = freeze(values, FrozenIntArray.FRAME);
+        assertFalse(frozen.contains(999));
+        assertFalse(frozen.contains(1100));
+    }
+
+    @Test
+    void frameBlocksWith32BitWidth() {
+        Random random = new Random(2);
+        int[] values = new int[2 * BLOCK + 5];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+        // разность максимума и минимума не помещается в int
+        values[3] = Integer.MIN_VALUE;
+        values[4] = Integer.MAX_VALUE;
+        values[BLOCK] = Integer.MAX_VALUE;
+        values[BLOCK + 1] = Integer.MIN_VALUE;
+        freeze(values, FrozenIntArray.FRAME);
+    }
+
+    @Test
+    void deltaFrameBlocksWithOverflowingDifferences() {
+        int[] values = new int[BLOCK];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i % 3 == 0) ? Integer.MIN_VALUE : Integer.MAX_VALUE - (i & 1);
+        }
+        // разности соседних значений переполняют int, но их разброс мал
+        FrozenIntArray frozen = freeze(values, FrozenIntArray.DELTA_FRAME);
+        assertFalse(frozen.contains(0));
+    }
+
+    @Test
+    void deltaFrameBlocksForSortedValues() {
+        Random random = new Random(3);
+        int[] values = new int[4 * BLOCK + 1];
+        int value = -50_000;
+
+        for (int i = 0; i < values.length; i++) {
+            value += 1 + random.nextInt(16);
+            values[i] = value;
+        }
+        FrozenIntArray frozen = freeze(values, FrozenIntArray.DELTA_FRAME);
+        assertFalse(frozen.contains(values[0] - 1));
+    }
+
+    @Test
+    void deltaFrameBlocksForNearSortedValuesWithNegativeSteps() {
+        Random random = new Random(4);
+        int[] values = new int[2 * BLOCK];
+        int value = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            value += random.nextInt(40) - 10;
+            values[i] = value;
+        }
+        freeze(values, FrozenIntArray.DELTA_FRAME);
+    }
+
+    @Test
+    void varintBlocksForRareLargeJumps() {
+        int[] values = new int[2 * BLOCK + 30];
+        int value = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            // разности в 1 байт varint и редкие разности в 5 байт
+            value += (i % 50 == 49) ? 1 << 30 : 1;
+            values[i] = value;
+        }
+        freeze(values, FrozenIntArray.VARINT);
+    }
+
+    @Test
+    void runsBlocksForRepeatedValues() {
+        int[] values = new int[3 * BLOCK + 3];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = switch ((i / 40) % 3) {
+                case 0 -> 7;
+                case 1 -> Integer.MIN_VALUE;
+                default -> Integer.MAX_VALUE;
+            };
+        }
+        FrozenIntArray frozen = freeze(values, FrozenIntArray.RUNS);
+        assertFalse(frozen.contains(8));
+    }
+
+    @Test
+    void singleValueBlocks() {
+        int[] values = new int[2 * BLOCK + 1];
+        Arrays.fill(values, -3);
+        assertEquals(-3L * values.length, new IntArray(values).freeze().sum());
+        freeze(values, FrozenIntArray.RUNS);
+    }
+
+    @Test
+    void mixedEncodingsAcrossBlocks() {
+        Random random = new Random(5);
+        int[] values = new int[4 * BLOCK + 9];
+        int value = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            switch (i / BLOCK) {
+                case 0 -> values[i] = random.nextInt(1 << 12);
+                case 1 -> values[i] = (value += 1 + random.nextInt(8));
+                case 2 -> values[i] = (value += (i % 60 == 0) ? 1 << 29 : 2);
+                default -> values[i] = 42;
+            }
+        }
+        FrozenIntArray frozen = new IntArray(values).freeze();
+        assertEquals(FrozenIntArray.FRAME, frozen.getEncoding(0));
+        assertEquals(FrozenIntArray.DELTA_FRAME, frozen.getEncoding(1));
+        assertEquals(FrozenIntArray.VARINT, frozen.getEncoding(2));
+        assertEquals(FrozenIntArray.RUNS, frozen.getEncoding(3));
+        assertEquals(FrozenIntArray.RUNS, frozen.getEncoding(4));
+        assertRoundTrip(values, frozen);
+    }
+
+    @Test
+    void randomBlocksOfEveryShape() {
+        Random random = new Random(6);
+
+        for (int round = 0; round < 300; round++) {
+            int[] values = new int[random.nextInt(3 * BLOCK)];
+            int value = random.nextInt();
+
+            for (int i = 0; i < values.length; i++) {
+                values[i] = switch (round % 5) {
+                    case 0 -> random.nextInt();
+                    case 1 -> value += random.nextInt(20);
+                    case 2 -> (random.nextInt(10) == 0) ? random.nextInt(5) : 7;
+                    case 3 -> value += random.nextInt(40) - 10;
+                    default -> (random.nextBoolean() ? Integer.MIN_VALUE : Integer.MAX_VALUE) - random.nextInt(3);
+                };
+            }
+            assertRoundTrip(values, new IntArray(values).freeze());
+        }
+    }
+
+    @Test
+    void freezeOfWrappedQueue() {
+        IntQueue queue = new IntQueue(BLOCK + 8);
+
+        for (int i = 0; i < BLOCK; i++) {
+            queue.addLast(i);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            queue.removeFirst();
+            queue.addLast(BLOCK + i);
+        }
+        assertRoundTrip(queue.intStream().toArray(), queue.freeze());
+    }
+
+    @Test
+    void emptyArray() {
+        FrozenIntArray frozen = new IntArray(0).freeze();
+        assertRoundTrip(new int[0], frozen);
+        assertFalse(frozen.contains(0));
+        assertThrows(NoSuchElementException.class, frozen::getMin);
+        assertThrows(NoSuchElementException.class, frozen::getMax);
+    }
+}
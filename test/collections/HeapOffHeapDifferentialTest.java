@@ -0,0 +1,107 @@
+package collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Сравнение очередей и деков в куче с их аналогами вне кучи на случайных последовательностях операций:
+ * результат каждой операции (или тип исключения) и состояние коллекций после неё должны совпадать
+ * */
+class HeapOffHeapDifferentialTest {
+    private static final int ROUNDS = 2000;
+    private static final int STEPS = 200;
+
+    /**
+     * Результат операции в виде строки (для исключения - его тип)
+     * */
+    private static String run(Function<IntQueueCollection, Object> operation, IntQueueCollection collection) {
+        try {
+            Object result = operation.apply(collection);
+            return (result instanceof int[] values) ? Arrays.toString(values) : String.valueOf(result);
+        } catch (RuntimeException e) {
+            return "EX:" + e.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Состояние коллекции всеми способами получения элементов
+     * */
+    private static String state(IntQueueCollection collection) {
+        return collection.getSize() + "|" + Arrays.toString(collection.getCollection()) + "|" + collection.join(",")
+                + "|" + collection + "|" + Arrays.toString(Arrays.copyOf(collection.copy(), collection.getSize()));
+    }
+
+    private static Function<IntQueueCollection, Object> operation(int code, int v, int i, int j) {
+        return switch (code) {
+            case 0, 1, 2 -> c -> { c.add(v); return null; };
+            case 3 -> c -> c.offer(v);
+            case 4, 5 -> IntQueueCollection::removeFirst;
+            case 6 -> c -> c.getElement(i);
+            case 7 -> c -> c.peek(i);
+            case 8 -> c -> c.peekOrDefault(i, -7);
+            case 9 -> c -> c.getMin() + "/" + c.getMax() + "/" + c.getMinOrDefault(-1) + "/" + c.getMaxOrDefault(-1);
+            case 10 -> c -> c.getCollection(i);
+            case 11 -> c -> c.getCollection(i, j);
+            case 12 -> c -> { c.setElement(i, v); return null; };
+            case 13 -> c -> { c.setAll(v); return null; };
+            case 14 -> c -> c.remove(i);
+            case 15 -> c -> c.poll(i);
+            case 16 -> c -> c.pollOrDefault(i, -7);
+            case 17 -> c -> { c.clear(); return null; };
+            case 18 -> c -> c.contains(v);
+            case 19 -> c -> c.indexOf(v) + "/" + c.indexOfOrDefault(v, -9);
+            case 20 -> c -> c.lastIndexOf(v) + "/" + c.lastIndexOfOrDefault(v, -9);
+            case 21 -> c -> c.findCount(v) + "/" + c.findCountOrDefault(v, -9);
+            case 22 -> IntQueueCollection::sort;
+            case 23 -> IntQueueCollection::reverseSort;
+            case 24 -> c -> { c.reverse(); return null; };
+            case 25 -> c -> { c.transform(i, j); return null; };
+            case 26 -> c -> c.concat(v, v + 1);
+            case 27 -> c -> c.sum() + "/" + c.sumOrDefault(-3);
+            case 28 -> c -> c.getStatistics();
+            case 29 -> c -> Arrays.toString(c.intStream().toArray()) + Arrays.toString(c.parallelIntStream().toArray());
+            case 30 -> c -> c.peekFirst() + "/" + c.peekFirstOrDefault(-1);
+            case 31 -> c -> { c.setFirst(v); return null; };
+            case 32 -> c -> { c.setLast(v); return null; };
+            case 33 -> c -> c.pollFirst() + "/" + c.pollFirstOrDefault(-1);
+            case 34 -> c -> {
+                ByteBuffer buffer = ByteBuffer.allocate(1024);
+                c.writeTo(buffer);
+                return Arrays.toString(Arrays.copyOf(buffer.array(), 8 + 4 * c.getSize()));
+            };
+            default -> c -> { c.addLast(v); return null; };
+        };
+    }
+
+    @Test
+    void heapAndOffHeapRingsAgree() {
+        Random random = new Random(42);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            boolean deque = round % 2 == 0;
+            IntQueueCollection heap = deque ? new IntDeque(8) : new IntQueue(8);
+            OffHeapIntArray offHeap = deque ? new OffHeapIntDeque(8) : new OffHeapIntQueue(8);
+            StringBuilder log = new StringBuilder(deque ? "deque:" : "queue:");
+
+            try (offHeap) {
+                for (int step = 0; step < STEPS; step++) {
+                    int v = random.nextInt(10);
+                    int i = random.nextInt(21) - 10;
+                    int j = random.nextInt(21) - 10;
+                    int code = random.nextInt(36);
+                    Function<IntQueueCollection, Object> operation = operation(code, v, i, j);
+                    log.append(' ').append(code).append('(').append(v).append(',').append(i).append(',').append(j).append(')');
+
+                    assertEquals(run(operation, heap), run(operation, (IntQueueCollection) offHeap), log::toString);
+                    assertEquals(state(heap), state((IntQueueCollection) offHeap), log::toString);
+                }
+            }
+        }
+    }
+}
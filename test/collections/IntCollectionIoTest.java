@@ -0,0 +1,310 @@
+package collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IntCollectionIoTest {
+    /**
+     * Сигнатура записи "INT1" в порядке байтов little-endian
+     * */
+    private static final int MAGIC = 0x31544E49;
+
+    @TempDir
+    Path directory;
+    private int files;
+
+    private interface Factory {
+        IntCollection create() throws IOException;
+    }
+
+    /**
+     * Коллекции всех видов: в куче, вне кучи и в отображённом файле
+     * */
+    private Map<String, Factory> kinds() {
+        Map<String, Factory> kinds = new LinkedHashMap<>();
+        kinds.put("IntArray", () -> new IntArray(8));
+        kinds.put("IntStack", () -> new IntStack(8));
+        kinds.put("IntQueue", () -> new IntQueue(8));
+        kinds.put("IntDeque", () -> new IntDeque(8));
+        kinds.put("OffHeapIntArray", () -> new OffHeapIntArray(8));
+        kinds.put("OffHeapIntStack", () -> new OffHeapIntStack(8));
+        kinds.put("OffHeapIntQueue", () -> new OffHeapIntQueue(8));
+        kinds.put("OffHeapIntDeque", () -> new OffHeapIntDeque(8));
+        kinds.put("MappedIntArray", () -> new MappedIntArray(directory.resolve("mapped-" + (++files) + ".bin"), 8));
+        return kinds;
+    }
+
+    /**
+     * Заполнение коллекции случайными значениями. Очереди удаляют часть элементов с начала,
+     * а деки добавляют элементы в оба конца, поэтому их элементы переходят через конец кольца
+     * @return Элементы коллекции в порядке обхода
+     * */
+    private static int[] fill(IntCollection collection, int count, Random random) {
+        collection.setGrowthPolicy(GrowthPolicy.geometric(2));
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt();
+
+            if (collection instanceof IntQueue || collection instanceof OffHeapIntQueue) {
+                ((IntQueueCollection) collection).addLast(value);
+                expected.add(value);
+
+                if (random.nextInt(3) == 0) {
+                    ((IntQueueCollection) collection).removeFirst();
+                    expected.remove(0);
+                }
+            } else if (collection instanceof IntDeque deque && random.nextBoolean()) {
+                deque.addFirst(value);
+                expected.add(0, value);
+            } else if (collection instanceof OffHeapIntDeque deque && random.nextBoolean()) {
+                deque.addFirst(value);
+                expected.add(0, value);
+            } else {
+                collection.add(value);
+                expected.add(value);
+            }
+        }
+        int[] result = expected.stream().mapToInt(Integer::intValue).toArray();
+        assertArrayEquals(result, collection.intStream().toArray());
+        return result;
+    }
+
+    private static byte[] write(IntCollection collection) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        collection.writeTo(Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        int[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static void close(IntCollection collection) {
+        if (collection instanceof OffHeapIntArray offHeap) {
+            offHeap.close();
+        }
+    }
+
+    @Test
+    void everyKindRoundTripsThroughEveryKind() throws IOException {
+        Random random = new Random(11);
+        Map<String, Factory> kinds = kinds();
+
+        for (int round = 0; round < 3; round++) {
+            for (Map.Entry<String, Factory> source : kinds.entrySet()) {
+                IntCollection from = source.getValue().create();
+                int[] values = fill(from, (round == 0) ? random.nextInt(3) : random.nextInt(5000), random);
+
+                // запись в канал: заголовок и значения в порядке little-endian
+                byte[] bytes = write(from);
+                assertEquals(8 + 4 * values.length, bytes.length, source.getKey());
+                ByteBuffer record = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+                assertEquals(MAGIC, record.getInt(0));
+                assertEquals(values.length, record.getInt(4));
+
+                for (int i = 0; i < values.length; i++) {
+                    assertEquals(values[i], record.getInt(8 + 4 * i));
+                }
+
+                // запись в буфер (в куче и прямой, big-endian, с ненулевой позицией) совпадает с записью в канал
+                ByteBuffer buffer = (round % 2 == 0) ? ByteBuffer.allocate(bytes.length + 3) : ByteBuffer.allocateDirect(bytes.length + 3);
+                buffer.position(3);
+                from.writeTo(buffer);
+                assertEquals(bytes.length + 3, buffer.position());
+                byte[] copy = new byte[bytes.length];
+                buffer.position(3);
+                buffer.get(copy);
+                assertArrayEquals(bytes, copy, source.getKey());
+
+                for (Map.Entry<String, Factory> target : kinds.entrySet()) {
+                    String name = source.getKey() + " -> " + target.getKey();
+                    IntCollection to = target.getValue().create();
+                    int[] existing = fill(to, random.nextInt(20), random);
+
+                    assertEquals(values.length, to.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes))), name);
+                    int[] expected = concat(existing, values);
+                    assertArrayEquals(expected, to.intStream().toArray(), name);
+
+                    buffer.position(3);
+                    assertEquals(values.length, to.readFrom(buffer), name);
+                    assertEquals(bytes.length + 3, buffer.position(), name);
+                    expected = concat(expected, values);
+                    assertArrayEquals(expected, to.intStream().toArray(), name);
+
+                    if (expected.length > 0) {
+                        assertEquals(Arrays.stream(expected).min().getAsInt(), to.getMin(), name);
+                    }
+                    close(to);
+                }
+                close(from);
+            }
+        }
+    }
+
+    @Test
+    void wrappedRingRoundTrip() throws IOException {
+        int[] expected = {4, 5, 6, 7, 8, 9, 10};
+
+        for (Map.Entry<String, Factory> source : kinds().entrySet()) {
+            IntCollection from = source.getValue().create();
+
+            if (!(from instanceof IntQueueCollection queue)) {
+                close(from);
+                continue;
+            }
+
+            // элементы 8, 9, 10 находятся в начале внутреннего массива, остальные - в конце
+            for (int i = 1; i <= 7; i++) {
+                queue.addLast(i);
+            }
+
+            for (int i = 0; i < 3; i++) {
+                queue.removeFirst();
+            }
+
+            for (int i = 8; i <= 10; i++) {
+                queue.addLast(i);
+            }
+            assertArrayEquals(expected, from.intStream().toArray(), source.getKey());
+
+            for (Map.Entry<String, Factory> target : kinds().entrySet()) {
+                IntCollection to = target.getValue().create();
+
+                // приёмник-кольцо также переходит через конец внутреннего массива
+                if (to instanceof IntQueueCollection ring) {
+                    for (int i = 0; i < 6; i++) {
+                        ring.addLast(-1);
+                    }
+
+                    for (int i = 0; i < 6; i++) {
+                        ring.removeFirst();
+                    }
+                }
+                to.setGrowthPolicy(GrowthPolicy.geometric(2));
+                to.readFrom(Channels.newChannel(new ByteArrayInputStream(write(from))));
+                ByteBuffer buffer = ByteBuffer.allocate(64);
+                from.writeTo(buffer.clear());
+                to.readFrom(buffer.flip());
+                assertArrayEquals(concat(expected, expected), to.intStream().toArray(), source.getKey() + " -> " + target.getKey());
+                close(to);
+            }
+            close(from);
+        }
+    }
+
+    @Test
+    void readKeepsTrackingAndHashIndexConsistent() throws IOException {
+        IntQueue queue = new IntQueue(4);
+        queue.setGrowthPolicy(GrowthPolicy.geometric(2));
+        queue.setMinMaxTracking(true);
+        queue.setHashIndexing(true);
+        queue.addLast(50);
+        queue.addLast(60);
+        queue.removeFirst();
+
+        queue.readFrom(Channels.newChannel(new ByteArrayInputStream(write(new IntArray(new int[] {-7, 3, 3})))));
+        assertEquals(-7, queue.getMin());
+        assertEquals(60, queue.getMax());
+        assertEquals(2, queue.findCount(3));
+        assertEquals(2, queue.indexOfOrDefault(3, -1));
+    }
+
+    @Test
+    void invalidRecordsLeaveCollectionUnchanged() throws IOException {
+        byte[] bytes = write(new IntArray(new int[] {-7, 3, 3}));
+        IntArray array = new IntArray(16);
+        array.add(1);
+
+        assertThrows(EOFException.class,
+                () -> array.readFrom(Channels.newChannel(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)))));
+        assertThrows(BufferUnderflowException.class, () -> array.readFrom(ByteBuffer.wrap(bytes, 0, bytes.length - 1)));
+
+        bytes[0] ^= 1;
+        assertThrows(StreamCorruptedException.class, () -> array.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes))));
+        assertThrows(IllegalArgumentException.class, () -> array.readFrom(ByteBuffer.wrap(bytes)));
+        bytes[0] ^= 1;
+        assertArrayEquals(new int[] {1}, array.intStream().toArray());
+
+        IntArray small = new IntArray(3);
+        small.add(1);
+        assertThrows(ArrayStoreException.class, () -> small.readFrom(ByteBuffer.wrap(bytes)));
+        assertArrayEquals(new int[] {1}, small.intStream().toArray());
+
+        assertThrows(BufferOverflowException.class, () -> small.writeTo(ByteBuffer.allocate(11)));
+    }
+
+    @Test
+    void mappedArrayRoundTripAndReadOnlyFile() throws IOException {
+        byte[] bytes = write(new IntArray(new int[] {-7, 3, 3}));
+        Path path = directory.resolve("array.bin");
+
+        try (MappedIntArray mapped = new MappedIntArray(path, 2)) {
+            mapped.setGrowthPolicy(GrowthPolicy.geometric(2));
+            mapped.add(9);
+            mapped.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes)));
+            assertArrayEquals(new int[] {9, -7, 3, 3}, mapped.intStream().toArray());
+
+            IntArray back = new IntArray(8);
+            back.readFrom(ByteBuffer.wrap(write(mapped)));
+            assertArrayEquals(new int[] {9, -7, 3, 3}, back.intStream().toArray());
+        }
+
+        try (MappedIntArray readOnly = new MappedIntArray(path, FileChannel.MapMode.READ_ONLY)) {
+            assertArrayEquals(new int[] {9, -7, 3, 3}, readOnly.intStream().toArray());
+            assertThrows(ReadOnlyBufferException.class, () -> readOnly.readFrom(ByteBuffer.wrap(bytes)));
+        }
+    }
+
+    @Test
+    void fileChannelRoundTrip() throws IOException {
+        IntDeque deque = new IntDeque(1 << 18);
+
+        for (int i = 0; i < 1 << 18; i++) {
+            if (i % 2 == 0) {
+                deque.addFirst(i);
+            } else {
+                deque.addLast(i);
+            }
+        }
+        Path path = Files.createFile(directory.resolve("deque.bin"));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            deque.writeTo(channel);
+        }
+        assertEquals(8 + 4L * deque.getSize(), Files.size(path));
+
+        try (OffHeapIntArray back = new OffHeapIntArray(1 << 18); FileChannel channel = FileChannel.open(path)) {
+            back.readFrom(channel);
+            assertArrayEquals(deque.intStream().toArray(), back.intStream().toArray());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package collections;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntMpmcQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int PER_PRODUCER = 250_000;
+
+    @Test
+    void boundedFifo() {
+        IntMpmcQueue queue = new IntMpmcQueue(4);
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(queue.offer(round * 10 + i));
+            }
+            assertFalse(queue.offer(-1));
+            assertThrows(ArrayStoreException.class, () -> queue.addLast(-1));
+
+            for (int i = 0; i < 4; i++) {
+                assertEquals(round * 10 + i, queue.poll());
+            }
+            assertNull(queue.poll());
+        }
+    }
+
+    /**
+     * Четыре производителя и четыре потребителя через маленькое кольцо.
+     * Каждое значение должно быть получено ровно один раз, а значения одного производителя каждый потребитель
+     * должен получать в порядке добавления
+     * */
+    @RepeatedTest(5)
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void producersAndConsumersExchangeEachValueExactlyOnce() throws InterruptedException {
+        IntMpmcQueue queue = new IntMpmcQueue(64);
+        int total = PRODUCERS * PER_PRODUCER;
+        int[][] taken = new int[CONSUMERS][total];
+        AtomicInteger remaining = new AtomicInteger(total);
+        Runnable[] tasks = new Runnable[PRODUCERS + CONSUMERS];
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            int first = p * PER_PRODUCER;
+            tasks[p] = () -> {
+                for (int i = first; i < first + PER_PRODUCER; i++) {
+                    while (!queue.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            };
+        }
+
+        for (int c = 0; c < CONSUMERS; c++) {
+            int[] own = taken[c];
+            tasks[PRODUCERS + c] = () -> {
+                int[] previous = new int[PRODUCERS];
+                Arrays.fill(previous, -1);
+
+                while (remaining.get() > 0) {
+                    int value = queue.pollOrDefault(-1);
+
+                    if (value < 0) {
+                        Thread.yield();
+                        continue;
+                    }
+                    int producer = value / PER_PRODUCER;
+                    assertTrue(value > previous[producer], "Потребитель получил " + value + " после " + previous[producer]);
+                    previous[producer] = value;
+                    own[value]++;
+                    remaining.decrementAndGet();
+                }
+            };
+        }
+        StressThreads.run(tasks);
+
+        for (int value = 0; value < total; value++) {
+            int times = 0;
+
+            for (int[] own : taken) {
+                times += own[value];
+            }
+            assertEquals(1, times, "Значение " + value);
+        }
+        assertNull(queue.poll());
+    }
+}
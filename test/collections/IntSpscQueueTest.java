@@ -0,0 +1,113 @@
+package collections;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IntSpscQueueTest {
+    private static final int COUNT = 2_000_000;
+
+    @Test
+    void fillAndDrainAcrossTheEndOfTheRing() {
+        IntSpscQueue queue = new IntSpscQueue(8);
+        assertEquals(5, queue.fill(new int[] {1, 2, 3, 4, 5}));
+
+        int[] target = new int[4];
+        assertEquals(4, queue.drainTo(target));
+        assertArrayEquals(new int[] {1, 2, 3, 4}, target);
+
+        // пакет переходит через конец массива
+        assertEquals(7, queue.fill(new int[] {6, 7, 8, 9, 10, 11, 12, 13}));
+        int[] rest = new int[10];
+        assertEquals(8, queue.drainTo(rest, 1, 9));
+        assertArrayEquals(new int[] {0, 5, 6, 7, 8, 9, 10, 11, 12, 0}, rest);
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void addLastToFullQueue() {
+        IntSpscQueue queue = new IntSpscQueue(4);
+
+        for (int i = 0; i < 4; i++) {
+            queue.addLast(i);
+        }
+        assertThrows(ArrayStoreException.class, () -> queue.addLast(4));
+        assertEquals(0, queue.poll());
+        queue.addLast(4);
+    }
+
+    /**
+     * Производитель добавляет последовательность пакетами случайной длины, потребитель забирает её пакетами
+     * и поштучно. Значения должны приходить ровно один раз и в порядке добавления
+     * */
+    @RepeatedTest(5)
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void batchesKeepProducerOrder() throws InterruptedException {
+        IntSpscQueue queue = new IntSpscQueue(1000);
+        int[] received = new int[1];
+
+        Runnable producer = () -> {
+            Random random = new Random(1);
+            int[] batch = new int[97];
+            int next = 0;
+
+            while (next < COUNT) {
+                int length = Math.min(1 + random.nextInt(batch.length), COUNT - next);
+
+                for (int i = 0; i < length; i++) {
+                    batch[i] = next + i;
+                }
+                int offset = 0;
+
+                while (offset < length) {
+                    int added = queue.fill(batch, offset, length - offset);
+
+                    if (added == 0) {
+                        Thread.yield();
+                    }
+                    offset += added;
+                }
+                next += length;
+            }
+        };
+
+        Runnable consumer = () -> {
+            Random random = new Random(2);
+            int[] target = new int[128];
+            int expected = 0;
+
+            while (expected < COUNT) {
+                if (random.nextInt(8) == 0) {
+                    int value = queue.pollOrDefault(-1);
+
+                    if (value >= 0) {
+                        assertEquals(expected++, value);
+                    }
+                    continue;
+                }
+                int count = queue.drainTo(target, 0, 1 + random.nextInt(target.length));
+
+                for (int i = 0; i < count; i++) {
+                    assertEquals(expected++, target[i]);
+                }
+
+                if (count == 0) {
+                    Thread.yield();
+                }
+            }
+            received[0] = expected;
+        };
+        StressThreads.run(producer, consumer);
+
+        assertEquals(COUNT, received[0]);
+        assertNull(queue.poll());
+    }
+}
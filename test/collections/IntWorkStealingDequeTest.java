@@ -0,0 +1,99 @@
+package collections;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntWorkStealingDequeTest {
+    private static final int COUNT = 200_000;
+    private static final int THIEVES = 3;
+
+    @Test
+    void ownerPopsInReverseOrder() {
+        IntWorkStealingDeque deque = new IntWorkStealingDeque(2);
+
+        for (int i = 0; i < 100; i++) {
+            deque.push(i);
+        }
+        assertEquals(0, deque.steal());
+
+        for (int i = 99; i > 0; i--) {
+            assertEquals(i, deque.pop());
+        }
+        assertNull(deque.pop());
+        assertEquals(-1, deque.stealOrDefault(-1));
+        assertTrue(deque.isEmpty());
+    }
+
+    /**
+     * Владелец добавляет значения и забирает часть из них с конца, три вора перехватывают с начала.
+     * Каждое значение должно быть получено ровно один раз, а каждый вор - получать значения по возрастанию
+     * */
+    @RepeatedTest(5)
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void ownerAndThievesTakeEachValueExactlyOnce() throws InterruptedException {
+        // малая начальная вместимость - перехваты идут во время увеличения массива
+        IntWorkStealingDeque deque = new IntWorkStealingDeque(4);
+        int[][] taken = new int[THIEVES + 1][COUNT];
+        AtomicBoolean pushed = new AtomicBoolean();
+        Runnable[] tasks = new Runnable[THIEVES + 1];
+
+        tasks[0] = () -> {
+            for (int i = 0; i < COUNT; i++) {
+                deque.push(i);
+
+                if (i % 3 == 0) {
+                    take(taken[0], deque.popOrDefault(-1));
+                }
+            }
+
+            for (int value = deque.popOrDefault(-1); value >= 0; value = deque.popOrDefault(-1)) {
+                take(taken[0], value);
+            }
+            pushed.set(true);
+        };
+
+        for (int t = 1; t <= THIEVES; t++) {
+            int[] own = taken[t];
+            tasks[t] = () -> {
+                int previous = -1;
+
+                while (!pushed.get() || !deque.isEmpty()) {
+                    int value = deque.stealOrDefault(-1);
+
+                    if (value >= 0) {
+                        assertTrue(value > previous, "Вор получил " + value + " после " + previous);
+                        previous = value;
+                        take(own, value);
+                    } else {
+                        Thread.yield();
+                    }
+                }
+            };
+        }
+        StressThreads.run(tasks);
+
+        for (int value = 0; value < COUNT; value++) {
+            int times = 0;
+
+            for (int[] own : taken) {
+                times += own[value];
+            }
+            assertEquals(1, times, "Значение " + value);
+        }
+        assertTrue(deque.isEmpty());
+    }
+
+    private static void take(int[] taken, int value) {
+        if (value >= 0) {
+            taken[value]++;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapIntArrayTest {
+    private static int files;
+
+    /**
+     * Обращения к элементам коллекции (чтение и изменение)
+     * */
+    private static Map<String, Consumer<OffHeapIntArray>> accessors() {
+        Map<String, Consumer<OffHeapIntArray>> calls = new LinkedHashMap<>();
+        calls.put("getElement", c -> c.getElement(0));
+        calls.put("peek", c -> c.peek(0));
+        calls.put("peekOrDefault", c -> c.peekOrDefault(0, -1));
+        calls.put("getMin", OffHeapIntArray::getMin);
+        calls.put("getMinOrDefault", c -> c.getMinOrDefault(-1));
+        calls.put("getMax", OffHeapIntArray::getMax);
+        calls.put("getMaxOrDefault", c -> c.getMaxOrDefault(-1));
+        calls.put("getCollection", OffHeapIntArray::getCollection);
+        calls.put("getCollection(start)", c -> c.getCollection(0));
+        calls.put("getCollection(start, end)", c -> c.getCollection(0, 0));
+        calls.put("add", c -> c.add(1));
+        calls.put("offer", c -> c.offer(1));
+        calls.put("setElement", c -> c.setElement(0, 1));
+        calls.put("setAll", c -> c.setAll(1));
+        calls.put("remove", c -> c.remove(0));
+        calls.put("poll", c -> c.poll(0));
+        calls.put("pollOrDefault", c -> c.pollOrDefault(0, -1));
+        calls.put("clear", OffHeapIntArray::clear);
+        calls.put("contains", c -> c.contains(1));
+        calls.put("indexOf", c -> c.indexOf(1));
+        calls.put("indexOfOrDefault", c -> c.indexOfOrDefault(1, -1));
+        calls.put("lastIndexOf", c -> c.lastIndexOf(1));
+        calls.put("lastIndexOfOrDefault", c -> c.lastIndexOfOrDefault(1, -1));
+        calls.put("findCount", c -> c.findCount(1));
+        calls.put("findCountOrDefault", c -> c.findCountOrDefault(1, -1));
+        calls.put("sort", OffHeapIntArray::sort);
+        calls.put("reverseSort", OffHeapIntArray::reverseSort);
+        calls.put("reverse", OffHeapIntArray::reverse);
+        calls.put("increaseCapacity", OffHeapIntArray::increaseCapacity);
+        calls.put("transform", c -> c.transform(0, 0));
+        calls.put("copy", OffHeapIntArray::copy);
+        calls.put("concat", c -> c.concat(1));
+        calls.put("join", c -> c.join(","));
+        calls.put("toString", OffHeapIntArray::toString);
+        calls.put("sum", OffHeapIntArray::sum);
+        calls.put("sumOrDefault", c -> c.sumOrDefault(-1));
+        calls.put("getStatistics", OffHeapIntArray::getStatistics);
+        calls.put("spliterator", OffHeapIntArray::spliterator);
+        calls.put("intStream", OffHeapIntArray::intStream);
+        calls.put("parallelIntStream", OffHeapIntArray::parallelIntStream);
+        calls.put("writeTo(buffer)", c -> c.writeTo(ByteBuffer.allocate(64)));
+        calls.put("writeTo(channel)", c -> io(() -> c.writeTo(Channels.newChannel(new ByteArrayOutputStream()))));
+        calls.put("readFrom(buffer)", c -> c.readFrom(record()));
+        calls.put("readFrom(channel)", c -> io(() -> c.readFrom(Channels.newChannel(new ByteArrayInputStream(record().array())))));
+
+        Map<String, Consumer<OffHeapIntArray>> ends = new LinkedHashMap<>();
+        ends.put("getFirst", c -> ((IntQueueCollection) c).getFirst());
+        ends.put("peekFirst", c -> ((IntQueueCollection) c).peekFirst());
+        ends.put("peekFirstOrDefault", c -> ((IntQueueCollection) c).peekFirstOrDefault(-1));
+        ends.put("addLast", c -> ((IntQueueCollection) c).addLast(1));
+        ends.put("offerLast", c -> ((IntQueueCollection) c).offerLast(1));
+        ends.put("setFirst", c -> ((IntQueueCollection) c).setFirst(1));
+        ends.put("setLast", c -> ((IntQueueCollection) c).setLast(1));
+        ends.put("removeFirst", c -> ((IntQueueCollection) c).removeFirst());
+        ends.put("pollFirst", c -> ((IntQueueCollection) c).pollFirst());
+        ends.put("pollFirstOrDefault", c -> ((IntQueueCollection) c).pollFirstOrDefault(-1));
+        ends.forEach((name, call) -> calls.put(name, c -> {
+            if (c instanceof IntQueueCollection) {
+                call.accept(c);
+            } else {
+                throw new IllegalStateException("Метод отсутствует");
+            }
+        }));
+
+        Map<String, Consumer<OffHeapIntArray>> tops = new LinkedHashMap<>();
+        tops.put("getLast", c -> ((IntStackCollection) c).getLast());
+        tops.put("peekLast", c -> ((IntStackCollection) c).peekLast());
+        tops.put("peekLastOrDefault", c -> ((IntStackCollection) c).peekLastOrDefault(-1));
+        tops.put("stack.setLast", c -> ((IntStackCollection) c).setLast(1));
+        tops.put("removeLast", c -> ((IntStackCollection) c).removeLast());
+        tops.put("pollLast", c -> ((IntStackCollection) c).pollLast());
+        tops.put("pollLastOrDefault", c -> ((IntStackCollection) c).pollLastOrDefault(-1));
+        tops.forEach((name, call) -> calls.put(name, c -> {
+            if (c instanceof IntStackCollection) {
+                call.accept(c);
+            } else {
+                throw new IllegalStateException("Метод отсутствует");
+            }
+        }));
+        return calls;
+    }
+
+    private static ByteBuffer record() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        new IntArray(new int[] {1, 2, 3}).writeTo(buffer);
+        return buffer;
+    }
+
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    private static void io(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static List<OffHeapIntArray> collections(Path directory, boolean filled) throws IOException {
+        List<OffHeapIntArray> result = new ArrayList<>();
+        result.add(new OffHeapIntArray(8));
+        result.add(new OffHeapIntStack(8));
+        result.add(new OffHeapIntQueue(8));
+        result.add(new OffHeapIntDeque(8));
+        result.add(new MappedIntArray(directory.resolve("mapped-" + (++files) + ".bin"), 8));
+
+        if (filled) {
+            for (OffHeapIntArray collection : result) {
+                for (int i = 0; i < 5; i++) {
+                    collection.add(i);
+                }
+                // кольцевое расположение у очередей
+                collection.remove(0);
+                collection.add(5);
+            }
+        }
+        return result;
+    }
+
+    private static void assertAllThrowAfterClose(Path directory, boolean filled) throws IOException {
+        List<String> silent = new ArrayList<>();
+
+        for (Map.Entry<String, Consumer<OffHeapIntArray>> call : accessors().entrySet()) {
+            for (OffHeapIntArray collection : collections(directory, filled)) {
+                collection.close();
+
+                try {
+                    call.getValue().accept(collection);
+                    silent.add(collection.getClass().getSimpleName() + "." + call.getKey());
+                } catch (IllegalStateException expected) {
+                    // закрытая коллекция
+                } catch (Throwable e) {
+                    silent.add(collection.getClass().getSimpleName() + "." + call.getKey() + " -> " + e);
+                }
+            }
+        }
+        assertTrue(silent.isEmpty(), "Без IllegalStateException после close(): " + silent);
+    }
+
+    @Test
+    void everyAccessAfterCloseThrows(@TempDir Path directory) throws IOException {
+        assertAllThrowAfterClose(directory, true);
+    }
+
+    @Test
+    void everyAccessAfterCloseOfEmptyCollectionThrows(@TempDir Path directory) throws IOException {
+        assertAllThrowAfterClose(directory, false);
+    }
+
+    @Test
+    void closeIsIdempotent() {
+        OffHeapIntQueue queue = new OffHeapIntQueue(new int[] {1, 2, 3});
+        queue.close();
+        queue.close();
+        assertTrue(queue.isClosed());
+        assertThrows(IllegalStateException.class, queue::sum);
+    }
+}
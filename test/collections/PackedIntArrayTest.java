@@ -0,0 +1,228 @@
+package collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PackedIntArrayTest {
+    /**
+     * Сравнение массива с ожидаемыми значениями всеми способами чтения
+     * */
+    private static void assertElements(int[] expected, PackedIntArray packed) {
+        assertEquals(expected.length, packed.getSize());
+        assertArrayEquals(expected, packed.toArray());
+        int sum = 0;
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], packed.getElement(i), "Индекс " + i);
+            assertEquals(expected[i], packed.getElement(i - expected.length), "Индекс " + (i - expected.length));
+            sum += expected[i];
+        }
+        assertEquals(sum, packed.sumOrDefault(0));
+
+        for (int value : expected) {
+            assertTrue(packed.contains(value));
+        }
+    }
+
+    /**
+     * Значения всех ширин: элементы шириной не кратной 64 пересекают границы слов
+     * */
+    @Test
+    void everyWidthReadsAndWritesAcrossWordBoundaries() {
+        Random random = new Random(1);
+
+        for (int width = 1; width <= Integer.SIZE; width++) {
+            int mask = (int) (-1L >>> (Long.SIZE - width));
+            int[] expected = new int[300];
+            PackedIntArray packed = new PackedIntArray(expected.length, width);
+
+            for (int i = 0; i < expected.length; i++) {
+                // чередование нулей и единиц во всех битах элемента
+                expected[i] = (i % 3 == 0) ? mask : (i % 3 == 1) ? 0 : random.nextInt() & mask;
+                packed.add(expected[i]);
+            }
+            assertEquals(width, packed.getBitWidth());
+            assertElements(expected, packed);
+
+            for (int i = 0; i < expected.length; i += 7) {
+                expected[i] = ~expected[i] & mask;
+                packed.setElement(i, expected[i]);
+            }
+            assertEquals(width, packed.getBitWidth());
+            assertElements(expected, packed);
+        }
+    }
+
+    @Test
+    void setElementKeepsNeighbours() {
+        PackedIntArray packed = new PackedIntArray(64, 7);
+        int[] expected = new int[64];
+
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = 0x7F;
+            packed.add(0x7F);
+        }
+
+        for (int i = 0; i < expected.length; i += 2) {
+            expected[i] = 0;
+            packed.setElement(i, 0);
+        }
+        assertElements(expected, packed);
+    }
+
+    @Test
+    void addWidensAndKeepsElements() {
+        PackedIntArray packed = new PackedIntArray(16, 1);
+        packed.add(1);
+        packed.add(0);
+        packed.add(1);
+        assertEquals(1, packed.getBitWidth());
+
+        packed.add(5);
+        assertEquals(3, packed.getBitWidth());
+        assertElements(new int[] {1, 0, 1, 5}, packed);
+
+        packed.add(1 << 20);
+        assertEquals(21, packed.getBitWidth());
+        assertElements(new int[] {1, 0, 1, 5, 1 << 20}, packed);
+
+        packed.add(Integer.MAX_VALUE);
+        assertEquals(31, packed.getBitWidth());
+
+        // отрицательное значение расширяет ширину до 32 бит
+        packed.add(-1);
+        assertEquals(Integer.SIZE, packed.getBitWidth());
+        assertElements(new int[] {1, 0, 1, 5, 1 << 20, Integer.MAX_VALUE, -1}, packed);
+    }
+
+    @Test
+    void setElementWidens() {
+        PackedIntArray packed = new PackedIntArray(100, 2);
+        int[] expected = new int[100];
+
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i & 3;
+            packed.add(expected[i]);
+        }
+        expected[50] = 1000;
+        packed.setElement(50, 1000);
+        assertEquals(10, packed.getBitWidth());
+        assertElements(expected, packed);
+
+        expected[99] = Integer.MIN_VALUE;
+        packed.setElement(-1, Integer.MIN_VALUE);
+        assertEquals(Integer.SIZE, packed.getBitWidth());
+        assertElements(expected, packed);
+    }
+
+    @Test
+    void containsAndSumAcrossChunks() {
+        PackedIntArray packed = new PackedIntArray(1000, 12);
+        int[] expected = new int[1000];
+
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (i * 37) & 0x7FF;
+            packed.add(expected[i]);
+        }
+        assertElements(expected, packed);
+        assertFalse(packed.contains(0xFFF));
+        // значение шире элемента отсутствует без просмотра
+        assertFalse(packed.contains(1 << 12));
+        assertFalse(packed.contains(-1));
+
+        packed.setElement(-1, 0xFFF);
+        assertTrue(packed.contains(0xFFF));
+    }
+
+    @Test
+    void sumOverflowsLikeInt() {
+        PackedIntArray packed = new PackedIntArray(600, 31);
+
+        for (int i = 0; i < 600; i++) {
+            packed.add(Integer.MAX_VALUE);
+        }
+        assertEquals(600 * Integer.MAX_VALUE, packed.sumOrDefault(0));
+        assertEquals(600 * Integer.MAX_VALUE, packed.sum());
+    }
+
+    @Test
+    void growthPolicy() {
+        PackedIntArray packed = new PackedIntArray(2);
+        packed.add(1);
+        packed.add(2);
+        assertThrows(ArrayStoreException.class, () -> packed.add(3));
+        assertFalse(packed.offer(3));
+
+        packed.setGrowthPolicy(GrowthPolicy.geometric(2));
+        int[] expected = new int[200];
+
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i;
+
+            if (i >= 2) {
+                assertTrue(packed.offer(i));
+            }
+        }
+        expected[0] = 1;
+        expected[1] = 2;
+        assertElements(expected, packed);
+        assertTrue(packed.getCapacity() >= expected.length);
+    }
+
+    @Test
+    void emptyAndClearedArray() {
+        PackedIntArray packed = new PackedIntArray(8, 5);
+        assertNull(packed.sum());
+        assertEquals(-1, packed.sumOrDefault(-1));
+        assertFalse(packed.contains(0));
+        assertThrows(NoSuchElementException.class, () -> packed.getElement(0));
+        assertThrows(NoSuchElementException.class, () -> packed.setElement(0, 1));
+
+        packed.add(17);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> packed.getElement(1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> packed.getElement(-2));
+
+        // ширина элемента сохраняется после очистки
+        packed.clear();
+        assertEquals(0, packed.getSize());
+        assertEquals(5, packed.getBitWidth());
+        assertArrayEquals(new int[0], packed.toArray());
+        packed.add(3);
+        assertElements(new int[] {3}, packed);
+    }
+
+    @Test
+    void randomOperationsMatchIntArray() {
+        Random random = new Random(2);
+
+        for (int round = 0; round < 200; round++) {
+            PackedIntArray packed = new PackedIntArray(random.nextInt(5), 1 + random.nextInt(8));
+            packed.setGrowthPolicy(GrowthPolicy.geometric(2));
+            IntArray array = new IntArray(4);
+            array.setGrowthPolicy(GrowthPolicy.geometric(2));
+
+            for (int op = random.nextInt(300); op > 0; op--) {
+                int value = (random.nextInt(20) == 0) ? -random.nextInt(1000) - 1 : random.nextInt(1 << random.nextInt(31));
+
+                if (array.getSize() == 0 || random.nextBoolean()) {
+                    packed.add(value);
+                    array.add(value);
+                } else {
+                    int index = random.nextInt(array.getSize());
+                    packed.setElement(index, value);
+                    array.setElement(index, value);
+                }
+            }
+            assertElements(array.intStream().toArray(), packed);
+        }
+    }
+}
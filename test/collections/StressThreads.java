@@ -0,0 +1,53 @@
+package collections;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Одновременный запуск потоков стресс-теста с передачей первой ошибки в поток теста.
+ * Ожидающие потоки уступают процессор ({@link Thread#yield()}), а не крутятся в цикле:
+ * на машине с одним-двумя ядрами ожидание через {@link Thread#onSpinWait()} съедает квант времени другой стороны
+ * */
+final class StressThreads {
+    // CONSTRUCTORS - конструкторы класса
+    /**
+     * Класс содержит только статические методы
+     * */
+    private StressThreads() {
+    }
+
+
+    // RUN - запуск потоков
+    /**
+     * Запуск задач в отдельных потоках (все задачи стартуют одновременно) и ожидание их завершения
+     * @param tasks Задачи потоков
+     * @exception AssertionError Первая ошибка или исключение, возникшие в задачах
+     * */
+    static void run(Runnable... tasks) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[tasks.length];
+
+        for (int i = 0; i < tasks.length; i++) {
+            Runnable task = tasks[i];
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }, "stress-" + i);
+            threads[i].start();
+        }
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        if (failure.get() != null) {
+            throw new AssertionError("Ошибка в потоке стресс-теста", failure.get());
+        }
+    }
+}